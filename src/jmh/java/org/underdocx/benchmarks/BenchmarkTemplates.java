@@ -0,0 +1,165 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.underdocx.doctypes.odf.AbstractOdfContainer;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic templates, generated in code so the benchmarks run without resources
+ */
+public class BenchmarkTemplates {
+
+    private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+    private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+
+    /**
+     * @return a text document containing a table with the given count of rows, each row consists of
+     * two cells with the texts of the given cell templates
+     */
+    public static OdtContainer createTableDocument(int rows, String firstCell, String secondCell) {
+        OdtContainer doc = new OdtContainer("");
+        Document dom = doc.getContentDom();
+        Node officeText = dom.getElementsByTagName("office:text").item(0);
+        Element table = dom.createElementNS(TABLE_NS, "table:table");
+        table.setAttributeNS(TABLE_NS, "table:name", "Table1");
+        Element columns = dom.createElementNS(TABLE_NS, "table:table-column");
+        columns.setAttributeNS(TABLE_NS, "table:number-columns-repeated", "2");
+        table.appendChild(columns);
+        for (int i = 0; i < rows; i++) {
+            Element row = dom.createElementNS(TABLE_NS, "table:table-row");
+            row.appendChild(createCell(dom, firstCell));
+            row.appendChild(createCell(dom, secondCell));
+            table.appendChild(row);
+        }
+        officeText.appendChild(table);
+        return doc;
+    }
+
+    /**
+     * @return a text document containing the given count of paragraphs with the given text
+     */
+    public static OdtContainer createParagraphDocument(int paragraphs, String content) {
+        OdtContainer doc = new OdtContainer("");
+        Document dom = doc.getContentDom();
+        Node officeText = dom.getElementsByTagName("office:text").item(0);
+        for (int i = 0; i < paragraphs; i++) {
+            Element paragraph = dom.createElementNS(TEXT_NS, "text:p");
+            paragraph.setTextContent(content);
+            officeText.appendChild(paragraph);
+        }
+        return doc;
+    }
+
+    /**
+     * @return a text document containing the given count of paragraphs with the given text, each character
+     * of the text is wrapped into a span of its own
+     */
+    public static OdtContainer createSpanParagraphDocument(int paragraphs, String content) {
+        OdtContainer doc = new OdtContainer("");
+        Document dom = doc.getContentDom();
+        Node officeText = dom.getElementsByTagName("office:text").item(0);
+        for (int i = 0; i < paragraphs; i++) {
+            Element paragraph = dom.createElementNS(TEXT_NS, "text:p");
+            for (int c = 0; c < content.length(); c++) {
+                Element span = dom.createElementNS(TEXT_NS, "text:span");
+                span.setTextContent(content.substring(c, c + 1));
+                paragraph.appendChild(span);
+            }
+            officeText.appendChild(paragraph);
+        }
+        return doc;
+    }
+
+    public static byte[] toBytes(AbstractOdfContainer<?> doc) {
+        try {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            doc.save(os);
+            return os.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class Item {
+        public final String name;
+        public final int value;
+        public final Item child;
+
+        public Item(String name, int value, Item child) {
+            this.name = name;
+            this.value = value;
+            this.child = child;
+        }
+    }
+
+    /**
+     * @return items named "item-[index]", each with a child named "child-[index]"
+     */
+    public static List<Item> createItems(int count) {
+        List<Item> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new Item("item-" + i, i, new Item("child-" + i, -i, null)));
+        }
+        return result;
+    }
+
+    /**
+     * @return the same structure as {@link #createItems(int)}, built of maps and lists
+     */
+    public static List<Object> createItemMaps(int count) {
+        List<Object> result = new ArrayList<>(count);
+        for (Item item : createItems(count)) {
+            Map<String, Object> child = new LinkedHashMap<>();
+            child.put("name", item.child.name);
+            child.put("value", item.child.value);
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", item.name);
+            map.put("value", item.value);
+            map.put("child", child);
+            result.add(map);
+        }
+        return result;
+    }
+
+    private static Element createCell(Document dom, String content) {
+        Element cell = dom.createElementNS(TABLE_NS, "table:table-cell");
+        Element paragraph = dom.createElementNS(TEXT_NS, "text:p");
+        paragraph.setTextContent(content);
+        cell.appendChild(paragraph);
+        return cell;
+    }
+}
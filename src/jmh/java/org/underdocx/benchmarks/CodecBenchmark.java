@@ -0,0 +1,62 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderCodec;
+import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and serializes a parameters placeholder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final String PLACEHOLDER = "${For *value:\"items\", $as:\"item\", comment:\"all items\", limit:100}";
+
+    private ParametersPlaceholderData data;
+
+    @Setup
+    public void setup() throws Exception {
+        data = ParametersPlaceholderCodec.INSTANCE.parse(PLACEHOLDER);
+    }
+
+    @Benchmark
+    public ParametersPlaceholderData parse() throws Exception {
+        return ParametersPlaceholderCodec.INSTANCE.parse(PLACEHOLDER);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return ParametersPlaceholderCodec.INSTANCE.getTextContent(data);
+    }
+}
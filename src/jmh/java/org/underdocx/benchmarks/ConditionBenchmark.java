@@ -0,0 +1,63 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.common.codec.JsonCodec;
+import org.underdocx.doctypes.commands.ifcondition.ConditionAttributeInterpreter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates an If condition the way IfCommandHandler does for each execution inside a loop
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ConditionBenchmark {
+
+    private static final String CONDITION = """
+            {"and": [{"$item.active": true}, {"not": {"$item.name": null}},
+                     {"or": [{"greater": {"$item.value": 10}}, {"$item.tags": []}]}]}
+            """;
+
+    private final ConditionAttributeInterpreter interpreter = new ConditionAttributeInterpreter();
+    private JsonNode attributes;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        attributes = new JsonCodec().parse(CONDITION);
+    }
+
+    @Benchmark
+    public boolean eval() {
+        return interpreter.interpretAttributes(attributes, pair -> pair.right instanceof Boolean ? 0 : 1);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.ReflectionDataNode;
+import org.underdocx.enginelayers.modelengine.datapath.DataPath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves a data path over a model built of maps and over the same model accessed by reflection
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataPathBenchmark {
+
+    private static final String PATH = "items[42].child.name";
+
+    @Param({"map", "reflection"})
+    public String model;
+
+    private DataNode<?> root;
+    private DataPath dataPath;
+
+    public static class Model {
+        public final Object items;
+
+        public Model(Object items) {
+            this.items = items;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        if (model.equals("map")) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("items", BenchmarkTemplates.createItemMaps(100));
+            root = new MapDataNode(map);
+        } else {
+            root = new ReflectionDataNode(new Model(BenchmarkTemplates.createItems(100)));
+        }
+        dataPath = new DataPath(PATH);
+    }
+
+    @Benchmark
+    public Optional<DataNode<?>> parseAndInterpret() {
+        return DataPath.interpret(PATH, root);
+    }
+
+    @Benchmark
+    public Optional<DataNode<?>> interpret() {
+        return dataPath.interpret(root);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.common.cache.DateTimeFormatterCache;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.odt.OdtEngine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats a date the way each Date placeholder did before formatters were shared, the way it is done now,
+ * and renders a document containing the given count of Date placeholders
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark {
+
+    private static final String IN_FORMAT = "yyyy-MM-dd";
+    private static final String OUT_FORMAT = "EEEE, dd. MMMM yyyy";
+    private static final String LANG = "de-DE";
+    private static final String VALUE = "2022-03-04";
+    private static final String PLACEHOLDER =
+            "${Date value:\"" + VALUE + "\", outputFormat:\"" + OUT_FORMAT + "\", lang:\"" + LANG + "\"}";
+
+    @State(Scope.Benchmark)
+    public static class Document {
+
+        @Param({"1000"})
+        public int placeholders;
+
+        private byte[] data;
+        private OdtContainer doc;
+
+        @Setup
+        public void setup() {
+            data = BenchmarkTemplates.toBytes(BenchmarkTemplates.createParagraphDocument(placeholders, PLACEHOLDER));
+        }
+
+        @Setup(Level.Invocation)
+        public void loadDocument() throws IOException {
+            doc = new OdtContainer(new ByteArrayInputStream(data));
+        }
+    }
+
+    @Benchmark
+    public String compileAndFormat() {
+        DateTimeFormatter outFormatter = DateTimeFormatter.ofPattern(OUT_FORMAT).withLocale(Locale.forLanguageTag(LANG));
+        DateTimeFormatter inFormatter = DateTimeFormatter.ofPattern(IN_FORMAT).withLocale(Locale.forLanguageTag(LANG));
+        return LocalDate.parse(VALUE, inFormatter).format(outFormatter);
+    }
+
+    @Benchmark
+    public String cachedFormat() {
+        DateTimeFormatter outFormatter = DateTimeFormatterCache.get(OUT_FORMAT, LANG);
+        DateTimeFormatter inFormatter = DateTimeFormatterCache.get(IN_FORMAT, LANG);
+        return DateTimeFormatterCache.parseDate(VALUE, inFormatter).format(outFormatter);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public OdtContainer render(Document document) {
+        new OdtEngine().run(document.doc);
+        return document.doc;
+    }
+}
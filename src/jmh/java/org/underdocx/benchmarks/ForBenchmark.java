@@ -0,0 +1,82 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.odt.OdtEngine;
+import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders a For loop over the given count of items, each item creates a paragraph
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ForBenchmark {
+
+    private static final String TEMPLATE = """
+            ${For *value:"items", $as:"item"}
+            ${$item.name}: ${$item.value} (${$item.child.name})
+            ${EndFor}
+            """;
+
+    @Param({"10", "1000", "10000"})
+    public int rows;
+
+    private byte[] data;
+    private MapDataNode model;
+    private OdtContainer doc;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkTemplates.toBytes(new OdtContainer(TEMPLATE));
+        Map<String, Object> map = new HashMap<>();
+        map.put("items", BenchmarkTemplates.createItemMaps(rows));
+        model = new MapDataNode(map);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadDocument() throws IOException {
+        doc = new OdtContainer(new ByteArrayInputStream(data));
+    }
+
+    @Benchmark
+    public OdtContainer render() {
+        OdtEngine engine = new OdtEngine();
+        engine.setModel(model);
+        engine.run(doc);
+        return doc;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.tools.importer.Importer;
+import org.underdocx.doctypes.odf.tools.importer.OdtImportRules;
+import org.w3c.dom.Node;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imports a text document of the given count of paragraphs into another one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImportBenchmark {
+
+    @Param({"1000"})
+    public int paragraphs;
+
+    private byte[] sourceData;
+    private byte[] targetData;
+    private OdtContainer source;
+    private OdtContainer target;
+    private Node refNode;
+
+    @Setup
+    public void setup() {
+        sourceData = BenchmarkTemplates.toBytes(BenchmarkTemplates.createParagraphDocument(paragraphs, "imported paragraph"));
+        targetData = BenchmarkTemplates.toBytes(new OdtContainer("before\nimport\nafter"));
+    }
+
+    @Setup(Level.Invocation)
+    public void loadDocuments() throws IOException {
+        source = new OdtContainer(new ByteArrayInputStream(sourceData));
+        target = new OdtContainer(new ByteArrayInputStream(targetData));
+        refNode = target.getContentDom().getElementsByTagName("text:p").item(1);
+    }
+
+    @Benchmark
+    public OdtContainer importDoc() {
+        new Importer(OdtImportRules.DEFAULT).importDoc("source", source, target, refNode);
+        return target;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads and saves a text document containing a table template
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadSaveBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private byte[] data;
+    private OdtContainer doc;
+
+    @Setup
+    public void setup() throws IOException {
+        data = BenchmarkTemplates.toBytes(BenchmarkTemplates.createTableDocument(rows, "${$row.name}", "${$row.value}"));
+        doc = new OdtContainer(new ByteArrayInputStream(data));
+    }
+
+    @Benchmark
+    public OdtContainer load() throws IOException {
+        return new OdtContainer(new ByteArrayInputStream(data));
+    }
+
+    @Benchmark
+    public int save() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(data.length);
+        doc.save(os);
+        return os.size();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.odftoolkit.odfdom.doc.OdfTextDocument;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.tools.placeholder.OdfDefaultPlaceholdersProviderFactory;
+import org.underdocx.enginelayers.baseengine.PlaceholdersProvider;
+import org.underdocx.enginelayers.baseengine.internal.PlaceholdersEnumerator;
+import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enumerates the placeholders of a table template like the engine does. At each step a new look-ahead clone
+ * replaces the oldest one and all live clones advance by one placeholder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookAheadBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"10"})
+    public int lookAheads;
+
+    private OdtContainer doc;
+    private Set<PlaceholdersProvider<OdtContainer, ?, OdfTextDocument>> providers;
+
+    @Setup
+    public void setup() {
+        doc = BenchmarkTemplates.createTableDocument(rows, "${$row.name}", "${$row.value}");
+        PlaceholdersProvider<OdtContainer, ParametersPlaceholderData, OdfTextDocument> provider =
+                new OdfDefaultPlaceholdersProviderFactory<OdtContainer, OdfTextDocument>().createProvider(doc);
+        providers = Set.of(provider);
+        // encapsulates all placeholders once, so that the measured iterations don't modify the document
+        provider.getPlaceholders(doc).forEach(node -> {
+        });
+    }
+
+    @Benchmark
+    public void enumerateWithLookAheads(Blackhole blackhole) {
+        Enumerator<Pair<PlaceholdersProvider<OdtContainer, ?, OdfTextDocument>, Node>> enumerator =
+                new PlaceholdersEnumerator<>(doc, providers).cache();
+        List<Enumerator<Pair<PlaceholdersProvider<OdtContainer, ?, OdfTextDocument>, Node>>> clones = new ArrayList<>();
+        int oldest = 0;
+        while (enumerator.hasNext()) {
+            blackhole.consume(enumerator.next());
+            if (clones.size() < lookAheads) {
+                clones.add(enumerator.cloneEnumerator());
+            } else {
+                clones.set(oldest, enumerator.cloneEnumerator());
+                oldest = (oldest + 1) % lookAheads;
+            }
+            for (Enumerator<Pair<PlaceholdersProvider<OdtContainer, ?, OdfTextDocument>, Node>> clone : clones) {
+                if (clone.hasNext()) {
+                    blackhole.consume(clone.next());
+                }
+            }
+        }
+    }
+}
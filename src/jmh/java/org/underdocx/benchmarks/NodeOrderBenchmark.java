@@ -0,0 +1,78 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.common.tree.DocumentOrderIndex;
+import org.underdocx.common.tree.Nodes;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares positions of paragraphs in the first and the last row of a 10k-row table
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeOrderBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private Node first;
+    private Node last;
+    private DocumentOrderIndex index;
+
+    @Setup
+    public void setup() {
+        OdtContainer doc = BenchmarkTemplates.createTableDocument(rows, "${$row.name}", "${$row.value}");
+        NodeList tableRows = doc.getContentDom().getElementsByTagName("table:table-row");
+        first = tableRows.item(0).getFirstChild().getFirstChild();
+        last = tableRows.item(tableRows.getLength() - 1).getLastChild().getFirstChild();
+        index = new DocumentOrderIndex();
+        index.compare(first, last);
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.release();
+    }
+
+    @Benchmark
+    public int compareNodePositions() {
+        return Nodes.compareNodePositions(first, last);
+    }
+
+    @Benchmark
+    public int documentOrderIndex() {
+        return index.compare(first, last);
+    }
+}
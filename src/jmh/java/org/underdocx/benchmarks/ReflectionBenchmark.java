@@ -0,0 +1,275 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.ReflectionDataNode;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads properties of a POJO with 50 getters through {@link ReflectionDataNode}, compared with a plain scan of
+ * getMethods() and Method.invoke as the data node did before accessors were cached
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionBenchmark {
+
+    @Param({"property00", "property49"})
+    public String property;
+
+    private final Pojo pojo = new Pojo();
+    private DataNode<?> node;
+
+    public static class Pojo {
+        public int getProperty00() {
+            return 0;
+        }
+
+        public int getProperty01() {
+            return 1;
+        }
+
+        public int getProperty02() {
+            return 2;
+        }
+
+        public int getProperty03() {
+            return 3;
+        }
+
+        public int getProperty04() {
+            return 4;
+        }
+
+        public int getProperty05() {
+            return 5;
+        }
+
+        public int getProperty06() {
+            return 6;
+        }
+
+        public int getProperty07() {
+            return 7;
+        }
+
+        public int getProperty08() {
+            return 8;
+        }
+
+        public int getProperty09() {
+            return 9;
+        }
+
+        public int getProperty10() {
+            return 10;
+        }
+
+        public int getProperty11() {
+            return 11;
+        }
+
+        public int getProperty12() {
+            return 12;
+        }
+
+        public int getProperty13() {
+            return 13;
+        }
+
+        public int getProperty14() {
+            return 14;
+        }
+
+        public int getProperty15() {
+            return 15;
+        }
+
+        public int getProperty16() {
+            return 16;
+        }
+
+        public int getProperty17() {
+            return 17;
+        }
+
+        public int getProperty18() {
+            return 18;
+        }
+
+        public int getProperty19() {
+            return 19;
+        }
+
+        public int getProperty20() {
+            return 20;
+        }
+
+        public int getProperty21() {
+            return 21;
+        }
+
+        public int getProperty22() {
+            return 22;
+        }
+
+        public int getProperty23() {
+            return 23;
+        }
+
+        public int getProperty24() {
+            return 24;
+        }
+
+        public int getProperty25() {
+            return 25;
+        }
+
+        public int getProperty26() {
+            return 26;
+        }
+
+        public int getProperty27() {
+            return 27;
+        }
+
+        public int getProperty28() {
+            return 28;
+        }
+
+        public int getProperty29() {
+            return 29;
+        }
+
+        public int getProperty30() {
+            return 30;
+        }
+
+        public int getProperty31() {
+            return 31;
+        }
+
+        public int getProperty32() {
+            return 32;
+        }
+
+        public int getProperty33() {
+            return 33;
+        }
+
+        public int getProperty34() {
+            return 34;
+        }
+
+        public int getProperty35() {
+            return 35;
+        }
+
+        public int getProperty36() {
+            return 36;
+        }
+
+        public int getProperty37() {
+            return 37;
+        }
+
+        public int getProperty38() {
+            return 38;
+        }
+
+        public int getProperty39() {
+            return 39;
+        }
+
+        public int getProperty40() {
+            return 40;
+        }
+
+        public int getProperty41() {
+            return 41;
+        }
+
+        public int getProperty42() {
+            return 42;
+        }
+
+        public int getProperty43() {
+            return 43;
+        }
+
+        public int getProperty44() {
+            return 44;
+        }
+
+        public int getProperty45() {
+            return 45;
+        }
+
+        public int getProperty46() {
+            return 46;
+        }
+
+        public int getProperty47() {
+            return 47;
+        }
+
+        public int getProperty48() {
+            return 48;
+        }
+
+        public int getProperty49() {
+            return 49;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        node = new ReflectionDataNode(pojo);
+    }
+
+    @Benchmark
+    public Object dataNode() {
+        return node.getProperty(property).getValue();
+    }
+
+    @Benchmark
+    public Object methodScan() throws Exception {
+        for (Method method : pojo.getClass().getMethods()) {
+            if ((method.getName().equalsIgnoreCase(property) || method.getName().equalsIgnoreCase("get" + property)
+                    || method.getName().equalsIgnoreCase("is" + property)) && method.getParameterTypes().length == 0) {
+                method.setAccessible(true);
+                return method.invoke(pojo);
+            }
+        }
+        return null;
+    }
+}
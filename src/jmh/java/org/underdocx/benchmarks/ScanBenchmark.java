@@ -0,0 +1,83 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.placeholder.basic.extraction.PartialExtractor;
+import org.underdocx.common.placeholder.basic.textnodeinterpreter.OdfTextNodeInterpreter;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.enginelayers.parameterengine.ParametersDetector;
+import org.w3c.dom.Node;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects and encapsulates all placeholders of a freshly loaded table template, or of paragraphs in which each
+ * character of a placeholder is wrapped into a span of its own
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScanBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"table", "spans"})
+    public String layout;
+
+    private byte[] data;
+    private OdtContainer doc;
+    private final PartialExtractor extractor = new PartialExtractor(ParametersDetector.INSTANCE, OdfTextNodeInterpreter.INSTANCE);
+
+    @Setup
+    public void setup() {
+        data = BenchmarkTemplates.toBytes(layout.equals("table")
+                ? BenchmarkTemplates.createTableDocument(rows, "${$row.name}", "${Number *value:\"row.value\", format:\"#0.00\"}")
+                : BenchmarkTemplates.createSpanParagraphDocument(rows, "Value: ${Number *value:\"row.value\", format:\"#0.00\"} EUR"));
+    }
+
+    @Setup(Level.Invocation)
+    public void loadDocument() throws IOException {
+        doc = new OdtContainer(new ByteArrayInputStream(data));
+    }
+
+    @Benchmark
+    public int scan() {
+        int count = 0;
+        Enumerator<Node> placeholders = extractor.extractNodes(doc.getContentRoot(), null);
+        while (placeholders.hasNext()) {
+            placeholders.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.underdocx.common.tree.SimpleTreeWalker;
+import org.underdocx.common.tree.TreeCursor;
+import org.underdocx.common.tree.TreeWalker;
+import org.w3c.dom.Node;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Visits all nodes of a table document, the default count of rows results in a content.xml of about 50 MB
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TreeWalkBenchmark {
+
+    @Param({"300000"})
+    public int rows;
+
+    private Node root;
+
+    @Setup
+    public void setup() {
+        root = BenchmarkTemplates.createTableDocument(rows, "${$row.name}", "${$row.value}").getContentRoot();
+    }
+
+    @Benchmark
+    public int treeWalker() {
+        int count = 0;
+        TreeWalker walker = new TreeWalker(root, root);
+        while (walker.hasNext()) {
+            if (walker.next().isBeginVisit()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int treeCursor() {
+        int count = 0;
+        TreeCursor cursor = new TreeCursor(root, root);
+        while (cursor.next()) {
+            if (cursor.isBeginVisit()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int simpleTreeWalker() {
+        int count = 0;
+        SimpleTreeWalker walker = new SimpleTreeWalker(root, root, null);
+        while (walker.hasNext()) {
+            walker.next();
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Concurrent cache bounded by entry count and optionally by weight, with least recently used eviction and
+ * an optional time to live per entry. Lookups don't lock. Concurrent misses of the same key in
+ * {@link #get(Object, Function)} run the loader only once, the other callers wait for its result.
+ * Every cache built by {@link Builder} is listed in {@link Caches}, where bounds can be tuned and
+ * statistics read at runtime.
+ */
+public class Cache<K, V> {
+
+    private static class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long created;
+        private volatile long lastAccess;
+
+        private Entry(V value, long weight, long created, long lastAccess) {
+            this.value = value;
+            this.weight = weight;
+            this.created = created;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private record Candidate<V>(Object key, Entry<V> entry, long lastAccess) {
+    }
+
+    private final String name;
+    private final ToLongFunction<? super V> weigher;
+    private volatile int maxSize;
+    private volatile long maxWeight;
+    private volatile long timeToLive;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong weight = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private Cache(Builder<K, V> builder) {
+        this.name = builder.name;
+        this.maxSize = builder.maxSize;
+        this.maxWeight = builder.maxWeight;
+        this.weigher = builder.weigher;
+        this.timeToLive = builder.timeToLive;
+    }
+
+    public static <K, V> Builder<K, V> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the cached value or null if it is missing or expired
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && timeToLive > 0 && isExpired(entry, System.nanoTime())) {
+            if (remove(key, entry)) {
+                expirations.increment();
+            }
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // an entry that is already the most recent one doesn't need a new stamp
+        if (entry.lastAccess != clock.get()) {
+            entry.lastAccess = clock.incrementAndGet();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached value or loads, caches and returns it. A null result of the loader is not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V result = get(key);
+        if (result != null) {
+            return result;
+        }
+        CompletableFuture<V> ownLoad = new CompletableFuture<>();
+        CompletableFuture<V> runningLoad = loading.putIfAbsent(key, ownLoad);
+        if (runningLoad != null) {
+            return await(runningLoad);
+        }
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !isExpired(entry, System.nanoTime())) {
+                result = entry.value;
+            } else {
+                result = loader.apply(key);
+                loads.increment();
+                if (result != null) {
+                    put(key, result);
+                }
+            }
+            ownLoad.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            ownLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, ownLoad);
+        }
+    }
+
+    public void put(K key, V value) {
+        long entryWeight = weigher == null ? 1 : weigher.applyAsLong(value);
+        Entry<V> old = entries.put(key, new Entry<>(value, entryWeight, System.nanoTime(), clock.incrementAndGet()));
+        weight.addAndGet(old == null ? entryWeight : entryWeight - old.weight);
+        if (entries.size() > maxSize || weight.get() > maxWeight) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            remove(key, entry);
+        }
+    }
+
+    public void clear() {
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        evict();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+        evict();
+    }
+
+    /**
+     * @param timeToLive time after which an entry expires, 0 for no expiry
+     */
+    public void setTimeToLive(long timeToLive, TimeUnit unit) {
+        this.timeToLive = unit.toNanos(timeToLive);
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), loads.sum(), evictions.sum(), expirations.sum(),
+                entries.size(), weight.get());
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        long ttl = timeToLive;
+        return ttl > 0 && now - entry.created > ttl;
+    }
+
+    private boolean remove(K key, Entry<V> entry) {
+        if (entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+    With batch, the limits are lowered by an eighth, so that not every following put needs to evict again
+     */
+    private boolean isOverLimit(boolean batch) {
+        int sizeLimit = batch ? Math.max(1, maxSize - maxSize / 8) : maxSize;
+        long weightLimit = batch ? maxWeight - maxWeight / 8 : maxWeight;
+        return entries.size() > sizeLimit || (weight.get() > weightLimit && entries.size() > 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evict() {
+        if (!isOverLimit(false) || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // access stamps are copied first, concurrent reads must not change the order while sorting
+            List<Candidate<V>> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> candidates.add(new Candidate<>(key, entry, entry.lastAccess)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            // a batch is removed, so that not every following put needs to sort again
+            long now = System.nanoTime();
+            for (int i = 0; i < candidates.size() && isOverLimit(true); i++) {
+                Candidate<V> candidate = candidates.get(i);
+                if (candidate.entry.lastAccess == candidate.lastAccess && remove((K) candidate.key, candidate.entry)) {
+                    if (isExpired(candidate.entry, now)) {
+                        expirations.increment();
+                    } else {
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public static class Builder<K, V> {
+        private final String name;
+        private int maxSize = 1024;
+        private long maxWeight = Long.MAX_VALUE;
+        private ToLongFunction<? super V> weigher = null;
+        private long timeToLive = 0;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder<K, V> maxSize(int maxSize) {
+            this.maxSize = Math.max(1, maxSize);
+            return this;
+        }
+
+        /**
+         * Limits the sum of the weights of all entries, the most recent entry is kept even if it exceeds the limit
+         */
+        public Builder<K, V> maxWeight(long maxWeight, ToLongFunction<? super V> weigher) {
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<K, V> timeToLive(long timeToLive, TimeUnit unit) {
+            this.timeToLive = unit.toNanos(timeToLive);
+            return this;
+        }
+
+        public Cache<K, V> build() {
+            Cache<K, V> cache = new Cache<>(this);
+            Caches.register(cache);
+            return cache;
+        }
+    }
+}
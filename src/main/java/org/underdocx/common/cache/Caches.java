@@ -0,0 +1,61 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.cache;
+
+import java.util.*;
+
+/**
+ * Registry of all {@link Cache} instances, e.g. to adjust their bounds or to collect statistics.
+ * Caches are held weakly, caches that are no longer in use disappear from the registry.
+ */
+public class Caches {
+
+    private static final Map<Cache<?, ?>, Boolean> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private Caches() {
+    }
+
+    static void register(Cache<?, ?> cache) {
+        caches.put(cache, Boolean.TRUE);
+    }
+
+    public static List<Cache<?, ?>> getAll() {
+        synchronized (caches) {
+            return new ArrayList<>(caches.keySet());
+        }
+    }
+
+    public static Optional<Cache<?, ?>> get(String name) {
+        return getAll().stream().filter(cache -> Objects.equals(cache.getName(), name)).findFirst();
+    }
+
+    public static List<CacheStats> getStats() {
+        return getAll().stream().map(Cache::getStats).toList();
+    }
+
+    public static void clearAll() {
+        getAll().forEach(Cache::clear);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.cache;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+
+/**
+ * Shares compiled {@link DateTimeFormatter}s per pattern and language tag, and the results of parsing the same
+ * input again. Formatters and the parsed values are immutable, so both can be shared between threads.
+ */
+public class DateTimeFormatterCache {
+
+    private record FormatterKey(String pattern, Object lang) {
+    }
+
+    private record ParsedKey(DateTimeFormatter formatter, String text) {
+    }
+
+    private static final Cache<FormatterKey, DateTimeFormatter> formatters =
+            Cache.<FormatterKey, DateTimeFormatter>builder("dateTimeFormatters").maxSize(256).build();
+    private static final Cache<ParsedKey, LocalDate> parsedDates =
+            Cache.<ParsedKey, LocalDate>builder("parsedDates").maxSize(4096).build();
+    private static final Cache<ParsedKey, LocalDateTime> parsedDateTimes =
+            Cache.<ParsedKey, LocalDateTime>builder("parsedDateTimes").maxSize(4096).build();
+
+    private DateTimeFormatterCache() {
+    }
+
+    /**
+     * @param langCode IETF language tag, null for the default locale
+     */
+    public static DateTimeFormatter get(String pattern, String langCode) {
+        // the default locale may change, so it is part of the key
+        Object langKey = langCode == null ? Locale.getDefault(Locale.Category.FORMAT) : langCode;
+        return formatters.get(new FormatterKey(pattern, langKey), key -> langCode == null
+                ? DateTimeFormatter.ofPattern(pattern)
+                : DateTimeFormatter.ofPattern(pattern).withLocale(Locale.forLanguageTag(langCode)));
+    }
+
+    public static LocalDate parseDate(String text, DateTimeFormatter formatter) {
+        return parse(parsedDates, text, formatter, LocalDate::from);
+    }
+
+    public static LocalDateTime parseDateTime(String text, DateTimeFormatter formatter) {
+        return parse(parsedDateTimes, text, formatter, LocalDateTime::from);
+    }
+
+    private static <T> T parse(Cache<ParsedKey, T> cache, String text, DateTimeFormatter formatter, TemporalQuery<T> query) {
+        return cache.get(new ParsedKey(formatter, text), key -> formatter.parse(text, query));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.cache;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reuses {@link DecimalFormat} instances per pattern and language tag. {@link DecimalFormat} isn't thread-safe,
+ * so each thread has its own instances. Callers must not change the returned format.
+ */
+public class DecimalFormatCache {
+
+    private static final int MAX_PATTERNS = 256;
+
+    private static final ThreadLocal<Map<String, Map<Object, DecimalFormat>>> formats =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private DecimalFormatCache() {
+    }
+
+    /**
+     * @param langCode IETF language tag, null for the default locale
+     */
+    public static DecimalFormat get(String pattern, String langCode) {
+        Map<String, Map<Object, DecimalFormat>> patterns = formats.get();
+        Map<Object, DecimalFormat> byLang = patterns.get(pattern);
+        if (byLang == null) {
+            if (patterns.size() >= MAX_PATTERNS) {
+                patterns.clear();
+            }
+            byLang = new HashMap<>();
+            patterns.put(pattern, byLang);
+        }
+        // the default locale may change, so it is part of the key
+        Object langKey = langCode == null ? Locale.getDefault() : langCode;
+        DecimalFormat result = byLang.get(langKey);
+        if (result == null) {
+            Locale locale = langCode == null ? Locale.getDefault() : Locale.forLanguageTag(langCode);
+            result = new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+            byLang.put(langKey, result);
+        }
+        return result;
+    }
+}
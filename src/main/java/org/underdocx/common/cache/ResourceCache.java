@@ -0,0 +1,92 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.cache;
+
+import org.underdocx.common.tools.StringHash;
+import org.underdocx.common.types.Resource;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Shared cache of resource data and of one template parsed from it. Entries are keyed by the resource identifier
+ * and a hash of the data, so changed content results in a new entry. The least recently used entries are removed
+ * if the count of entries or the sum of their data exceeds the limits.
+ */
+public class ResourceCache {
+
+    public static final ResourceCache INSTANCE = new ResourceCache(32, 32L * 1024 * 1024);
+
+    private final Cache<String, Entry> entries;
+
+    public ResourceCache(int maxEntries, long maxBytes) {
+        this.entries = Cache.<String, Entry>builder("resources")
+                .maxSize(maxEntries)
+                .maxWeight(maxBytes, entry -> entry.data.length)
+                .build();
+    }
+
+    public Entry get(Resource resource) throws IOException {
+        byte[] data = resource.getData();
+        String key = resource.getIdentifier() + "#" + StringHash.createStringHash128(data);
+        return entries.get(key, k -> new Entry(data));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public static class Entry {
+        private final byte[] data;
+        private Object template;
+
+        private Entry(byte[] data) {
+            this.data = data;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * Parses the template from the data on first request and copies it. The copier gets the shared template
+         * under the lock of this entry, since DOM implementations aren't thread-safe even for reading.
+         *
+         * @return the copy, the shared template itself must not escape or be modified
+         */
+        @SuppressWarnings("unchecked")
+        public synchronized <T, R> R copyTemplate(Callable<T> parser, Function<T, R> copier) throws Exception {
+            if (template == null) {
+                template = parser.call();
+            }
+            return copier.apply((T) template);
+        }
+    }
+}
@@ -140,8 +140,8 @@ public class UnderdocxEngineRunner {
         }
 
         private void loadData(String file) {
-            try {
-                engine.importData(new FileInputStream(file));
+            try (FileInputStream is = new FileInputStream(file)) {
+                engine.importData(is);
             } catch (IOException e) {
                 throw new RuntimeException("Can't load json data file", e);
             }
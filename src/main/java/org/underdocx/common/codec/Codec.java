@@ -34,7 +34,7 @@ public interface Codec<P> {
         try {
             return Optional.ofNullable(parse(string));
         } catch (Exception e) {
-            UnderdocxEnv.getInstance().logger.info("can not parse: " + string);
+            UnderdocxEnv.getInstance().logger.info(() -> "can not parse: " + string);
             return Optional.empty();
         }
     }
@@ -42,37 +42,36 @@ public class XMLCodec implements Codec<Document> {
 
     public static final XMLCodec DEFAULT = new XMLCodec();
 
-    private static final DocumentBuilder builder;
-
-    private static final TransformerFactory transformerFactory;
-    private static final Transformer transformer;
-    private static final StringWriter stringWriter;
-
+    // DocumentBuilder and Transformer are not thread-safe, so each thread gets its own
+    private static final ThreadLocal<DocumentBuilder> builder = ThreadLocal.withInitial(() -> {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new RuntimeException(e);
+        }
+    });
 
-    static {
+    private static final ThreadLocal<Transformer> transformer = ThreadLocal.withInitial(() -> {
         try {
-            transformerFactory = TransformerFactory.newInstance();
-            transformer = transformerFactory.newTransformer();
-            stringWriter = new StringWriter();
-            builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-        } catch (ParserConfigurationException | TransformerConfigurationException e) {
+            return TransformerFactory.newInstance().newTransformer();
+        } catch (TransformerConfigurationException e) {
             throw new RuntimeException(e);
         }
-    }
+    });
 
     @Override
     public Document parse(String xml) throws Exception {
         InputSource is = new InputSource(new StringReader(xml));
-        Document doc = builder.parse(is);
+        Document doc = builder.get().parse(is);
         return doc;
     }
 
     @Override
     public String getTextContent(Document document) {
         try {
-            transformer.transform(new DOMSource(document), new StreamResult(stringWriter));
-            String result = stringWriter.toString();
-            return result;
+            StringWriter stringWriter = new StringWriter();
+            transformer.get().transform(new DOMSource(document), new StreamResult(stringWriter));
+            return stringWriter.toString();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
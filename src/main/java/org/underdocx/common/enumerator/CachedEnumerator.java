@@ -24,16 +24,19 @@ SOFTWARE.
 
 package org.underdocx.common.enumerator;
 
-import java.util.IdentityHashMap;
-import java.util.LinkedList;
-import java.util.Map;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
 
 public class CachedEnumerator<T> implements Enumerator<T> {
 
     private final CachedEnumeratorCore<T> core;
+    private final Cursor cursor;
 
-    private CachedEnumerator(CachedEnumeratorCore<T> core) {
+    private CachedEnumerator(CachedEnumeratorCore<T> core, int position) {
         this.core = core;
+        this.cursor = new Cursor(position);
     }
 
     public static <T> CachedEnumerator<T> createCachedEnumerator(Enumerator<T> inner) {
@@ -56,82 +59,149 @@ public class CachedEnumerator<T> implements Enumerator<T> {
         return core.cloneClient(this);
     }
 
+    private static class Cursor {
+        private int position;
+
+        private Cursor(int position) {
+            this.position = position;
+        }
+    }
+
+    /*
+    Clients are only weakly referenced, abandoned clones (e.g. of look-aheads) release their position when
+    they are garbage collected. The cursor outlives its client so that its position can still be released.
+     */
+    private static class ClientReference<T> extends WeakReference<CachedEnumerator<T>> {
+        private final Cursor cursor;
+
+        private ClientReference(CachedEnumerator<T> client, ReferenceQueue<CachedEnumerator<T>> queue) {
+            super(client, queue);
+            this.cursor = client.cursor;
+        }
+    }
+
+    /*
+    Ring buffer of the items between the lowest client position and the highest one. For each buffered
+    item the number of clients positioned at it is counted, clients at the position behind the buffer are
+    pending until the item gets fetched. Items are dropped as soon as no client is positioned at the first
+    buffered item.
+     */
     private static class CachedEnumeratorCore<T> {
 
-        private final LinkedList<T> cache;
         private final Enumerator<T> inner;
-        private int offset;
-        private final Map<CachedEnumerator<T>, Integer> clients = new IdentityHashMap<>();
+        private final ReferenceQueue<CachedEnumerator<T>> collectedClients = new ReferenceQueue<>();
+        private final Set<ClientReference<T>> clients = new HashSet<>();
+        private Object[] items = new Object[16];
+        private int[] counts = new int[16];
+        private int head = 0;
+        private int size = 0;
+        private int offset = 0;
+        private int pending = 0;
 
         protected CachedEnumeratorCore(Enumerator<T> inner) {
             this.inner = inner;
-            this.offset = 0;
-            this.cache = new LinkedList<>();
         }
 
-        private CachedEnumerator<T> cloneClient(CachedEnumerator<T> client) {
-            CachedEnumerator<T> result = new CachedEnumerator<>(this);
-            int clientIndex = clients.get(client);
-            clients.put(result, clientIndex);
+        private CachedEnumerator<T> addClient(int position) {
+            CachedEnumerator<T> result = new CachedEnumerator<>(this, position);
+            clients.add(new ClientReference<>(result, collectedClients));
+            increment(position);
             return result;
         }
 
+        private CachedEnumerator<T> cloneClient(CachedEnumerator<T> client) {
+            releaseCollectedClients();
+            return addClient(client.cursor.position);
+        }
+
         private CachedEnumerator<T> createFirstClient() {
-            CachedEnumerator<T> result = new CachedEnumerator<>(this);
-            clients.put(result, 0);
-            return result;
+            return addClient(0);
         }
 
         private T next(CachedEnumerator<T> client) {
-            int currentIndex = clients.get(client);
+            int currentIndex = client.cursor.position;
             T result = getItem(currentIndex);
-            clients.put(client, currentIndex + 1);
+            decrement(currentIndex);
+            client.cursor.position = currentIndex + 1;
+            getItem(currentIndex + 1);
+            increment(currentIndex + 1);
+            releaseCollectedClients();
             trim();
             return result;
         }
 
-        private void trim() {
-            int min = Integer.MAX_VALUE;
-            int max = 0;
-            for (int value : clients.values()) {
-                if (value < min) {
-                    min = value;
-                }
-                if (value > max) {
-                    max = value;
-                }
+        private boolean hasNext(CachedEnumerator<T> client) {
+            return getItem(client.cursor.position) != null;
+        }
+
+        private int slot(int index) {
+            return (head + index - offset) & (items.length - 1);
+        }
+
+        private void increment(int index) {
+            if (index == offset + size) {
+                pending++;
+            } else {
+                counts[slot(index)]++;
             }
-            int realMin = min - offset;
-            int realMax = max - offset;
-            while (realMax >= cache.size()) {
-                if (inner.hasNext()) {
-                    cache.add(inner.next());
-                } else {
-                    cache.add(null);
+        }
+
+        private void decrement(int index) {
+            if (index == offset + size) {
+                pending--;
+            } else {
+                counts[slot(index)]--;
+            }
+        }
+
+        private void releaseCollectedClients() {
+            ClientReference<?> reference;
+            while ((reference = (ClientReference<?>) collectedClients.poll()) != null) {
+                if (clients.remove(reference)) {
+                    decrement(reference.cursor.position);
                 }
             }
-            for (int i = 0; i < realMin; i++) {
-                cache.remove(0);
+        }
+
+        private void trim() {
+            while (size > 0 && counts[head] == 0) {
+                items[head] = null;
+                head = (head + 1) & (items.length - 1);
+                size--;
+                offset++;
             }
-            offset = offset + realMin;
         }
 
+        @SuppressWarnings("unchecked")
         private T getItem(int currentIndex) {
-            int realIndex = currentIndex - offset;
-            while (realIndex >= cache.size()) {
-                if (inner.hasNext()) {
-                    cache.add(inner.next());
-                } else {
-                    cache.add(null);
-                }
+            while (currentIndex >= offset + size) {
+                fetch();
             }
-            return cache.get(realIndex);
+            return (T) items[slot(currentIndex)];
         }
 
-        private boolean hasNext(CachedEnumerator<T> client) {
-            int currentIndex = clients.get(client);
-            T result = getItem(currentIndex);
-            return result != null;
+        private void fetch() {
+            if (size == items.length) {
+                grow();
+            }
+            int slot = (head + size) & (items.length - 1);
+            items[slot] = inner.hasNext() ? inner.next() : null;
+            counts[slot] = pending;
+            pending = 0;
+            size++;
+        }
+
+        private void grow() {
+            Object[] newItems = new Object[items.length * 2];
+            int[] newCounts = new int[counts.length * 2];
+            for (int i = 0; i < size; i++) {
+                int slot = (head + i) & (items.length - 1);
+                newItems[i] = items[slot];
+                newCounts[i] = counts[slot];
+            }
+            items = newItems;
+            counts = newCounts;
+            head = 0;
         }
     }
 }
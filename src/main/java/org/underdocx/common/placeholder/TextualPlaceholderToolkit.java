@@ -25,6 +25,7 @@ SOFTWARE.
 package org.underdocx.common.placeholder;
 
 import org.underdocx.common.codec.Codec;
+import org.underdocx.common.codec.CopyableCodec;
 import org.underdocx.common.enumerator.Enumerator;
 import org.underdocx.common.tools.Convenience;
 import org.underdocx.common.tree.Nodes;
@@ -33,8 +34,12 @@ import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Node;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.underdocx.common.tools.Convenience.also;
 
@@ -42,9 +47,18 @@ public class TextualPlaceholderToolkit<P> {
     private final EncapsulatedNodesExtractor extractor;
     private final Codec<P> codec;
 
+    /*
+     * Parsed placeholders by text content, only used for codecs that can copy their results, since callers
+     * modify the data they receive. A changed placeholder node has a different text and so a different key.
+     */
+    private final CopyableCodec<P> copyableCodec;
+    private final Map<String, P> parsed = new HashMap<>();
+    private final Set<String> unparsable = new HashSet<>();
+
     public TextualPlaceholderToolkit(EncapsulatedNodesExtractor extractor, Codec<P> codec) {
         this.codec = codec;
         this.extractor = extractor;
+        this.copyableCodec = codec instanceof CopyableCodec<P> copyable ? copyable : null;
     }
 
     public Enumerator<Node> extractPlaceholders(Node tree, Node firstValidNodeOrNull) {
@@ -64,7 +78,22 @@ public class TextualPlaceholderToolkit<P> {
     }
 
     public P parsePlaceholder(String content) {
-        return Problems.PLACEHOLDER_PARSE_ERROR.exec(() -> codec.parse(content), null, content);
+        return Problems.PLACEHOLDER_PARSE_ERROR.exec(() -> parse(content), null, content);
+    }
+
+    private P parse(String content) throws Exception {
+        if (copyableCodec == null || content == null) {
+            return codec.parse(content);
+        }
+        P result = parsed.get(content);
+        if (result == null) {
+            result = codec.parse(content);
+            if (result == null) {
+                return null;
+            }
+            parsed.put(content, result);
+        }
+        return copyableCodec.copy(result);
     }
 
     public P parsePlaceholder(Node placeholder) {
@@ -72,7 +101,23 @@ public class TextualPlaceholderToolkit<P> {
     }
 
     public Optional<P> tryParsePlaceholder(String content) {
-        return codec.tryParse(content);
+        if (copyableCodec == null || content == null) {
+            return codec.tryParse(content);
+        }
+        P result = parsed.get(content);
+        if (result == null) {
+            if (unparsable.contains(content)) {
+                return Optional.empty();
+            }
+            Optional<P> parseResult = codec.tryParse(content);
+            if (parseResult.isEmpty()) {
+                unparsable.add(content);
+                return parseResult;
+            }
+            result = parseResult.get();
+            parsed.put(content, result);
+        }
+        return Optional.of(copyableCodec.copy(result));
     }
 
     public Optional<P> tryParsePlaceholder(Node placeholder) {
@@ -0,0 +1,84 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.placeholder.basic.detection;
+
+import org.underdocx.common.tree.nodepath.TextNodePath;
+
+/**
+ * A {@link TextDetector} for placeholders that begin with a fixed prefix and end with the first following
+ * occurrence of a fixed suffix within the same line, e.g. "#!...!#". Delimiters and line terminators are found
+ * in a single pass by a {@link DelimiterAutomaton}.
+ */
+public class DelimitedTextDetector implements TextDetector {
+
+    private static final int PREFIX = 0;
+    private static final int SUFFIX = 1;
+    private static final String[] LINE_TERMINATORS = {"\n", "\r", "\u0085", "\u2028", "\u2029"};
+
+    private final DelimiterAutomaton automaton;
+    private final int prefixLength;
+
+    public DelimitedTextDetector(String prefix, String suffix) {
+        String[] delimiters = new String[LINE_TERMINATORS.length + 2];
+        delimiters[PREFIX] = prefix;
+        delimiters[SUFFIX] = suffix;
+        System.arraycopy(LINE_TERMINATORS, 0, delimiters, 2, LINE_TERMINATORS.length);
+        this.automaton = new DelimiterAutomaton(delimiters);
+        this.prefixLength = prefix.length();
+    }
+
+    @Override
+    public TextDetectionResult detect(TextNodePath path) {
+        String text = path.fetchTextContent();
+        if (text == null) {
+            return new TextDetectionResult(TextDetectionResult.TextDetectionResultType.NO_DETECTION, null);
+        }
+        int[] range = {-1, -1};
+        int state = automaton.scan(text, (delimiter, begin, end) -> {
+            if (range[0] < 0) {
+                if (delimiter == PREFIX) {
+                    range[0] = begin;
+                }
+            } else if (delimiter == SUFFIX && begin >= range[0] + prefixLength) {
+                range[1] = end;
+                return false;
+            } else if (delimiter > SUFFIX) {
+                range[0] = -1;
+            }
+            return true;
+        });
+        if (range[1] >= 0) {
+            return new TextDetectionResult(TextDetectionResult.TextDetectionResultType.CONTAINS_TEXT,
+                    new TextDetectionResult.TextArea(
+                            path,
+                            new TextNodePath.TextRange(path.getTextPointer(range[0]), path.getTextPointer(range[1])),
+                            path.getTextNodeInterpreter()));
+        }
+        if (range[0] >= 0 || automaton.getPendingLength(state, PREFIX) > 0) {
+            return new TextDetectionResult(TextDetectionResult.TextDetectionResultType.CONTAINS_START, null);
+        }
+        return new TextDetectionResult(TextDetectionResult.TextDetectionResultType.NO_DETECTION, null);
+    }
+}
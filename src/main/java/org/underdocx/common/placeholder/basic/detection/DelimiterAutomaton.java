@@ -0,0 +1,176 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.placeholder.basic.detection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over a fixed set of delimiters. It finds all occurrences of all delimiters in a single
+ * pass over a text, the cost per character doesn't depend on the number of delimiters.
+ * The automaton is immutable and can be shared between threads.
+ */
+public class DelimiterAutomaton {
+
+    public interface MatchListener {
+
+        /**
+         * @param delimiter index of the matched delimiter
+         * @param begin     index of the first character of the match
+         * @param end       index of the last character of the match
+         * @return false to stop scanning
+         */
+        boolean onMatch(int delimiter, int begin, int end);
+    }
+
+    private final String[] delimiters;
+    private final List<char[]> keys = new ArrayList<>();
+    private final List<int[]> targets = new ArrayList<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private int[] fail;
+    private int[][] outputs;
+
+    public DelimiterAutomaton(String... delimiters) {
+        this.delimiters = delimiters.clone();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        addState("", stateOutputs);
+        for (int i = 0; i < delimiters.length; i++) {
+            int state = 0;
+            String delimiter = delimiters[i];
+            for (int j = 0; j < delimiter.length(); j++) {
+                int next = transition(state, delimiter.charAt(j));
+                if (next < 0) {
+                    next = addState(delimiter.substring(0, j + 1), stateOutputs);
+                    addTransition(state, delimiter.charAt(j), next);
+                }
+                state = next;
+            }
+            stateOutputs.get(state).add(i);
+        }
+        buildFailureLinks(stateOutputs);
+    }
+
+    private int addState(String prefix, List<List<Integer>> stateOutputs) {
+        keys.add(new char[0]);
+        targets.add(new int[0]);
+        prefixes.add(prefix);
+        stateOutputs.add(new ArrayList<>());
+        return prefixes.size() - 1;
+    }
+
+    private void addTransition(int state, char c, int target) {
+        char[] stateKeys = Arrays.copyOf(keys.get(state), keys.get(state).length + 1);
+        int[] stateTargets = Arrays.copyOf(targets.get(state), targets.get(state).length + 1);
+        stateKeys[stateKeys.length - 1] = c;
+        stateTargets[stateTargets.length - 1] = target;
+        keys.set(state, stateKeys);
+        targets.set(state, stateTargets);
+    }
+
+    private int transition(int state, char c) {
+        char[] stateKeys = keys.get(state);
+        for (int i = 0; i < stateKeys.length; i++) {
+            if (stateKeys[i] == c) {
+                return targets.get(state)[i];
+            }
+        }
+        return -1;
+    }
+
+    private void buildFailureLinks(List<List<Integer>> stateOutputs) {
+        fail = new int[prefixes.size()];
+        outputs = new int[prefixes.size()][];
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            char[] stateKeys = keys.get(state);
+            for (int i = 0; i < stateKeys.length; i++) {
+                int target = targets.get(state)[i];
+                if (state != 0) {
+                    int fallback = fail[state];
+                    while (fallback != 0 && transition(fallback, stateKeys[i]) < 0) {
+                        fallback = fail[fallback];
+                    }
+                    int next = transition(fallback, stateKeys[i]);
+                    fail[target] = next < 0 ? 0 : next;
+                }
+                queue.add(target);
+            }
+            // outputs of the failure state are complete, because it is closer to the root
+            List<Integer> result = new ArrayList<>(stateOutputs.get(state));
+            if (state != 0) {
+                for (int output : outputs[fail[state]]) {
+                    result.add(output);
+                }
+            }
+            outputs[state] = result.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public String getDelimiter(int delimiter) {
+        return delimiters[delimiter];
+    }
+
+    /**
+     * Reports all delimiter occurrences in the order of their end index
+     *
+     * @return the state at the end of the scan, see {@link #getPendingLength(int, int)}
+     */
+    public int scan(CharSequence text, MatchListener listener) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = transition(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            for (int delimiter : outputs[state]) {
+                if (!listener.onMatch(delimiter, i - delimiters[delimiter].length() + 1, i)) {
+                    return state;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * @return length of the longest text end that is an incomplete beginning of the delimiter, 0 if there is none
+     */
+    public int getPendingLength(int state, int delimiter) {
+        for (int current = state; current != 0; current = fail[current]) {
+            String prefix = prefixes.get(current);
+            if (prefix.length() < delimiters[delimiter].length() && delimiters[delimiter].startsWith(prefix)) {
+                return prefix.length();
+            }
+        }
+        return 0;
+    }
+}
@@ -61,17 +61,17 @@ public class TextDetectionResult {
         }
 
         public Node getBeginNode() {
-            return path.getNodes().get(range.begin.nodeIndex);
+            return path.getNode(range.begin.nodeIndex);
         }
 
 
         public Node getEndNode() {
-            return path.getNodes().get(range.end.nodeIndex);
+            return path.getNode(range.end.nodeIndex);
         }
 
         public boolean isSelfContained() {
-            return path.getNodes().size() == 1 && range.begin.nodeIndex == 0 && range.end.nodeIndex == 0 &&
-                    range.begin.charIndex == 0 && range.end.charIndex == interpreter.getText(path.getNodes().get(0)).length() - 1;
+            return path.size() == 1 && range.begin.nodeIndex == 0 && range.end.nodeIndex == 0 &&
+                    range.begin.charIndex == 0 && range.end.charIndex == interpreter.getText(path.getNode(0)).length() - 1;
         }
 
     }
@@ -31,10 +31,9 @@ import org.underdocx.doctypes.TextNodeInterpreter;
 import org.underdocx.common.tree.nodepath.TextNodePath;
 import org.w3c.dom.Node;
 
+import java.util.List;
 import java.util.Optional;
 
-import static org.underdocx.common.tools.Convenience.also;
-
 public abstract class AbstractExtractor implements EncapsulatedNodesExtractor {
 
     protected final TextDetector detector;
@@ -60,7 +59,7 @@ public abstract class AbstractExtractor implements EncapsulatedNodesExtractor {
     public boolean isEncapsulatedNode(Node node) {
         if (node.getChildNodes().getLength() == 1 && interpreter.isPlainTextContainerType(node) && node.getFirstChild().getNodeType() == Node.TEXT_NODE) {
             Node textNode = node.getFirstChild();
-            TextNodePath textNodePath = also(new TextNodePath(interpreter), path -> path.addNode(textNode));
+            TextNodePath textNodePath = new TextNodePath(List.of(textNode), interpreter);
             TextDetectionResult detection = detector.detect(textNodePath);
             return detection.result == TextDetectionResult.TextDetectionResultType.CONTAINS_TEXT && detection.area.isSelfContained();
         }
@@ -61,7 +61,7 @@ public class Encapsulator {
     }
 
     private Node getNode(int index) {
-        return getPath().getNodes().get(index);
+        return getPath().getNode(index);
     }
 
     private Node getBeginNode() {
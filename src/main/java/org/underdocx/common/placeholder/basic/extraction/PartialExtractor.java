@@ -29,7 +29,7 @@ import org.underdocx.common.enumerator.Enumerator;
 import org.underdocx.common.placeholder.basic.detection.TextDetectionResult;
 import org.underdocx.common.placeholder.basic.detection.TextDetector;
 import org.underdocx.common.tools.Convenience;
-import org.underdocx.common.tree.TreeWalker;
+import org.underdocx.common.tree.TreeCursor;
 import org.underdocx.common.tree.nodepath.TextNodePath;
 import org.underdocx.common.tree.nodepath.TreeNodeCollector;
 import org.underdocx.doctypes.TextNodeInterpreter;
@@ -44,33 +44,33 @@ public class PartialExtractor extends AbstractExtractor {
     private class ExtractNodeEnumerator extends AbstractPrepareNextEnumerator<Node> {
 
         private final Node tree;
-        private final TreeWalker startNodeWalker;
+        private final TreeCursor startNodeCursor;
 
         private ExtractNodeEnumerator(Node tree, Node firstValidNodeOrNull) {
             this.tree = tree;
-            this.startNodeWalker = new TreeWalker(tree, tree, firstValidNodeOrNull);
+            this.startNodeCursor = new TreeCursor(tree, tree, firstValidNodeOrNull);
         }
 
         private ExtractNodeEnumerator(ExtractNodeEnumerator other) {
             super(other);
             this.tree = other.tree;
-            this.startNodeWalker = other.startNodeWalker.cloneEnumerator();
+            this.startNodeCursor = new TreeCursor(other.startNodeCursor);
         }
 
         @Override
         protected Node findNext() {
             return Convenience.build(result -> {
-                while (result.value == null && startNodeWalker.hasNext()) {
-                    Convenience.ifIs(startNodeWalker.next(), state -> state.isBeginVisit() && state.isValid(), state -> {
-                        Node startNode = state.getNode();
+                while (result.value == null && startNodeCursor.next()) {
+                    if (startNodeCursor.isBeginVisit() && startNodeCursor.isValid()) {
+                        Node startNode = startNodeCursor.getNode();
                         Convenience.ifNotNull(analyzeStartNode(startNode, tree), textArea -> {
                             Node placeholder = getIfEncapsulated(textArea).orElse(Encapsulator.encapsulate(textArea));
                             result.value = placeholder;
-                            startNodeWalker.jump(placeholder);
-                            startNodeWalker.next();
-                            startNodeWalker.nextSkipChildren();
+                            startNodeCursor.jump(placeholder);
+                            startNodeCursor.next();
+                            startNodeCursor.nextSkipChildren();
                         });
-                    });
+                    }
                 }
             });
         }
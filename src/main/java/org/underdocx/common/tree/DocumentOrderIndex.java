@@ -0,0 +1,204 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.tree;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.events.Event;
+import org.w3c.dom.events.EventListener;
+import org.w3c.dom.events.EventTarget;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares node positions like {@link Nodes#compareNodePositions(Node, Node)} (descendants before their
+ * ancestors, otherwise document order) by using post-order numbers of the indexed documents.
+ * Removed subtrees lose their numbers (tracked by mutation events), new nodes are compared relative
+ * to their nearest numbered ancestor. Documents which don't support mutation events are not indexed.
+ * Call {@link #release()} to unregister the event listeners.
+ */
+public class DocumentOrderIndex implements Comparator<Node> {
+
+    private static final String REMOVED = "DOMNodeRemoved";
+
+    private final Map<Node, Entry> entries = new IdentityHashMap<>();
+    private final Map<Document, Boolean> documents = new IdentityHashMap<>();
+    private final EventListener mutationListener = this::onRemoval;
+    private final int[] fallbackCosts = {0};
+
+    private record Entry(int first, int post) {
+        private boolean contains(Entry other) {
+            return first <= other.post && other.post <= post;
+        }
+    }
+
+    @Override
+    public int compare(Node node1, Node node2) {
+        return compare(node1, node2, false);
+    }
+
+    /**
+     * Compares in document order (pre-order), ancestors before their descendants
+     */
+    public int compareInDocumentOrder(Node node1, Node node2) {
+        return compare(node1, node2, true);
+    }
+
+    private int compare(Node node1, Node node2, boolean ancestorsFirst) {
+        if (node1 == node2) {
+            return 0;
+        }
+        Node anchor1 = findNumberedAncestorOrSelf(node1);
+        Node anchor2 = anchor1 == null ? null : findNumberedAncestorOrSelf(node2);
+        if (anchor1 != null && anchor2 != null) {
+            Entry entry1 = entries.get(anchor1);
+            Entry entry2 = entries.get(anchor2);
+            if (!entry1.contains(entry2) && !entry2.contains(entry1)) {
+                return Integer.compare(entry1.post, entry2.post);
+            }
+            if (anchor1 == node1 && entry1.contains(entry2)) {
+                return ancestorsFirst ? -1 : 1;
+            }
+            if (anchor2 == node2 && entry2.contains(entry1)) {
+                return ancestorsFirst ? 1 : -1;
+            }
+        }
+        int result = fallback(node1, node2);
+        if (ancestorsFirst && result > 0 && Nodes.isAncestorOrSelf(node1, node2)) {
+            return -1;
+        }
+        if (ancestorsFirst && result < 0 && Nodes.isAncestorOrSelf(node2, node1)) {
+            return 1;
+        }
+        return result;
+    }
+
+    /**
+     * Unregisters all mutation listeners and drops the numbers
+     */
+    public void release() {
+        documents.forEach((document, indexed) -> {
+            if (indexed) {
+                ((EventTarget) document).removeEventListener(REMOVED, mutationListener, true);
+            }
+        });
+        documents.clear();
+        entries.clear();
+    }
+
+    private Node findNumberedAncestorOrSelf(Node node) {
+        Node current = node;
+        Node last = node;
+        while (current != null) {
+            if (entries.containsKey(current)) {
+                return current;
+            }
+            last = current;
+            current = current.getParentNode();
+        }
+        if (last instanceof Document document && !documents.containsKey(document)) {
+            documents.put(document, register(document));
+            return findNumberedAncestorOrSelf(node);
+        }
+        return null;
+    }
+
+    private boolean register(Document document) {
+        if (!(document instanceof EventTarget target)) {
+            return false;
+        }
+        target.addEventListener(REMOVED, mutationListener, true);
+        number(document);
+        return true;
+    }
+
+    private void number(Node root) {
+        int counter = entries.size();
+        List<Node> stack = new ArrayList<>();
+        List<Integer> firsts = new ArrayList<>();
+        Node current = root;
+        while (current != null) {
+            stack.add(current);
+            firsts.add(counter);
+            Node child = current.getFirstChild();
+            if (child != null) {
+                current = child;
+                continue;
+            }
+            current = null;
+            while (!stack.isEmpty() && current == null) {
+                int last = stack.size() - 1;
+                Node done = stack.remove(last);
+                entries.put(done, new Entry(firsts.remove(last), counter++));
+                if (done != root) {
+                    current = done.getNextSibling();
+                }
+            }
+        }
+    }
+
+    private void onRemoval(Event event) {
+        if (event.getTarget() instanceof Node node && entries.containsKey(node)) {
+            forget(node);
+        }
+    }
+
+    private void forget(Node root) {
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            if (entries.remove(node) != null || node == root) {
+                for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+                    stack.add(child);
+                }
+            }
+        }
+    }
+
+    /*
+    Used for nodes which have been created after numbering. Once the costs of these comparisons
+    exceed the size of the index, all documents are numbered again.
+     */
+    private int fallback(Node node1, Node node2) {
+        int result = Nodes.compareNodePositions(node1, node2, fallbackCosts);
+        if (fallbackCosts[0] > entries.size() && !entries.isEmpty()) {
+            fallbackCosts[0] = 0;
+            List<Document> indexed = new ArrayList<>();
+            documents.forEach((document, isIndexed) -> {
+                if (isIndexed) {
+                    indexed.add(document);
+                }
+            });
+            entries.clear();
+            indexed.forEach(this::number);
+        }
+        return result;
+    }
+}
@@ -33,6 +33,7 @@ import org.underdocx.common.types.Wrapper;
 import org.w3c.dom.*;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -123,23 +124,96 @@ public class Nodes {
     }
 
     public static List<Node> findDescendantNodes(Node start, Predicate<Node> filter, boolean skipChildrenOfFoundNodes) {
-        return Convenience.buildList(result -> {
-            boolean found = false;
-            if (filter.test(start)) {
-                result.add(start);
-                found = true;
+        return Convenience.buildList(result -> findDescendantNodes(start, filter, skipChildrenOfFoundNodes, result::add));
+    }
+
+    /**
+     * Passes all matching nodes of the subtree in document order to the sink. The sink may remove the node it
+     * receives, the walk then continues behind the removed node and its descendants.
+     */
+    public static void findDescendantNodes(Node start, Predicate<Node> filter, boolean skipChildrenOfFoundNodes, Consumer<Node> sink) {
+        Node node = start;
+        while (node != null) {
+            Node next;
+            if (filter.test(node)) {
+                Node parent = node.getParentNode();
+                Node behindSubtree = nextInSubtree(node, start, true);
+                sink.accept(node);
+                boolean removed = parent != null && node.getParentNode() != parent;
+                next = removed ? behindSubtree : nextInSubtree(node, start, skipChildrenOfFoundNodes);
+            } else {
+                next = nextInSubtree(node, start, false);
             }
-            if (!found || (found && !skipChildrenOfFoundNodes)) {
-                getChildren(start).forEach(element -> result.addAll(findDescendantNodes(element, filter, skipChildrenOfFoundNodes)));
+            node = next;
+        }
+    }
+
+    public static Enumerator<Node> getDescendants(Node start, Predicate<Node> filter, boolean skipChildrenOfFoundNodes) {
+        return new DescendantsEnumerator(start, filter, skipChildrenOfFoundNodes);
+    }
+
+    private static Node nextInSubtree(Node node, Node scope, boolean skipChildren) {
+        Node firstChild = skipChildren ? null : node.getFirstChild();
+        if (firstChild != null) {
+            return firstChild;
+        }
+        for (Node current = node; current != null && current != scope; current = current.getParentNode()) {
+            Node sibling = current.getNextSibling();
+            if (sibling != null) {
+                return sibling;
             }
-        });
+        }
+        return null;
     }
 
+    private static class DescendantsEnumerator extends AbstractPrepareNextEnumerator<Node> {
+
+        private final Node start;
+        private final Predicate<Node> filter;
+        private final boolean skipChildrenOfFoundNodes;
+        private Node candidate;
+
+        private DescendantsEnumerator(Node start, Predicate<Node> filter, boolean skipChildrenOfFoundNodes) {
+            this.start = start;
+            this.filter = filter;
+            this.skipChildrenOfFoundNodes = skipChildrenOfFoundNodes;
+            this.candidate = start;
+        }
+
+        private DescendantsEnumerator(DescendantsEnumerator other) {
+            super(other);
+            this.start = other.start;
+            this.filter = other.filter;
+            this.skipChildrenOfFoundNodes = other.skipChildrenOfFoundNodes;
+            this.candidate = other.candidate;
+        }
+
+        @Override
+        protected Node findNext() {
+            while (candidate != null) {
+                Node node = candidate;
+                boolean found = filter.test(node);
+                candidate = nextInSubtree(node, start, found && skipChildrenOfFoundNodes);
+                if (found) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Enumerator<Node> cloneEnumerator() {
+            return new DescendantsEnumerator(this);
+        }
+    }
 
     public static Optional<Node> findFirstDescendantNode(Node start, Predicate<Node> filter) {
-        return (filter.test(start))
-                ? Optional.of(start)
-                : Convenience.findFirstPresent(children(start), child -> findFirstDescendantNode(child, filter));
+        for (Node node = start; node != null; node = nextInSubtree(node, start, false)) {
+            if (filter.test(node)) {
+                return Optional.of(node);
+            }
+        }
+        return Optional.empty();
     }
 
     public static Optional<Node> findAscendantNode(Node start, String tagName) {
@@ -147,22 +221,22 @@ public class Nodes {
     }
 
     public static Optional<Node> findAscendantNode(Node start, Predicate<Node> filter) {
-        if (filter.test(start)) {
-            return Optional.of(start);
-        } else {
-            Node parent = start.getParentNode();
-            return parent == null ? Optional.empty() : findAscendantNode(parent, filter);
+        for (Node node = start; node != null; node = node.getParentNode()) {
+            if (filter.test(node)) {
+                return Optional.of(node);
+            }
         }
+        return Optional.empty();
     }
 
     public static Optional<Node> findOldestAncestorNode(Node start, Predicate<Node> filter) {
-        List<Node> ancestors = Convenience.reverse(getAncestors(start, null));
-        for (Node ancestor : ancestors) {
-            if (filter == null || filter.test(ancestor)) {
-                return Optional.of(ancestor);
+        Node result = null;
+        for (Node node = start; node != null; node = node.getParentNode()) {
+            if (filter == null || filter.test(node)) {
+                result = node;
             }
         }
-        return Optional.empty();
+        return Optional.ofNullable(result);
     }
 
     public static Optional<Node> findAncestorChild(Node nodeToStart, Node ancestorNode) {
@@ -253,41 +327,76 @@ public class Nodes {
         return new SiblingsEnumerator(firstNode, limit);
     }
 
+    /**
+     * @return a negative value if node1 is a descendant of node2 or precedes it in document order
+     */
     public static int compareNodePositions(Node node1, Node node2) {
-        List<Node> path1 = Convenience.reverse(getAncestors(node1, null));
-        List<Node> path2 = Convenience.reverse(getAncestors(node2, null));
-        for (int treeDepth = 0; treeDepth < path1.size(); treeDepth++) {
-            if (treeDepth >= path2.size()) {
-                return -1; // a->b*->c  vs  a->b*
+        return compareNodePositions(node1, node2, null);
+    }
+
+    static int compareNodePositions(Node node1, Node node2, int[] costs) {
+        if (node1 == node2) {
+            return 0;
+        }
+        int depth1 = getDepth(node1);
+        int depth2 = getDepth(node2);
+        int steps = depth1 + depth2;
+        Node child1 = node1;
+        Node child2 = node2;
+        for (; depth1 > depth2; depth1--) {
+            child1 = child1.getParentNode();
+            if (child1 == node2) {
+                return countCosts(costs, steps, -1); // a->b*->c  vs  a->b*
             }
-            if (path1.get(treeDepth) == path2.get(treeDepth)) {
-                continue; // a->b*->c  vs  a->b*->x
+        }
+        for (; depth2 > depth1; depth2--) {
+            child2 = child2.getParentNode();
+            if (child2 == node1) {
+                return countCosts(costs, steps, 1); // a->b*  vs  a->b*->c
             }
-            Node child1 = path1.get(treeDepth);
-            Node child2 = path2.get(treeDepth);
-            while (child1 != null) {
-                child1 = child1.getNextSibling();
-                if (child1 == child2) {
-                    return -1;
-                }
+        }
+        while (child1.getParentNode() != child2.getParentNode()) {
+            child1 = child1.getParentNode();
+            child2 = child2.getParentNode();
+            steps++;
+        }
+        if (child1.getParentNode() == null) {
+            return countCosts(costs, steps, 1); // different trees
+        }
+        for (Node sibling = child1.getNextSibling(); sibling != null; sibling = sibling.getNextSibling()) {
+            steps++;
+            if (sibling == child2) {
+                return countCosts(costs, steps, -1);
             }
-            return 1;
         }
-        return path1.size() == path2.size()
-                ? 0  // a->b*  vs   a->b*
-                : 1; // a->b*  vs   a->b*->c
+        return countCosts(costs, steps, 1);
+    }
+
+    private static int countCosts(int[] costs, int steps, int result) {
+        if (costs != null) {
+            costs[0] += steps;
+        }
+        return result;
+    }
+
+    public static int getDepth(Node node) {
+        int depth = 0;
+        for (Node parent = node.getParentNode(); parent != null; parent = parent.getParentNode()) {
+            depth++;
+        }
+        return depth;
     }
 
     public static Optional<Node> findNextNode(Node node, boolean skipTxtNode) {
         Node result = null;
-        TreeWalker walker = new TreeWalker(node, null, null);
-        while (result == null && walker.hasNext()) {
-            TreeWalker.VisitState state = walker.next();
-            if (state.getNode() == node) {
-                state = walker.nextSkipChildren();
+        TreeCursor cursor = new TreeCursor(node, null, null);
+        while (result == null && cursor.next()) {
+            boolean visiting = true;
+            if (cursor.getNode() == node) {
+                visiting = cursor.nextSkipChildren();
             }
-            if (state != null && state.isBeginVisit()) {
-                result = state.getNode();
+            if (visiting && cursor.isBeginVisit()) {
+                result = cursor.getNode();
             }
             if (result != null && skipTxtNode && result.getNodeType() == Node.TEXT_NODE) {
                 result = null;
@@ -311,8 +420,17 @@ public class Nodes {
         return Optional.of(currentNode);
     }
 
+    public static boolean isAncestorOrSelf(Node ancestor, Node node) {
+        for (Node current = node; current != null; current = current.getParentNode()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static boolean containsNode(Node tree, Node descendant) {
-        return Nodes.findFirstDescendantNode(tree, node -> node == descendant).isPresent();
+        return isAncestorOrSelf(tree, descendant);
     }
 
 
@@ -40,13 +40,18 @@ public class SimpleTreeWalker implements Enumerator<Node> {
     }
 
     protected final Predicate<TreeWalker.VisitState> filter;
-    protected final TreeWalker walker;
     protected final boolean skipChildrenMode;
+    protected TreeCursor cursor;
     private boolean isFirst = true;
 
+    // position of the next matching node, prepared by hasNext() or inspectNext() and taken over by next()
+    private TreeCursor lookAhead;
+    private boolean lookAheadPrepared = false;
+    private boolean lookAheadFound = false;
+
     public SimpleTreeWalker(Node start, Node limit, Node firstValidNodeOrNull, Predicate<TreeWalker.VisitState> filter, boolean skipChildrenMode) {
         this.filter = filter;
-        this.walker = new TreeWalker(start, limit, firstValidNodeOrNull);
+        this.cursor = new TreeCursor(start, limit, firstValidNodeOrNull);
         this.skipChildrenMode = skipChildrenMode;
     }
 
@@ -57,21 +62,52 @@ public class SimpleTreeWalker implements Enumerator<Node> {
 
     private SimpleTreeWalker(SimpleTreeWalker other) {
         this.filter = other.filter;
-        this.walker = other.walker.cloneEnumerator();
+        this.cursor = new TreeCursor(other.cursor);
         this.skipChildrenMode = other.skipChildrenMode;
         this.isFirst = other.isFirst;
     }
 
-    protected Optional<Node> nextNode(boolean keepCurrentState) {
-        TreeWalker treeWalker = keepCurrentState ? new TreeWalker(walker) : walker;
+    private boolean moveToNextMatch(TreeCursor treeCursor) {
         if (skipChildrenMode && !isFirst) {
-            treeWalker.nextSkipChildren();
+            treeCursor.nextSkipChildren();
+        }
+        while (treeCursor.next()) {
+            if (filter == null || filter.test(treeCursor.getState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void prepareLookAhead() {
+        if (!lookAheadPrepared) {
+            if (lookAhead == null) {
+                lookAhead = new TreeCursor(cursor);
+            } else {
+                lookAhead.set(cursor);
+            }
+            lookAheadFound = moveToNextMatch(lookAhead);
+            lookAheadPrepared = true;
+        }
+    }
+
+    protected Optional<Node> nextNode(boolean keepCurrentState) {
+        if (keepCurrentState) {
+            prepareLookAhead();
+            return lookAheadFound ? Optional.of(lookAhead.getNode()) : Optional.empty();
         }
-        if (isFirst && !keepCurrentState) {
-            isFirst = false;
+        boolean found;
+        if (lookAheadPrepared) {
+            TreeCursor previous = cursor;
+            cursor = lookAhead;
+            lookAhead = previous;
+            lookAheadPrepared = false;
+            found = lookAheadFound;
+        } else {
+            found = moveToNextMatch(cursor);
         }
-        Optional<TreeWalker.VisitState> next = treeWalker.next(filter);
-        return next.map(TreeWalker.VisitState::getNode);
+        isFirst = false;
+        return found ? Optional.of(cursor.getNode()) : Optional.empty();
     }
 
     @Override
@@ -81,7 +117,8 @@ public class SimpleTreeWalker implements Enumerator<Node> {
 
     @Override
     public boolean hasNext() {
-        return nextNode(true).isPresent();
+        prepareLookAhead();
+        return lookAheadFound;
     }
 
     public Node next() {
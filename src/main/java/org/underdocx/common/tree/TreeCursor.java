@@ -0,0 +1,148 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.common.tree;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Visits all nodes of a subtree like {@link TreeWalker}, but moves a single {@link TreeWalker.VisitState}
+ * instead of creating a new one for each step. The state returned by {@link #getState()} changes with each
+ * step and must not be kept.
+ */
+public class TreeCursor {
+
+    private Node initialNode;
+    private Node scope;
+    private Node firstValidNode;
+    private boolean started = false;
+    private final TreeWalker.VisitState state = new TreeWalker.VisitState(null, false, false);
+
+    public TreeCursor(Node initialNode, Node scope, Node firstValidNode) {
+        this.initialNode = initialNode;
+        this.scope = scope != null ? scope
+                : initialNode instanceof Document ? initialNode : initialNode.getOwnerDocument();
+        this.firstValidNode = firstValidNode;
+        if (firstValidNode != null) {
+            jump(firstValidNode);
+        }
+    }
+
+    public TreeCursor(Node initialNode, Node scope) {
+        this(initialNode, scope, null);
+    }
+
+    public TreeCursor(TreeCursor other) {
+        set(other);
+    }
+
+    /**
+     * Moves this cursor to the position of the other one
+     */
+    public void set(TreeCursor other) {
+        this.initialNode = other.initialNode;
+        this.scope = other.scope;
+        this.firstValidNode = other.firstValidNode;
+        this.started = other.started;
+        this.state.set(other.state.getNode(), other.state.isBeginVisit(), other.state.isValid());
+    }
+
+    /**
+     * @return current state or null if the cursor has not been moved yet
+     */
+    public TreeWalker.VisitState getState() {
+        return started ? state : null;
+    }
+
+    public Node getNode() {
+        return state.getNode();
+    }
+
+    public boolean isBeginVisit() {
+        return state.isBeginVisit();
+    }
+
+    public boolean isValid() {
+        return state.isValid();
+    }
+
+    public boolean hasNext() {
+        if (!started) return true;
+        Node node = state.getNode();
+        if (state.isBeginVisit()) return true;
+        if (scope != null && node == scope) return false;
+        return node.getNextSibling() != null || node.getParentNode() != null;
+    }
+
+    /**
+     * @return false if there is no further node, the state is unchanged in this case
+     */
+    public boolean next() {
+        if (!started) {
+            started = true;
+            return moveTo(initialNode, true, firstValidNode == null || initialNode == firstValidNode);
+        }
+        Node node = state.getNode();
+        if (state.isBeginVisit()) {
+            Node firstChild = node.getFirstChild();
+            return firstChild != null ? moveTo(firstChild, true) : moveTo(node, false);
+        }
+        if (scope != null && node == scope) return false;
+        Node nextSibling = node.getNextSibling();
+        if (nextSibling != null) return moveTo(nextSibling, true);
+        Node parent = node.getParentNode();
+        return parent != null && moveTo(parent, false);
+    }
+
+    /**
+     * Like {@link #next()}, but leaves the current node without visiting its children
+     */
+    public boolean nextSkipChildren() {
+        if (started && state.isBeginVisit() && state.getNode().hasChildNodes()) {
+            return moveTo(state.getNode(), false, state.isValid());
+        }
+        return next();
+    }
+
+    private boolean moveTo(Node node, boolean beginVisit) {
+        return moveTo(node, beginVisit, firstValidNode == null || node == firstValidNode || state.isValid());
+    }
+
+    private boolean moveTo(Node node, boolean beginVisit, boolean isValid) {
+        state.set(node, beginVisit, isValid);
+        return true;
+    }
+
+    public void jump(Node node) {
+        if (!Nodes.isAncestorOrSelf(scope, node)) {
+            throw new RuntimeException("Invalid jump node provided as jump target");
+        }
+        if (started && state.isValid()) {
+            firstValidNode = null;
+        }
+        initialNode = node;
+        started = false;
+    }
+}
@@ -26,158 +26,70 @@ package org.underdocx.common.tree;
 
 
 import org.underdocx.common.enumerator.Enumerator;
-import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 
 /**
- * Visits all nodes of a subtree (entering and leaving each node)
+ * Visits all nodes of a subtree (entering and leaving each node). Each step returns a new {@link VisitState},
+ * {@link TreeCursor} walks the same way without allocations.
  */
 public class TreeWalker implements Enumerator<TreeWalker.VisitState> {
 
-    private Node initialNode;
-    private Node scope;
-    private VisitState state = null;
-    private Node firstValidNode = null;
-
-
-    private void ensureScope() {
-        if (scope != null) {
-            return;
-        }
-        if (initialNode instanceof Document) {
-            scope = initialNode;
-            return;
-        }
-        scope = initialNode.getOwnerDocument();
-    }
-
-    private void init(Node initialNode, Node scope) {
-        this.initialNode = initialNode;
-        this.scope = scope;
-        ensureScope();
-    }
+    private final TreeCursor cursor;
 
     public TreeWalker(Node initialNode, Node scope) {
-        init(initialNode, scope);
+        this.cursor = new TreeCursor(initialNode, scope);
     }
 
     public TreeWalker(Node initialNode, Node scope, Node firstValidNode) {
-        init(initialNode, scope);
-        this.firstValidNode = firstValidNode;
-        if (firstValidNode != null) {
-            jump(firstValidNode);
-        }
+        this.cursor = new TreeCursor(initialNode, scope, firstValidNode);
     }
 
-
     public TreeWalker(TreeWalker treeWalker) {
-        this.state = treeWalker.state != null ? new VisitState(treeWalker.state) : null;
-        this.initialNode = treeWalker.initialNode;
-        this.scope = treeWalker.scope;
-        this.firstValidNode = treeWalker.firstValidNode;
-    }
-
-    private VisitState nextStateSkipChildren() {
-        VisitState result;
-        if (state != null && state.beginVisit && state.node.hasChildNodes()) {
-            result = new VisitState(state.node, false, state.isValid);
-        } else {
-            return nextState();
-        }
-        return result;
-    }
-
-    private VisitState nextState() {
-        if (state == null) return new VisitState(initialNode, true, isFirstValidNodeFound(null, initialNode));
-        if (scope != null && state.node == scope && !state.beginVisit) return null;
-        if (state.beginVisit) return state.node.hasChildNodes()
-                ? new VisitState(state.node.getFirstChild(), true, isFirstValidNodeFound(state, state.node.getFirstChild()))
-                : new VisitState(state.node, false, isFirstValidNodeFound(state, state.node));
-        else {
-            if (state.node.getNextSibling() != null) {
-                Node nextSibling = state.node.getNextSibling();
-                return new VisitState(nextSibling, true, isFirstValidNodeFound(state, nextSibling));
-            } else {
-                Node parent = state.node.getParentNode();
-                return parent != null ? new VisitState(parent, false, isFirstValidNodeFound(state, parent)) : null;
-            }
-        }
+        this.cursor = new TreeCursor(treeWalker.cursor);
     }
 
     @Override
     public boolean hasNext() {
-        return nextState() != null;
+        return cursor.hasNext();
     }
 
     @Override
     public Optional<VisitState> inspectNext() {
-        return Optional.ofNullable(nextState());
+        TreeCursor clone = new TreeCursor(cursor);
+        return clone.next() ? Optional.of(new VisitState(clone.getState())) : Optional.empty();
     }
 
     @Override
     public VisitState next() {
-        return doNextInternal(this::nextState);
+        return cursor.next() ? new VisitState(cursor.getState()) : null;
     }
 
     public VisitState nextSkipChildren() {
-        return doNextInternal(this::nextStateSkipChildren);
-    }
-
-    private VisitState doNextInternal(Supplier<VisitState> nextFunction) {
-        VisitState result = nextFunction.get();
-        if (result != null) state = result;
-        return result;
-    }
-
-    private boolean isFirstValidNodeFound(VisitState lastState, Node currentNode) {
-        if (firstValidNode == null) {
-            return true;
-        }
-        if (currentNode == firstValidNode) {
-            return true;
-        }
-        if (lastState == null) {
-            return false;
-        }
-        return lastState.isValid;
+        return cursor.nextSkipChildren() ? new VisitState(cursor.getState()) : null;
     }
 
     public void jump(Node node) {
-        checkJumpNode(node);
-        if (state != null && state.isValid) {
-            firstValidNode = null;
-        }
-        initialNode = node;
-        state = null;
-    }
-
-    private void checkJumpNode(Node node) {
-        List<Node> ancestor = Nodes.getAncestors(node, null);
-        if (!ancestor.contains(scope)) {
-            throw new RuntimeException("Invalid jump node provided as jump target");
-        }
+        cursor.jump(node);
     }
 
     public static Node findNextNode(Node node, Node scope, Node firstValidNodeOrNull, boolean skipChildren) {
-        TreeWalker walker = new TreeWalker(node, scope, firstValidNodeOrNull);
-        VisitState state;
-        walker.next();
+        TreeCursor cursor = new TreeCursor(node, scope, firstValidNodeOrNull);
+        cursor.next();
+        boolean found;
         do {
-            state = skipChildren ? walker.nextSkipChildren() : walker.next();
-        } while (state != null && !state.beginVisit);
+            found = skipChildren ? cursor.nextSkipChildren() : cursor.next();
+        } while (found && !cursor.isBeginVisit());
 
-        return state == null ? null : state.node;
+        return found ? cursor.getNode() : null;
     }
 
     public static class VisitState {
-        private final Node node;
-        private final boolean beginVisit;
-        private final boolean isValid;
+        private Node node;
+        private boolean beginVisit;
+        private boolean isValid;
 
         public VisitState(Node node, boolean beginVisit, boolean isValid) {
             this.node = node;
@@ -189,6 +101,12 @@ public class TreeWalker implements Enumerator<TreeWalker.VisitState> {
             this(visitState.node, visitState.beginVisit, visitState.isValid);
         }
 
+        void set(Node node, boolean beginVisit, boolean isValid) {
+            this.node = node;
+            this.beginVisit = beginVisit;
+            this.isValid = isValid;
+        }
+
         public Node getNode() {
             return this.node;
         }
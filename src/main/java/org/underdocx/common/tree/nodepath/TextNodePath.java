@@ -28,61 +28,96 @@ import org.underdocx.common.tools.Convenience;
 import org.underdocx.doctypes.TextNodeInterpreter;
 import org.w3c.dom.Node;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
+/**
+ * Immutable view on a sequence of text related nodes. The view covers the nodes the list contains when the path
+ * is created, nodes appended to the list later on are not part of it. The texts of the nodes are read once, on
+ * first demand.
+ */
 public class TextNodePath {
     private final TextNodeInterpreter textNodeInterpreter;
     private final List<Node> path;
+    private final int size;
 
-    public TextNodePath(TextNodeInterpreter textInterpreter) {
-        this(new ArrayList<>(), textInterpreter);
-    }
+    private String[] nodeTexts;
+    private int[] offsets;
+    private String textContent;
+    private boolean containsNullText;
 
     public TextNodePath(List<Node> nodes, TextNodeInterpreter textNodeInterpreter) {
         this.path = nodes;
+        this.size = nodes.size();
         this.textNodeInterpreter = textNodeInterpreter;
     }
 
     public List<Node> getNodes() {
-        return new ArrayList<>(path);
+        return new NodesView();
+    }
+
+    public Node getNode(int index) {
+        return path.get(checkIndex(index));
+    }
+
+    public int size() {
+        return size;
     }
 
     public TextNodeInterpreter getTextNodeInterpreter() {
         return textNodeInterpreter;
     }
 
-    public void addNode(Node node) {
-        this.path.add(node);
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
+    }
+
+    private void ensureTexts() {
+        if (textContent == null) {
+            nodeTexts = new String[size];
+            offsets = new int[size + 1];
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                String text = textNodeInterpreter.getText(path.get(i));
+                if (text == null) {
+                    containsNullText = true;
+                } else {
+                    builder.append(text);
+                }
+                nodeTexts[i] = text;
+                offsets[i + 1] = builder.length();
+            }
+            textContent = builder.toString();
+        }
     }
 
     public Optional<String> getTextContent() {
-        StringBuilder result = new StringBuilder();
-        for (Node node : path) {
-            String text = textNodeInterpreter.getText(node);
-            if (text == null) {
-                return Optional.empty();
-            }
-            result.append(text);
-        }
-        return Optional.of(result.toString());
+        ensureTexts();
+        return containsNullText ? Optional.empty() : Optional.of(textContent);
     }
 
     public String fetchTextContent() {
-        return Convenience.buildString(result -> path.forEach(node -> result.append(Convenience.getOrDefault(textNodeInterpreter.getText(node), ""))));
+        ensureTexts();
+        return textContent;
     }
 
     public boolean isTextOnly() {
-        return Convenience.all(path, textNodeInterpreter::isTextOnlyType);
+        return Convenience.all(getNodes(), textNodeInterpreter::isTextOnlyType);
     }
 
     public boolean isTextRealtedOnly() {
-        return Convenience.all(path, textNodeInterpreter::isTextRelatedType);
+        return Convenience.all(getNodes(), textNodeInterpreter::isTextRelatedType);
     }
 
     public Optional<String> getNodeText(int index) {
-        return Optional.ofNullable(textNodeInterpreter.getText(path.get(index)));
+        ensureTexts();
+        return Optional.ofNullable(nodeTexts[checkIndex(index)]);
     }
 
     public String fetchNodeText(int index) {
@@ -90,36 +125,26 @@ public class TextNodePath {
     }
 
     public TextPointer getTextPointer(int charIndex) {
-        String nodeText = null;
-        StringBuilder collectedText = new StringBuilder();
-        int nodeIndex = 0;
-        while (nodeIndex < path.size() && collectedText.length() - 1 < charIndex) {
-            nodeText = fetchNodeText(nodeIndex);
-            collectedText.append(nodeText);
-            nodeIndex++;
+        if (size == 0 || charIndex < 0) return null;
+        ensureTexts();
+        int totalLength = textContent.length();
+        if (charIndex >= totalLength) {
+            return new TextPointer(size - 1, offsets[size] - offsets[size - 1] - (totalLength - charIndex));
         }
-        if (nodeText == null || nodeIndex - 1 >= path.size()) return null;
-        int nodeCharIndex = nodeText.length() - (collectedText.length() - charIndex);
-        return new TextPointer(nodeIndex - 1, nodeCharIndex);
+        // first node which ends behind charIndex, empty nodes never qualify
+        int nodeIndex = Arrays.binarySearch(offsets, 1, size + 1, charIndex + 1);
+        nodeIndex = nodeIndex >= 0 ? nodeIndex : -nodeIndex - 1;
+        while (offsets[nodeIndex - 1] == offsets[nodeIndex]) {
+            nodeIndex--;
+        }
+        return new TextPointer(nodeIndex - 1, charIndex - offsets[nodeIndex - 1]);
     }
 
     public String fetchText(TextRange range) {
-        int bIndex = range.getBeginNodeIndex();
-        int eIndex = range.getEndNodeIndex();
-        if (bIndex == eIndex) {
-            return fetchNodeText(bIndex).substring(range.getBeginNodeCharIndex(), range.getEndNodeCharIndex() + 1);
-        }
-        return Convenience.buildString(buffer -> {
-            for (int nodeIndex = bIndex; nodeIndex <= eIndex; nodeIndex++) {
-                String text = fetchNodeText(nodeIndex);
-                if (nodeIndex == bIndex) {
-                    text = text.substring(range.getBeginNodeCharIndex());
-                } else if (nodeIndex == eIndex) {
-                    text = text.substring(0, range.getEndNodeCharIndex() + 1);
-                }
-                buffer.append(text);
-            }
-        });
+        ensureTexts();
+        return textContent.substring(
+                offsets[range.getBeginNodeIndex()] + range.getBeginNodeCharIndex(),
+                offsets[range.getEndNodeIndex()] + range.getEndNodeCharIndex() + 1);
     }
 
     public static class TextPointer {
@@ -161,7 +186,7 @@ public class TextNodePath {
     }
 
     public String toString() {
-        return Convenience.buildString(r -> path.forEach(node -> {
+        return Convenience.buildString(r -> getNodes().forEach(node -> {
             if (textNodeInterpreter.isPlainTextType(node)) {
                 r.append("(").append(textNodeInterpreter.getText(node)).append(")");
             } else if (textNodeInterpreter.isTextRelatedType(node)) {
@@ -188,4 +213,17 @@ public class TextNodePath {
     public static Optional<String> getTextContent(Node tree, TextNodeInterpreter textNodeInterpreter) {
         return new TextNodePath(new TreeNodeCollector(tree, tree, null).collect(), textNodeInterpreter).getTextContent();
     }
+
+    private class NodesView extends AbstractList<Node> implements RandomAccess {
+
+        @Override
+        public Node get(int index) {
+            return getNode(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -32,15 +32,18 @@ import org.underdocx.enginelayers.modelengine.MCommandHandler;
 import org.underdocx.enginelayers.modelengine.ModelEngine;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.AbstractPredefinedDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.JsonMapDataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
-import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.ReflectionDataNode;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
 import org.underdocx.environment.err.Problem;
 import org.underdocx.environment.err.Problems;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 public abstract class AbstractEngine<C extends DocContainer<D>, D> implements EngineAPI<C, D> {
 
@@ -55,12 +58,32 @@ public abstract class AbstractEngine<C extends DocContainer<D>, D> implements En
         getEngine().registerCommandHandler(provider, commandHandler);
     }
 
+    /**
+     * @deprecated the handler instance is shared by all runs, register a supplier instead
+     */
+    @Deprecated
     public <P> void registerCommandHandler(PlaceholdersProvider.Factory<C, P, D> provider, CommandHandler<C, P, D> commandHandler) {
         this.getEngine().registerCommandHandler(provider, commandHandler);
     }
 
+    /**
+     * Registers a command handler that is created for each run, so the engine can render documents in parallel
+     */
+    public <P> void registerCommandHandler(PlaceholdersProvider.Factory<C, P, D> provider, Supplier<? extends CommandHandler<C, P, D>> commandHandler) {
+        this.getEngine().registerCommandHandler(provider, commandHandler);
+    }
+
+    /**
+     * @deprecated the handler instance is shared by all runs, register a supplier instead
+     */
+    @Deprecated
     public abstract void registerParametersCommandHandler(MCommandHandler<C, ParametersPlaceholderData, D> commandHandler);
 
+    /**
+     * Registers a command handler that is created for each run, so the engine can render documents in parallel
+     */
+    public abstract void registerParametersCommandHandler(Supplier<? extends MCommandHandler<C, ParametersPlaceholderData, D>> commandHandler);
+
 
     public void setModel(DataNode<?> tree) {
         getEngine().setModelRoot(tree);
@@ -103,6 +126,13 @@ public abstract class AbstractEngine<C extends DocContainer<D>, D> implements En
         return getEngine().run(doc);
     }
 
+    /**
+     * Runs the engine with the given model instead of the model set via {@link #setModel(DataNode)}
+     */
+    public Optional<Problem> run(C doc, DataNode<?> model) {
+        return getEngine().run(doc, model);
+    }
+
 
     private void parseMapWithKeyValueProperties(DataNode<?> mainNode, String propertyName, BiConsumer<String, DataNode<?>> consumer) {
         DataNode<?> variablesNode = mainNode.getProperty(propertyName);
@@ -150,7 +180,7 @@ public abstract class AbstractEngine<C extends DocContainer<D>, D> implements En
     }
 
     public void importData(String json) {
-        importData(new MapDataNode(json));
+        importData(new JsonMapDataNode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
     }
 
 
@@ -0,0 +1,78 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes;
+
+import org.underdocx.common.types.Pair;
+import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.environment.err.Problem;
+import org.underdocx.environment.err.Problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Renders many documents with one configured engine in parallel. Each document is processed by its own
+ * engine run, so the documents must be separate instances (e.g. loaded from the same template).
+ * <p>
+ * Command handlers keep state of the run they are executed in. The engine must only contain handlers
+ * registered as supplier, which creates them for each run; a handler registered as instance is shared by
+ * the concurrent runs.
+ */
+public class BatchRenderer<C extends DocContainer<D>, D> {
+
+    private final AbstractEngine<C, D> engine;
+    private final Executor executor;
+
+    public BatchRenderer(AbstractEngine<C, D> engine, Executor executor) {
+        this.engine = engine;
+        this.executor = executor;
+    }
+
+    public BatchRenderer(AbstractEngine<C, D> engine) {
+        this(engine, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param jobs documents and their models, a null model renders with the model configured at the engine
+     * @return the result of each run, in the order of the jobs
+     */
+    public List<Optional<Problem>> render(List<Pair<C, DataNode<?>>> jobs) {
+        List<CompletableFuture<Optional<Problem>>> futures = new ArrayList<>();
+        for (Pair<C, DataNode<?>> job : jobs) {
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> job.right == null ? engine.run(job.left) : engine.run(job.left, job.right), executor)
+                    .exceptionally(e -> Optional.of(Problems.UNEXPECTED_EXCEPION_CAUGHT.toProblem().handle(
+                            e instanceof CompletionException && e.getCause() != null ? e.getCause() : e))));
+        }
+        List<Optional<Problem>> result = new ArrayList<>();
+        futures.forEach(future -> result.add(future.join()));
+        return result;
+    }
+}
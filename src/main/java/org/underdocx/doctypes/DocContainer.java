@@ -47,7 +47,7 @@ public interface DocContainer<D> {
     void save(OutputStream os) throws IOException;
 
     default void save(File file) throws IOException {
-        UnderdocxEnv.getInstance().logger.trace("Saving tmp file: " + file);
+        UnderdocxEnv.getInstance().logger.trace(() -> "Saving tmp file: " + file);
         try (FileOutputStream fos = new FileOutputStream(file)) {
             save(fos);
         }
@@ -25,7 +25,7 @@ SOFTWARE.
 package org.underdocx.doctypes;
 
 import org.underdocx.enginelayers.modelengine.data.DataNode;
-import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.JsonMapDataNode;
 import org.underdocx.environment.err.Problem;
 
 import java.io.InputStream;
@@ -36,7 +36,7 @@ public interface EngineAPI<C extends DocContainer<D>, D> {
     void importData(DataNode<?> importData);
 
     default void importData(InputStream is) {
-        importData(new MapDataNode(is));
+        importData(new JsonMapDataNode(is));
     }
 
     Optional<Problem> run(C doc);
@@ -154,6 +154,14 @@ public class AliasCommandHandler<C extends DocContainer<D>, D> extends AbstractC
         super(modifiers);
     }
 
+    /**
+     * Creates a new handler for a single engine run, containing the aliases of the other handler
+     */
+    public AliasCommandHandler(AliasCommandHandler<C, D> other) {
+        super(other.modifiers);
+        registry.putAll(other.registry);
+    }
+
     @Override
     protected CommandHandlerResult tryExecuteCommand() {
         if (selection.getPlaceholderData().getKey().equals("Alias")) {
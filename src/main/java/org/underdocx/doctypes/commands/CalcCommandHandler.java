@@ -35,6 +35,7 @@ import org.underdocx.doctypes.tools.datapicker.StringConvertDataPicker;
 import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.NumberLeafDataNode;
 import org.underdocx.environment.err.Problems;
 
 public class CalcCommandHandler<C extends DocContainer<D>, D> extends AbstractTextualCommandHandler<C, D> {
@@ -48,7 +49,24 @@ public class CalcCommandHandler<C extends DocContainer<D>, D> extends AbstractTe
         super("Calc", modifiersProvider);
     }
 
+    private NumberLeafDataNode.NumberType getNumberType(DataNode<?> data) {
+        if (data instanceof NumberLeafDataNode numberNode) {
+            return numberNode.getNumberType();
+        }
+        Object value = data.getValue();
+        if (value instanceof Double) {
+            return NumberLeafDataNode.NumberType.DOUBLE;
+        } else if (value instanceof Long) {
+            return NumberLeafDataNode.NumberType.LONG;
+        } else if (value instanceof Integer) {
+            return NumberLeafDataNode.NumberType.INT;
+        } else return null;
+    }
+
     private double toDouble(DataNode<?> data) {
+        if (data instanceof NumberLeafDataNode numberNode) {
+            return numberNode.getDouble();
+        }
         Object value = data.getValue();
         if (value instanceof Double d) {
             return d;
@@ -60,6 +78,9 @@ public class CalcCommandHandler<C extends DocContainer<D>, D> extends AbstractTe
     }
 
     private long toLong(DataNode<?> data) {
+        if (data instanceof NumberLeafDataNode numberNode && !numberNode.isFloatingPoint()) {
+            return numberNode.getLong();
+        }
         Object value = data.getValue();
         if (value instanceof Integer i) {
             return Long.valueOf(i);
@@ -69,6 +90,9 @@ public class CalcCommandHandler<C extends DocContainer<D>, D> extends AbstractTe
     }
 
     private int toInt(DataNode<?> data) {
+        if (data instanceof NumberLeafDataNode numberNode && numberNode.getNumberType() == NumberLeafDataNode.NumberType.INT) {
+            return (int) numberNode.getLong();
+        }
         Object value = data.getValue();
         if (value instanceof Integer i) {
             return i;
@@ -108,12 +132,14 @@ public class CalcCommandHandler<C extends DocContainer<D>, D> extends AbstractTe
 
     private LeafDataNode<?> calc(DataNode<?> a, DataNode<?> b, String op) {
         LeafDataNode<?> result;
-        if (a.getValue() instanceof Double || b.getValue() instanceof Double) {
-            result = new LeafDataNode<>(calcDouble(toDouble(a), toDouble(b), op));
-        } else if (a.getValue() instanceof Long || b.getValue() instanceof Long) {
-            result = new LeafDataNode<>(calcLong(toLong(a), toLong(b), op));
+        NumberLeafDataNode.NumberType aType = getNumberType(a);
+        NumberLeafDataNode.NumberType bType = getNumberType(b);
+        if (aType == NumberLeafDataNode.NumberType.DOUBLE || bType == NumberLeafDataNode.NumberType.DOUBLE) {
+            result = new NumberLeafDataNode(calcDouble(toDouble(a), toDouble(b), op));
+        } else if (aType == NumberLeafDataNode.NumberType.LONG || bType == NumberLeafDataNode.NumberType.LONG) {
+            result = new NumberLeafDataNode(calcLong(toLong(a), toLong(b), op));
         } else {
-            result = new LeafDataNode<>(calcInt(toInt(a), toInt(b), op));
+            result = new NumberLeafDataNode(calcInt(toInt(a), toInt(b), op));
         }
         return result;
     }
@@ -24,6 +24,7 @@ SOFTWARE.
 
 package org.underdocx.doctypes.commands;
 
+import org.underdocx.common.cache.DateTimeFormatterCache;
 import org.underdocx.common.types.Regex;
 import org.underdocx.doctypes.DocContainer;
 import org.underdocx.doctypes.commands.internal.AbstractTextualCommandHandler;
@@ -34,7 +35,6 @@ import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Locale;
 
 public class DateCommandHandler<C extends DocContainer<D>, D> extends AbstractTextualCommandHandler<C, D> {
 
@@ -59,13 +59,9 @@ public class DateCommandHandler<C extends DocContainer<D>, D> extends AbstractTe
         String dateStr = valueDataPicker.pickData(dataAccess, placeholderData.getJson()).optional().orElse(null);
         String langCode = langPicker.pickData(dataAccess, placeholderData.getJson()).optional().orElse(null);
 
-        DateTimeFormatter outFormatter = DateTimeFormatter.ofPattern(outFormat);
-        DateTimeFormatter inFormatter = DateTimeFormatter.ofPattern(inFormat);
-        if (langCode != null) {
-            outFormatter = outFormatter.withLocale(Locale.forLanguageTag(langCode));
-            inFormatter = inFormatter.withLocale(Locale.forLanguageTag(langCode));
-        }
-        LocalDate date = dateStr == null ? LocalDate.now() : LocalDate.parse(dateStr, inFormatter);
+        DateTimeFormatter outFormatter = DateTimeFormatterCache.get(outFormat, langCode);
+        DateTimeFormatter inFormatter = DateTimeFormatterCache.get(inFormat, langCode);
+        LocalDate date = dateStr == null ? LocalDate.now() : DateTimeFormatterCache.parseDate(dateStr, inFormatter);
         String replaceString = date.format(outFormatter);
         modifiers.getReplaceWithTextModifier().modify(selection, replaceString);
         handleCell(date);
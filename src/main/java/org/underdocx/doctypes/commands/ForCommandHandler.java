@@ -44,6 +44,11 @@ public class ForCommandHandler<C extends DocContainer<D>, D> extends AbstractFor
         return new ForMofifier<>(modifiers).modify(selection, forModifierData);
     }
 
+    @Override
+    protected boolean isDirectBindingSupported() {
+        return true;
+    }
+
     @Override
     protected boolean isResponsible(JsonNode attributes) {
         return !attributes.has(TABLEROW_ATTR) && !attributes.has(LISTITEM_ATTR);
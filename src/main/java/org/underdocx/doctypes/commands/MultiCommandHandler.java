@@ -52,6 +52,14 @@ public class MultiCommandHandler<C extends DocContainer<D>, D> extends AbstractC
         super(modifiers);
     }
 
+    /**
+     * Creates a new handler for a single engine run, containing the string replacements of the other handler
+     */
+    public MultiCommandHandler(MultiCommandHandler<C, D> other) {
+        super(other.modifiers);
+        other.stringReplacements.forEach(replacement -> registerStringReplacement(replacement.left, replacement.right));
+    }
+
     @Override
     public void init(C container, EngineAccess<C, D> engineAccess) {
         engineAccess.addListener(new EngineListener<C, D>() {
@@ -66,12 +74,14 @@ public class MultiCommandHandler<C extends DocContainer<D>, D> extends AbstractC
     }
 
     private final List<MCommandHandler<C, ParametersPlaceholderData, D>> subCommandHandlerRegistry = new ArrayList<>();
+    private final List<Pair<String, String>> stringReplacements = new ArrayList<>();
 
     private void registerSubCommandHandler(MCommandHandler<C, ParametersPlaceholderData, D> handler) {
         subCommandHandlerRegistry.add(handler);
     }
 
     public void registerStringReplacement(String key, String replacement) {
+        stringReplacements.add(new Pair<>(key, replacement));
         registerSubCommandHandler(new SimpleKey2StringCommandHandler<>(new Regex(Pattern.quote(key)), replacement, modifiers));
     }
 
@@ -24,6 +24,7 @@ SOFTWARE.
 
 package org.underdocx.doctypes.commands;
 
+import org.underdocx.common.cache.DecimalFormatCache;
 import org.underdocx.common.tools.Convenience;
 import org.underdocx.common.types.Pair;
 import org.underdocx.doctypes.DocContainer;
@@ -35,10 +36,9 @@ import org.underdocx.doctypes.modifiers.ModifiersProvider;
 import org.underdocx.doctypes.tools.datapicker.*;
 import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.NumberLeafDataNode;
 
 import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
 import java.util.Optional;
 
 public class NumberCommandHandler<C extends DocContainer<D>, D> extends AbstractTextualCommandHandler<C, D> {
@@ -110,52 +110,60 @@ public class NumberCommandHandler<C extends DocContainer<D>, D> extends Abstract
                 String suffix = suffixPicker.pickData(dataAccess, placeholderData.getJson()).optional().orElse("");
                 boolean useModified = useModifiedForCellPicker.pickData(dataAccess, placeholderData.getJson()).optional().orElse(false);
 
-                Number numberValue = null;
-                Object foundValue = node.getValue();
-                if (foundValue instanceof Long) {
-                    numberValue = (Long) foundValue;
-                } else if (foundValue instanceof Integer i) {
-                    numberValue = Long.valueOf(i);
-                } else if (foundValue instanceof Double d) {
-                    numberValue = d;
+                boolean isDouble;
+                long longValue = 0;
+                double doubleValue = 0;
+                if (node instanceof NumberLeafDataNode numberNode) {
+                    isDouble = numberNode.isFloatingPoint();
+                    longValue = numberNode.getLong();
+                    doubleValue = numberNode.getDouble();
                 } else {
-                    return;
+                    Object foundValue = node.getValue();
+                    if (foundValue instanceof Long || foundValue instanceof Integer) {
+                        isDouble = false;
+                        longValue = ((Number) foundValue).longValue();
+                    } else if (foundValue instanceof Double d) {
+                        isDouble = true;
+                        doubleValue = d;
+                    } else {
+                        return;
+                    }
                 }
 
                 if (multiplier != null) {
-                    if (numberValue instanceof Double) {
-                        numberValue = numberValue.doubleValue() * multiplier.doubleValue();
+                    if (!isDouble && multiplier instanceof Double) {
+                        isDouble = true;
+                        doubleValue = longValue;
+                    }
+                    if (isDouble) {
+                        doubleValue = doubleValue * multiplier.doubleValue();
                     } else {
-                        if (multiplier instanceof Double) {
-                            numberValue = numberValue.doubleValue() * multiplier.doubleValue();
-                        } else {
-                            numberValue = numberValue.longValue() * multiplier.longValue();
-                        }
+                        longValue = longValue * multiplier.longValue();
                     }
                 }
 
                 if (summand != null) {
-                    if (numberValue instanceof Double) {
-                        numberValue = numberValue.doubleValue() + summand.doubleValue();
+                    if (!isDouble && summand instanceof Double) {
+                        isDouble = true;
+                        doubleValue = longValue;
+                    }
+                    if (isDouble) {
+                        doubleValue = doubleValue + summand.doubleValue();
                     } else {
-                        if (summand instanceof Double) {
-                            numberValue = numberValue.doubleValue() + summand.doubleValue();
-                        } else {
-                            numberValue = numberValue.longValue() + summand.longValue();
-                        }
+                        longValue = longValue + summand.longValue();
                     }
                 }
 
                 String formatToUse = format == null ? DEFAULT_FORMAT : format;
-                if (!(numberValue instanceof Double) && intFormat != null) {
+                if (!isDouble && intFormat != null) {
                     formatToUse = intFormat;
                 }
-                Locale local = langCode == null ? Locale.getDefault() : Locale.forLanguageTag(langCode);
-                DecimalFormat df = new DecimalFormat(formatToUse, new DecimalFormatSymbols(local));
+                DecimalFormat df = DecimalFormatCache.get(formatToUse, langCode);
+                String formatted = prefix + (isDouble ? df.format(doubleValue) : df.format(longValue)) + suffix;
                 if (useModified) {
-                    result.value = new Pair<>(prefix + df.format(numberValue) + suffix, numberValue);
+                    result.value = new Pair<>(formatted, isDouble ? (Number) doubleValue : (Number) longValue);
                 } else {
-                    result.value = new Pair<>(prefix + df.format(numberValue) + suffix, (Number) foundValue);
+                    result.value = new Pair<>(formatted, (Number) node.getValue());
                 }
             });
         }
@@ -24,6 +24,7 @@ SOFTWARE.
 
 package org.underdocx.doctypes.commands;
 
+import org.underdocx.common.cache.DateTimeFormatterCache;
 import org.underdocx.common.types.Regex;
 import org.underdocx.doctypes.DocContainer;
 import org.underdocx.doctypes.commands.internal.AbstractTextualCommandHandler;
@@ -34,7 +35,6 @@ import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Locale;
 
 public class TimeCommandHandler<C extends DocContainer<D>, D> extends AbstractTextualCommandHandler<C, D> {
 
@@ -66,13 +66,9 @@ public class TimeCommandHandler<C extends DocContainer<D>, D> extends AbstractTe
         String outFormat = getFormat(false, outputFormatDataPicker);
         String dateStr = valueDataPicker.pickData(dataAccess, placeholderData.getJson()).optional().orElse(null);
         String langCode = langPicker.pickData(dataAccess, placeholderData.getJson()).optional().orElse(null);
-        DateTimeFormatter outFormatter = DateTimeFormatter.ofPattern(outFormat);
-        DateTimeFormatter inFormatter = DateTimeFormatter.ofPattern(inFormat);
-        if (langCode != null) {
-            outFormatter = outFormatter.withLocale(Locale.forLanguageTag(langCode));
-            inFormatter = inFormatter.withLocale(Locale.forLanguageTag(langCode));
-        }
-        LocalDateTime time = dateStr == null ? LocalDateTime.now() : LocalDateTime.parse(dateStr, inFormatter);
+        DateTimeFormatter outFormatter = DateTimeFormatterCache.get(outFormat, langCode);
+        DateTimeFormatter inFormatter = DateTimeFormatterCache.get(inFormat, langCode);
+        LocalDateTime time = dateStr == null ? LocalDateTime.now() : DateTimeFormatterCache.parseDateTime(dateStr, inFormatter);
         String replaceString = time.format(outFormatter);
         modifiers.getReplaceWithTextModifier().modify(selection, replaceString);
         handleCell(time);
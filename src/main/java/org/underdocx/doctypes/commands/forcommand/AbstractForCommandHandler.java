@@ -25,6 +25,7 @@ SOFTWARE.
 package org.underdocx.doctypes.commands.forcommand;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import org.underdocx.common.tree.Nodes;
 import org.underdocx.common.types.Pair;
 import org.underdocx.common.types.Regex;
 import org.underdocx.doctypes.DocContainer;
@@ -42,11 +43,18 @@ import org.underdocx.doctypes.tools.datapicker.DataPickerResult;
 import org.underdocx.doctypes.tools.datapicker.ListDataPicker;
 import org.underdocx.doctypes.tools.datapicker.PredefinedDataPicker;
 import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
+import org.underdocx.enginelayers.baseengine.EngineAccess;
 import org.underdocx.enginelayers.baseengine.ModifierNodeResult;
 import org.underdocx.enginelayers.baseengine.SelectedNode;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.ListDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.NumberLeafDataNode;
+import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
+import org.underdocx.enginelayers.modelengine.datapath.ActivePrefixDataPath;
+import org.underdocx.enginelayers.modelengine.datapath.DataPath;
+import org.underdocx.enginelayers.modelengine.datapath.elements.IndexDataPathElement;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Node;
 
@@ -117,11 +125,22 @@ public abstract class AbstractForCommandHandler<C extends DocContainer<D>, D> ex
         asAttributeType = AccessTypeJsonNameInterpreter.DEFAULT.interpretAttributes(placeholderData.getJson(), AS_ATTR);
         checkAsAttr();
         asAttrValue = getAsStrAttr.interpretAttributes(placeholderData.getJson()).orElse(null);
+        if (isDirectBindingSupported() && UnderdocxEnv.getInstance().bindLoopVariablesDirectly) {
+            return executeWithDirectBinding();
+        }
         return CommandHandlerResult.FACTORY.convert(callModifier(createModifierData()));
     }
 
     protected abstract ModifierNodeResult callModifier(ForModifierData forModifierData);
 
+    /**
+     * @return true if {@link #callModifier(ForModifierData)} reports the repeated areas and keeps their
+     * begin and end nodes when no replacement is provided
+     */
+    protected boolean isDirectBindingSupported() {
+        return false;
+    }
+
     protected abstract boolean isResponsible(JsonNode attributes);
 
     private void checkAsAttr() {
@@ -136,6 +155,113 @@ public abstract class AbstractForCommandHandler<C extends DocContainer<D>, D> ex
     }
 
 
+    /*
+    Instead of inserting Push/Pop/Model placeholders into the repeated areas, the loop variables are bound
+    in the data access while the engine processes the placeholders of each area
+     */
+    private CommandHandlerResult executeWithDirectBinding() {
+        List<Pair<Node, Node>> areas = new ArrayList<>();
+        ModifierNodeResult modifierResult = callModifier(new ForModifierData.AbstractForModifiedData(
+                new Pair<>(selection.getNode(), endNode), listNode.getSize()) {
+            @Override
+            public Pair<List<ParametersPlaceholderData>, List<ParametersPlaceholderData>> getNodeReplacement(int index) {
+                return null;
+            }
+
+            @Override
+            public void areasCreated(List<Pair<Node, Node>> createdAreas) {
+                areas.addAll(createdAreas);
+            }
+        });
+        if (areas.isEmpty()) {
+            return CommandHandlerResult.FACTORY.convert(modifierResult);
+        }
+
+        // nested loops are executed by this handler instance too, so the state must not be kept in fields
+        LoopBinding binding = createLoopBinding();
+        EngineAccess<C, D> engine = engineAccess;
+        ModifierNodeResult result = null;
+        for (int i = 0; i < areas.size(); i++) {
+            Pair<Node, Node> area = areas.get(i);
+            binding.bind(i);
+            EngineAccess.AreaResult areaResult = engine.processArea(area.left, area.right);
+            binding.unbind();
+            if (areaResult == EngineAccess.AreaResult.EXIT) {
+                return CommandHandlerResult.EXIT;
+            }
+            if (areaResult == EngineAccess.AreaResult.END_NOT_REACHED) {
+                Problems.INVALID_PLACEHOLDER_STRUCTURE.fireProperty(END_KEY);
+            }
+            result = ModifierNodeResult.FACTORY.success(area.right, true);
+            Nodes.deleteNode(area.left);
+            Nodes.deleteNode(area.right);
+        }
+        binding.finish();
+        return CommandHandlerResult.FACTORY.convert(result);
+    }
+
+    private LoopBinding createLoopBinding() {
+        DataAccess access = dataAccess;
+        DataNode<?> list = listNode;
+        String as = asAttrValue;
+        if (source == DataPickerResult.ResultSource.MODEL && asAttributeType != AccessType.ACCESS_VARIABLE_BY_NAME) {
+            if (asAttributeType != AccessType.ACCESS_MODEL_BY_NAME && asAttributeType != AccessType.MISSING_ACCESS) {
+                Problems.UNEXPECTED_LOOP_CONDITION.fire();
+            }
+            String prefix = asAttributeType == AccessType.ACCESS_MODEL_BY_NAME ? as : null;
+            DataPath listPath = new DataPath(access.interpret(getValueStringAttr.interpretAttributes(attributes).get(), false).left);
+            DataPath pathBeforeLoop = access.getCurrentModelPath();
+            return new LoopBinding(access) {
+                @Override
+                protected void bindElement(int index) {
+                    access.setCurrentModelPath(new ActivePrefixDataPath(prefix, listPath.append(new IndexDataPathElement(index))));
+                }
+
+                @Override
+                protected void finish() {
+                    access.setCurrentModelPath(pathBeforeLoop);
+                }
+            };
+        }
+        if (source == DataPickerResult.ResultSource.UNKNOWN) {
+            Problems.UNEXPECTED_LOOP_CONDITION.fire();
+        }
+        return new LoopBinding(access) {
+            @Override
+            protected void bindElement(int index) {
+                access.pushVariable(as, list.getProperty(index));
+            }
+
+            @Override
+            protected void unbind() {
+                access.popVariable(as);
+                super.unbind();
+            }
+        };
+    }
+
+    private static abstract class LoopBinding {
+        protected final DataAccess access;
+
+        protected LoopBinding(DataAccess access) {
+            this.access = access;
+        }
+
+        protected abstract void bindElement(int index);
+
+        protected void bind(int index) {
+            bindElement(index);
+            access.pushVariable(INDEX, new NumberLeafDataNode(index));
+        }
+
+        protected void unbind() {
+            access.popVariable(INDEX);
+        }
+
+        protected void finish() {
+        }
+    }
+
     private ForModifierData createModifierData() {
         return new ForModifierData.AbstractForModifiedData(
                 new Pair<>(selection.getNode(), endNode),
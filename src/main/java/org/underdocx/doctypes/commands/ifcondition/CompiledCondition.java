@@ -0,0 +1,68 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.commands.ifcondition;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.underdocx.common.cache.Cache;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.commands.ifcondition.ast.ConditionElement;
+
+import java.util.function.Function;
+
+/**
+ * Immutable condition tree built by the {@link ConditionASTAttributeInterpreter}. Trees are cached by
+ * their JSON, so conditions inside loops are interpreted only once and comparison values are
+ * already converted to Java objects.
+ */
+public final class CompiledCondition {
+
+    private static final Cache<JsonNode, CompiledCondition> compiledConditions =
+            Cache.<JsonNode, CompiledCondition>builder("conditions").maxSize(1024).build();
+    private static final ConditionASTAttributeInterpreter astAttributeInterpreter = new ConditionASTAttributeInterpreter();
+
+    private final ConditionElement root;
+
+    private CompiledCondition(ConditionElement root) {
+        this.root = root;
+    }
+
+    public static CompiledCondition compile(JsonNode attributes) {
+        CompiledCondition result = compiledConditions.get(attributes);
+        if (result == null) {
+            // the cache keeps a copy of the key, the attributes may be changed later on
+            result = compiledConditions.get(attributes.deepCopy(),
+                    key -> new CompiledCondition(astAttributeInterpreter.interpretAttributes(key, null)));
+        }
+        return result;
+    }
+
+    public ConditionElement getRoot() {
+        return root;
+    }
+
+    public boolean eval(Function<Pair<String, Object>, Integer> comparator) {
+        return root.eval(comparator);
+    }
+}
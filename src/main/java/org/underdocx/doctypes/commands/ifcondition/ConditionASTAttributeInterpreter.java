@@ -26,16 +26,19 @@ package org.underdocx.doctypes.commands.ifcondition;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.common.codec.JsonCodec;
-import org.underdocx.common.tools.Convenience;
 import org.underdocx.doctypes.commands.ifcondition.ast.*;
 import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.environment.err.Problems;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Converts the if-related JSON attribute into an object structure that can be used to evaluate the expression
  */
 public class ConditionASTAttributeInterpreter implements AttributesInterpreter<ConditionElement, Void> {
 
+    private static final JsonCodec codec = new JsonCodec();
 
     @Override
     public ConditionElement interpretAttributes(JsonNode attributes, Void configuration) {
@@ -44,27 +47,28 @@ public class ConditionASTAttributeInterpreter implements AttributesInterpreter<C
         JsonNode fieldValue = attributes.get(fieldName);
         ConditionElement conditionElement;
         switch (fieldName) {
-            case "not" -> conditionElement = Convenience.also(new Not(), not -> appendChildren(fieldValue, not));
-            case "and" -> conditionElement = Convenience.also(new And(), and -> appendChildren(fieldValue, and));
-            case "or" -> conditionElement = Convenience.also(new Or(), or -> appendChildren(fieldValue, or));
+            case "not" -> conditionElement = new Not(interpretChildren(fieldValue));
+            case "and" -> conditionElement = new And(interpretChildren(fieldValue));
+            case "or" -> conditionElement = new Or(interpretChildren(fieldValue));
             case "less" -> conditionElement = new Less(fieldValue);
             case "greater" -> conditionElement = new Greater(fieldValue);
             case "lessOrEqual" -> conditionElement = new LessOrEqual(fieldValue);
             case "greaterOrEqual" -> conditionElement = new GreaterOrEqual(fieldValue);
-            default -> conditionElement = new BoolComparison(fieldName, new JsonCodec().getAsObject(fieldValue));
+            default -> conditionElement = new BoolComparison(fieldName, codec.getAsObject(fieldValue));
         }
         return conditionElement;
     }
 
 
-    private void appendChildren(JsonNode fieldValue, ConditionElement currentElement) {
+    private List<ConditionElement> interpretChildren(JsonNode fieldValue) {
+        List<ConditionElement> children = new ArrayList<>();
         if (fieldValue.isArray()) {
             for (int i = 0; i < fieldValue.size(); i++) {
-                currentElement.add(interpretAttributes(fieldValue.get(i), null));
+                children.add(interpretAttributes(fieldValue.get(i), null));
             }
         } else if (fieldValue.isContainerNode()) {
-            currentElement.add(interpretAttributes(fieldValue, null));
+            children.add(interpretAttributes(fieldValue, null));
         }
-
+        return children;
     }
 }
@@ -31,15 +31,13 @@ import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import java.util.function.Function;
 
 /**
- * A {@link AttributesInterpreter} that uses the {@link ConditionASTAttributeInterpreter}
- * to build an object structure and uses
- * a valueProvider function to evaluate the condition
+ * A {@link AttributesInterpreter} that uses the {@link CompiledCondition} of the attributes
+ * and a valueProvider function to evaluate the condition
  */
 public class ConditionAttributeInterpreter implements AttributesInterpreter<Boolean, Function<Pair<String, Object>, Integer>> {
-    private final ConditionASTAttributeInterpreter astAttributeInterpreter = new ConditionASTAttributeInterpreter();
 
     @Override
     public Boolean interpretAttributes(JsonNode attributes, Function<Pair<String, Object>, Integer> comparator) {
-        return astAttributeInterpreter.interpretAttributes(attributes, null).eval(comparator);
+        return CompiledCondition.compile(attributes).eval(comparator);
     }
 }
@@ -27,12 +27,18 @@ package org.underdocx.doctypes.commands.ifcondition.ast;
 import org.underdocx.common.types.Pair;
 import org.underdocx.environment.err.Problems;
 
+import java.util.List;
 import java.util.function.Function;
 
 public class And extends ConditionElement {
+
+    public And(List<ConditionElement> conditionElements) {
+        super(conditionElements);
+        Problems.INVALID_IF_CONDITION.checkNot(elements.isEmpty(), "and", null);
+    }
+
     @Override
     public boolean eval(Function<Pair<String, Object>, Integer> valueProvider) {
-        Problems.INVALID_IF_CONDITION.checkNot(elements.isEmpty(), "and", null);
         boolean result = true;
         for (ConditionElement element : elements) {
             if (!element.eval(valueProvider)) {
@@ -25,7 +25,6 @@ SOFTWARE.
 package org.underdocx.doctypes.commands.ifcondition.ast;
 
 import org.underdocx.common.types.Pair;
-import org.underdocx.environment.err.Problems;
 
 import java.util.function.Function;
 
@@ -41,7 +40,6 @@ public class BoolComparison extends ConditionElement {
 
     @Override
     public boolean eval(Function<Pair<String, Object>, Integer> comparator) {
-        Problems.INVALID_IF_CONDITION.check(elements.isEmpty(), path, null);
         return comparator.apply(new Pair<>(path, value)) == 0;
     }
 }
@@ -31,6 +31,8 @@ import org.underdocx.environment.err.Problems;
 import java.util.Map;
 
 public abstract class ComparableComparison extends ConditionElement {
+    private static final JsonCodec codec = new JsonCodec();
+
     protected final String innerKey;
     protected final Object innerValue;
 
@@ -39,7 +41,7 @@ public abstract class ComparableComparison extends ConditionElement {
         Problems.INVALID_IF_CONDITION.check(fieldValue.fields().hasNext(), "less", null);
         Map.Entry<String, JsonNode> innerKeyValuePair = fieldValue.fields().next();
         innerKey = innerKeyValuePair.getKey();
-        innerValue = new JsonCodec().getAsObject(innerKeyValuePair.getValue());
+        innerValue = codec.getAsObject(innerKeyValuePair.getValue());
     }
 
 
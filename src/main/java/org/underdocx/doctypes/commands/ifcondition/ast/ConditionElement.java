@@ -24,30 +24,27 @@ SOFTWARE.
 
 package org.underdocx.doctypes.commands.ifcondition.ast;
 
-import org.underdocx.common.tools.Convenience;
 import org.underdocx.common.types.Pair;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * Immutable node of a compiled condition, the tree can be shared and evaluated concurrently
+ */
 public abstract class ConditionElement {
     public final List<ConditionElement> elements;
 
     public ConditionElement(ConditionElement conditionElement) {
-        this.elements = Convenience.buildList(result -> result.add(conditionElement));
+        this.elements = List.of(conditionElement);
     }
 
     public ConditionElement(List<ConditionElement> conditionElements) {
-        this.elements = conditionElements;
+        this.elements = List.copyOf(conditionElements);
     }
 
     public ConditionElement() {
-        this.elements = new ArrayList<>();
-    }
-
-    public void add(ConditionElement conditionElement) {
-        this.elements.add(conditionElement);
+        this.elements = List.of();
     }
 
     public abstract boolean eval(Function<Pair<String, Object>, Integer> comparator);
@@ -27,12 +27,18 @@ package org.underdocx.doctypes.commands.ifcondition.ast;
 import org.underdocx.common.types.Pair;
 import org.underdocx.environment.err.Problems;
 
+import java.util.List;
 import java.util.function.Function;
 
 public class Not extends ConditionElement {
+
+    public Not(List<ConditionElement> conditionElements) {
+        super(conditionElements);
+        Problems.INVALID_IF_CONDITION.check(elements.size() == 1, "not", null);
+    }
+
     @Override
     public boolean eval(Function<Pair<String, Object>, Integer> valueProvider) {
-        Problems.INVALID_IF_CONDITION.check(elements.size() == 1, "not", null);
         return !elements.get(0).eval(valueProvider);
     }
 }
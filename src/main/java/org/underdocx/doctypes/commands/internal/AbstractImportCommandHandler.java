@@ -24,6 +24,7 @@ SOFTWARE.
 
 package org.underdocx.doctypes.commands.internal;
 
+import org.underdocx.common.cache.ResourceCache;
 import org.underdocx.common.types.Regex;
 import org.underdocx.common.types.Resource;
 import org.underdocx.doctypes.DocContainer;
@@ -33,9 +34,11 @@ import org.underdocx.doctypes.tools.datapicker.BooleanDataPicker;
 import org.underdocx.doctypes.tools.datapicker.PredefinedDataPicker;
 import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problems;
 
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Implementation of the {{Import uri/data}} command.
@@ -51,8 +54,15 @@ public abstract class AbstractImportCommandHandler<C extends DocContainer<D>, D>
         super(KEYS, modifiers);
     }
 
+    /**
+     * @deprecated not filled anymore, imported data is kept in {@link ResourceCache}
+     */
+    @Deprecated
     protected final HashMap<String, byte[]> cache = new HashMap<>();
 
+    // sources read during this run, the shared cache is consulted once per identifier
+    private final Map<String, ResourceCache.Entry> sources = new HashMap<>();
+
     @Override
     protected CommandHandlerResult tryExecuteTextualCommand() {
         Resource resource = new ResourceCommandModule<C, ParametersPlaceholderData, D>(placeholderData.getJson()).execute(selection);
@@ -64,21 +74,23 @@ public abstract class AbstractImportCommandHandler<C extends DocContainer<D>, D>
     protected abstract CommandHandlerResult doImport(String identifier, C importDoc);
 
     private C getDoc(final Resource resource, boolean useCache) {
-        String resourceId = resource.getIdentifier();
-        byte[] data = cache.get(resourceId);
-        if (data != null) {
-            return Problems.IO_EXCEPTION.exec(() -> createContainer(data));
+        if (useCache) {
+            ResourceCache.Entry source = sources.computeIfAbsent(resource.getIdentifier(),
+                    identifier -> Problems.IO_EXCEPTION.exec(() -> ResourceCache.INSTANCE.get(resource)));
+            UnderdocxEnv.getInstance().metrics.bytesImported(source.getData().length);
+            return Problems.IO_EXCEPTION.exec(() -> copyContainer(source));
         } else {
-            if (useCache) {
-                final byte[] cacheData = Problems.IO_EXCEPTION.exec(resource::getData);
-                cache.put(resourceId, cacheData);
-                return Problems.IO_EXCEPTION.exec(() -> createContainer(cacheData));
-            } else {
-                return Problems.IO_EXCEPTION.exec(() -> createContainer(resource));
-            }
+            return Problems.IO_EXCEPTION.exec(() -> createContainer(resource));
         }
     }
 
+    /**
+     * @return a new document with the content of the cached source, the import is free to modify it
+     */
+    protected C copyContainer(ResourceCache.Entry source) throws Exception {
+        return createContainer(source.getData());
+    }
+
     protected abstract C createContainer(Resource resource) throws Exception;
 
     protected abstract C createContainer(byte[] data) throws Exception;
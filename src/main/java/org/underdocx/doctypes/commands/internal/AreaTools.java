@@ -44,10 +44,10 @@ public class AreaTools {
             if (beginningNodeFilter.test(pNode)) {
                 counter++;
             } else if (endingNodeFilter.test(pNode)) {
-                counter--;
                 if (counter <= 0) {
                     return Optional.of(new Pair<>(startArea, pNode));
                 }
+                counter--;
             }
         }
         return Optional.empty();
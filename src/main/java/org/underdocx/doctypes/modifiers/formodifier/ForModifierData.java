@@ -35,8 +35,17 @@ public interface ForModifierData extends AreaModifierData {
 
     int getRepeats();
 
+    /**
+     * @return placeholders replacing the begin and end node of the repeated area, null keeps the node
+     */
     Pair<List<ParametersPlaceholderData>, List<ParametersPlaceholderData>> getNodeReplacement(int index);
 
+    /**
+     * Called with the begin and end nodes of all repeated areas before they are replaced
+     */
+    default void areasCreated(List<Pair<Node, Node>> areas) {
+    }
+
     abstract class AbstractForModifiedData extends BaseAreaModifierData implements ForModifierData {
 
         private final int max;
@@ -33,6 +33,7 @@ import org.underdocx.doctypes.modifiers.ModifiersProvider;
 import org.underdocx.doctypes.modifiers.internal.AbstractAreaModifier;
 import org.underdocx.enginelayers.baseengine.ModifierNodeResult;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.underdocx.environment.UnderdocxEnv;
 import org.w3c.dom.Node;
 
 import java.util.ArrayList;
@@ -58,6 +59,7 @@ public class ForMofifier<C extends DocContainer<D>, D> extends AbstractAreaModif
         modifierResult = null;
         this.areaNodes = getAreaNodes();
         List<Pair<Node, Node>> areas = createAreas();
+        modifierData.areasCreated(areas);
         replaceBeginEndNodes(areas);
         return modifierResult;
     }
@@ -73,7 +75,10 @@ public class ForMofifier<C extends DocContainer<D>, D> extends AbstractAreaModif
     }
 
     private void replaceBorderNode(Node node, List<ParametersPlaceholderData> replacements) {
-        if (replacements == null || replacements.size() == 0) {
+        if (replacements == null) {
+            return;
+        }
+        if (replacements.isEmpty()) {
             Nodes.deleteNode(node);
         } else {
             List<Node> nodes = TextualPlaceholderToolkit.clonePlaceholder(node, replacements.size());
@@ -108,6 +113,7 @@ public class ForMofifier<C extends DocContainer<D>, D> extends AbstractAreaModif
 
     private Pair<Node, Node> cloneArea(Node refNode) {
         List<Node> clonedNodes = Nodes.cloneNodes(refNode, areaNodes, false, true);
+        UnderdocxEnv.getInstance().metrics.nodesCloned(getClass(), clonedNodes.size());
         return new Pair<>(clonedNodes.get(0), clonedNodes.get(clonedNodes.size() - 1));
     }
 }
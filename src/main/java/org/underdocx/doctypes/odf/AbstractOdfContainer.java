@@ -29,9 +29,9 @@ import org.odftoolkit.odfdom.doc.OdfDocument;
 import org.odftoolkit.odfdom.dom.OdfContentDom;
 import org.odftoolkit.odfdom.dom.OdfStylesDom;
 import org.odftoolkit.odfdom.pkg.OdfElement;
-import org.underdocx.common.types.Regex;
 import org.underdocx.common.types.Resource;
 import org.underdocx.doctypes.AbstractDocContainer;
+import org.underdocx.doctypes.odf.tools.pdf.PdfConverterPool;
 import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problems;
 import org.xml.sax.SAXException;
@@ -39,11 +39,8 @@ import org.xml.sax.SAXException;
 import java.awt.*;
 import java.io.*;
 import java.net.URI;
-import java.util.Scanner;
 
 public abstract class AbstractOdfContainer<T extends OdfDocument> extends AbstractDocContainer<T> {
-    private static final Object lock = new Object();
-
     public AbstractOdfContainer() {
         super();
     }
@@ -90,31 +87,9 @@ public abstract class AbstractOdfContainer<T extends OdfDocument> extends Abstra
 
     public void writePDF(OutputStream os) throws IOException {
         try {
-            String libreOffice = Problems.LIBREOFFICE_ENV_NOT_SET.notNull(UnderdocxEnv.getInstance().libreOfficeExecutable, "LIBREOFFICE");
             File tmpOdtFile = this.createTmpFile(1000L * 60L * 5L);
             save(tmpOdtFile);
-            File tmpDir = tmpOdtFile.getParentFile();
-            String tmpOdtFileName = tmpOdtFile.getName();
-            ProcessBuilder processBuilder = new ProcessBuilder(libreOffice, "--headless", "--convert-to", "pdf", tmpOdtFileName);
-            processBuilder.directory(tmpDir);
-            processBuilder.redirectErrorStream(true);
-            if (UnderdocxEnv.getInstance().libreOfficeHomePath != null && !UnderdocxEnv.getInstance().libreOfficeHomePath.isBlank()) {
-                processBuilder.environment().put("HOME", UnderdocxEnv.getInstance().libreOfficeHomePath);
-            }
-            synchronized (lock) {
-                Process process = processBuilder.start();
-                Scanner scanner = new Scanner(process.getInputStream());
-                StringBuilder output = new StringBuilder();
-                while (scanner.hasNext()) {
-                    output.append(scanner.nextLine()).append("\n");
-                }
-                scanner.close();
-                int exitCode = process.waitFor();
-                UnderdocxEnv.getInstance().logger.info("PDF generation execution, error code: " + exitCode + " output: " + output);
-            }
-            String pdfFileName = new Regex("." + getFileExtension()).replaceAll(tmpOdtFileName, ".pdf");
-
-            File pdfFile = new File(tmpDir.getAbsolutePath() + "/" + pdfFileName);
+            File pdfFile = PdfConverterPool.getDefault().convert(tmpOdtFile);
             pdfFile.deleteOnExit();
             try (FileInputStream fis = new FileInputStream(pdfFile)) {
                 UnderdocxEnv.getInstance().logger.info("Copying pdf file data to outputStream");
@@ -37,6 +37,8 @@ import org.underdocx.enginelayers.modelengine.MCommandHandler;
 import org.underdocx.enginelayers.modelengine.ModelEngine;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
 
+import java.util.function.Supplier;
+
 public abstract class AbstractOdfEngine<C extends AbstractOdfContainer<D>, D extends OdfDocument> extends AbstractEngine<C, D> implements EngineAPI<C, D> {
 
     protected final OdfModifiersProvider<C, D> modifiers = new OdfModifiersProvider<>();
@@ -66,10 +68,15 @@ public abstract class AbstractOdfEngine<C extends AbstractOdfContainer<D>, D ext
     }
 
 
+    @Deprecated
     public void registerParametersCommandHandler(MCommandHandler<C, ParametersPlaceholderData, D> commandHandler) {
         this.getEngine().registerCommandHandler(parameters, commandHandler);
     }
 
+    public void registerParametersCommandHandler(Supplier<? extends MCommandHandler<C, ParametersPlaceholderData, D>> commandHandler) {
+        this.getEngine().registerCommandHandler(parameters, commandHandler);
+    }
+
     public ModifiersProvider<C, D> getModifiers() {
         return modifiers;
     }
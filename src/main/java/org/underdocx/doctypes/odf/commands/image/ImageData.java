@@ -27,17 +27,16 @@ package org.underdocx.doctypes.odf.commands.image;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.odftoolkit.odfdom.doc.OdfDocument;
 import org.odftoolkit.odfdom.dom.element.svg.SvgDescElement;
-import org.odftoolkit.odfdom.pkg.OdfPackage;
 import org.underdocx.common.types.Pair;
 import org.underdocx.common.types.Resource;
 import org.underdocx.doctypes.odf.constants.OdfElement;
+import org.underdocx.doctypes.odf.tools.PackageMedia;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderCodec;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
 import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Node;
 
-import java.io.InputStream;
 import java.util.Optional;
 
 public abstract class ImageData {
@@ -126,15 +125,10 @@ public abstract class ImageData {
 
     public Pair<String, String> store(Resource resource, OdfDocument doc) {
         String fileName = getFile(resource.getIdentifier());
-        String packageName = "Pictures/" + fileName;
         String mimeType = Problems.RESOURCE_WITHOUT_REQUIRED_MIMETYPE.get(resource.getMimeType(), "MIME Type");
-        InputStream data = Problems.IO_EXCEPTION.exec(resource::openStream);
-        OdfPackage pack = doc.getPackage();
-        if (pack.contains(packageName)) {
-            UnderdocxEnv.getInstance().logger.trace("Image " + fileName + " found in " + packageName);
-        } else {
-            Problems.IO_EXCEPTION.run(() -> pack.insert(data, packageName, mimeType));
-        }
+        byte[] data = Problems.IO_EXCEPTION.exec(resource::getData);
+        String packageName = PackageMedia.of(doc.getPackage()).store(data, PackageMedia.PICTURES + fileName, mimeType);
+        UnderdocxEnv.getInstance().logger.trace(() -> "Image " + fileName + " stored as " + packageName);
         return new Pair<>(fileName, packageName);
     }
 }
@@ -29,7 +29,7 @@ import org.odftoolkit.odfdom.dom.element.text.TextPElement;
 import org.underdocx.common.placeholder.TextualPlaceholderToolkit;
 import org.underdocx.common.tools.Convenience;
 import org.underdocx.common.tree.Nodes;
-import org.underdocx.common.tree.TreeWalker;
+import org.underdocx.common.tree.TreeCursor;
 import org.underdocx.common.types.Pair;
 import org.underdocx.doctypes.DocContainer;
 import org.underdocx.doctypes.modifiers.ModifiersProvider;
@@ -39,6 +39,7 @@ import org.underdocx.doctypes.odf.constants.OdfElement;
 import org.underdocx.doctypes.odf.modifiers.deleteplaceholder.OdfDeletePlaceholderModifier;
 import org.underdocx.enginelayers.baseengine.ModifierNodeResult;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Node;
 
@@ -108,6 +109,7 @@ public class OdfForListModifier<C extends DocContainer<D>, D> extends AbstractAr
                     last = clone;
                     result.add(clone);
                 }
+                UnderdocxEnv.getInstance().metrics.nodesCloned(getClass(), requiredNumberOfListItems - 1);
             });
         }
     }
@@ -122,18 +124,18 @@ public class OdfForListModifier<C extends DocContainer<D>, D> extends AbstractAr
         int searchedIndex = modifierData.getListItemIndex();
         return Convenience.buildOptional(result -> {
             int count = 1;
-            TreeWalker treeWalker = new TreeWalker(list, list);
-            TreeWalker.VisitState currentState = treeWalker.next();
-            while (currentState != null && count <= searchedIndex) {
-                if (currentState.isBeginVisit() && OdfElement.LIST_ITEM.is(currentState.getNode())) {
+            TreeCursor cursor = new TreeCursor(list, list);
+            boolean visiting = cursor.next();
+            while (visiting && count <= searchedIndex) {
+                if (cursor.isBeginVisit() && OdfElement.LIST_ITEM.is(cursor.getNode())) {
                     if (count == searchedIndex) {
-                        result.value = currentState.getNode();
+                        result.value = cursor.getNode();
                         break;
                     }
                     count++;
-                    currentState = treeWalker.nextSkipChildren();
+                    visiting = cursor.nextSkipChildren();
                 } else {
-                    currentState = treeWalker.next();
+                    visiting = cursor.next();
                 }
             }
         });
@@ -30,7 +30,7 @@ import org.underdocx.common.codec.IntCodec;
 import org.underdocx.common.placeholder.TextualPlaceholderToolkit;
 import org.underdocx.common.tools.Convenience;
 import org.underdocx.common.tree.Nodes;
-import org.underdocx.common.tree.TreeWalker;
+import org.underdocx.common.tree.TreeCursor;
 import org.underdocx.common.types.Pair;
 import org.underdocx.common.types.Range;
 import org.underdocx.doctypes.DocContainer;
@@ -43,6 +43,7 @@ import org.underdocx.doctypes.odf.modifiers.deleteplaceholder.OdfDeletePlacehold
 import org.underdocx.doctypes.odf.tools.OdfTables;
 import org.underdocx.enginelayers.baseengine.ModifierNodeResult;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -108,8 +109,8 @@ public class OdfForRowsModifier<C extends DocContainer<D>, D> extends AbstractAr
     }
 
     private TableTableCellElement getLastCellOfRow(Node row) {
-        List<Node> cells = Nodes.findDescendantNodes(row, OdfElement.TABLE_CELL.createFilter(), true);
-        return (TableTableCellElement) cells.get(cells.size() - 1);
+        return (TableTableCellElement) Convenience.<Node>build(result ->
+                Nodes.findDescendantNodes(row, OdfElement.TABLE_CELL.createFilter(), true, cell -> result.value = cell));
     }
 
     private List<Node> cloneRows() {
@@ -133,6 +134,7 @@ public class OdfForRowsModifier<C extends DocContainer<D>, D> extends AbstractAr
                     last = clone;
                     result.add(clone);
                 }
+                UnderdocxEnv.getInstance().metrics.nodesCloned(getClass(), requiredNumberOfRows - originRows.size());
             });
         }
     }
@@ -148,19 +150,19 @@ public class OdfForRowsModifier<C extends DocContainer<D>, D> extends AbstractAr
 
         int maxRows = range.getMax();
         int count = 1;
-        TreeWalker treeWalker = new TreeWalker(table, table);
-        TreeWalker.VisitState currentState = treeWalker.next();
-        while (currentState != null && count <= maxRows) {
-            if (currentState.isBeginVisit() && OdfElement.TABLE_ROW.is(currentState.getNode())) {
-                String repeatStr = OdfAttribute.TABLE_NUMBER_ROWS_REPEATED.getAttributeNS(((Element) currentState.getNode()));
+        TreeCursor cursor = new TreeCursor(table, table);
+        boolean visiting = cursor.next();
+        while (visiting && count <= maxRows) {
+            if (cursor.isBeginVisit() && OdfElement.TABLE_ROW.is(cursor.getNode())) {
+                String repeatStr = OdfAttribute.TABLE_NUMBER_ROWS_REPEATED.getAttributeNS(((Element) cursor.getNode()));
                 int repeat = IntCodec.DEFAULT.tryParse(repeatStr).orElse(1);
                 if (repeat > 1 && range.contains(count) || range.contains(count + repeat)) {
-                    rowsToUnrepeat.put(currentState.getNode(), repeat);
+                    rowsToUnrepeat.put(cursor.getNode(), repeat);
                 }
                 count = count + repeat;
-                currentState = treeWalker.nextSkipChildren();
+                visiting = cursor.nextSkipChildren();
             } else {
-                currentState = treeWalker.next();
+                visiting = cursor.next();
             }
         }
 
@@ -170,6 +172,7 @@ public class OdfForRowsModifier<C extends DocContainer<D>, D> extends AbstractAr
                 Node clone = node.cloneNode(true);
                 node.getParentNode().insertBefore(clone, node);
             }
+            UnderdocxEnv.getInstance().metrics.nodesCloned(getClass(), repeats - 1);
         });
 
     }
@@ -180,17 +183,17 @@ public class OdfForRowsModifier<C extends DocContainer<D>, D> extends AbstractAr
         return Convenience.buildList(result -> {
             int maxRows = repeatRows.getMax();
             int count = 1;
-            TreeWalker treeWalker = new TreeWalker(table, table);
-            TreeWalker.VisitState currentState = treeWalker.next();
-            while (currentState != null && count <= maxRows) {
-                if (currentState.isBeginVisit() && OdfElement.TABLE_ROW.is(currentState.getNode())) {
+            TreeCursor cursor = new TreeCursor(table, table);
+            boolean visiting = cursor.next();
+            while (visiting && count <= maxRows) {
+                if (cursor.isBeginVisit() && OdfElement.TABLE_ROW.is(cursor.getNode())) {
                     if (repeatRows.contains(count)) {
-                        result.add(currentState.getNode());
+                        result.add(cursor.getNode());
                     }
                     count++;
-                    currentState = treeWalker.nextSkipChildren();
+                    visiting = cursor.nextSkipChildren();
                 } else {
-                    currentState = treeWalker.next();
+                    visiting = cursor.next();
                 }
             }
         });
@@ -48,19 +48,19 @@ public class OdfExistingImageModifier<C extends AbstractOdfContainer<D>, D exten
         importImageWidthHeight = CachedImageSize.getDimension(resource);
         placeholder.exchangeImage(resource, selection.getDocContainer().getDocument());
 
-        UnderdocxEnv.getInstance().logger.trace("new image dimension; " + importImageWidthHeight);
+        UnderdocxEnv.getInstance().logger.trace(() -> "new image dimension; " + importImageWidthHeight);
         if (modifierData.getKeepWidth() != null) {
             if (modifierData.getKeepWidth()) {
                 OdfLengthUnit newHeightUnit = placeholder.getWidthUnit();
-                UnderdocxEnv.getInstance().logger.trace("template image width to keep: " + placeholder.getWidthValue());
+                UnderdocxEnv.getInstance().logger.trace(() -> "template image width to keep: " + placeholder.getWidthValue());
                 double height = placeholder.getWidthValue() * importImageWidthHeight.right / importImageWidthHeight.left;
-                UnderdocxEnv.getInstance().logger.trace("calculated height: " + height);
+                UnderdocxEnv.getInstance().logger.trace(() -> "calculated height: " + height);
                 placeholder.setHeight(height, newHeightUnit);
             } else {
                 OdfLengthUnit newWidthUnit = placeholder.getHeightUnit();
-                UnderdocxEnv.getInstance().logger.trace("template image height to keep: " + placeholder.getHeightValue());
+                UnderdocxEnv.getInstance().logger.trace(() -> "template image height to keep: " + placeholder.getHeightValue());
                 double width = placeholder.getHeightValue() * importImageWidthHeight.left / importImageWidthHeight.right;
-                UnderdocxEnv.getInstance().logger.trace("calculated width: " + width);
+                UnderdocxEnv.getInstance().logger.trace(() -> "calculated width: " + width);
                 placeholder.setWidth(width, newWidthUnit);
             }
         }
@@ -24,29 +24,24 @@ SOFTWARE.
 
 package org.underdocx.doctypes.odf.modifiers.images.tools;
 
-import org.underdocx.common.cache.SelfClearingCache;
+import org.underdocx.common.cache.Cache;
+import org.underdocx.common.tools.StringHash;
 import org.underdocx.common.types.Pair;
 import org.underdocx.common.types.Resource;
 import org.underdocx.environment.err.Problems;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
-
+/**
+ * Image dimensions read by the {@link ImageSizeProbe}, cached by content hash
+ */
 public class CachedImageSize {
 
+    private static final Cache<String, Pair<Double, Double>> dimensionCache =
+            Cache.<String, Pair<Double, Double>>builder("imageSizes").maxSize(1024).build();
+
     public static Pair<Double, Double> getDimension(Resource data) {
-        String resourceIdentifier = data.getIdentifier();
-        Pair<Double, Double> result = dimensionCache.getOrCache(resourceIdentifier, () -> {
-            try {
-                BufferedImage bufferedImage = ImageIO.read(data.openStream());
-                return new Pair<>((double) bufferedImage.getWidth(), (double) bufferedImage.getHeight());
-            } catch (IOException e) {
-                return Problems.IO_EXCEPTION.fire(e);
-            }
-        });
-        return result;
+        byte[] bytes = Problems.IO_EXCEPTION.exec(data::getData);
+        Pair<Double, Double> result = dimensionCache.get(StringHash.createStringHash128(bytes), hash ->
+                Problems.INVALID_VALUE.get(ImageSizeProbe.probe(bytes), data.getIdentifier()));
+        return new Pair<>(result.left, result.right);
     }
-
-    private static final SelfClearingCache<String, Pair<Double, Double>> dimensionCache = new SelfClearingCache<>(1000);
 }
@@ -0,0 +1,186 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.odf.modifiers.images.tools;
+
+import org.underdocx.common.types.Pair;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads width and height of an image from its header without decoding the pixels.
+ * PNG, JPEG, GIF, BMP and SVG are parsed directly, other formats are asked via {@link ImageReader}.
+ */
+public class ImageSizeProbe {
+
+    private static final int SVG_HEADER_LENGTH = 16 * 1024;
+    private static final Pattern SVG_TAG = Pattern.compile("<svg\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SVG_VIEWBOX = Pattern.compile("viewBox\\s*=\\s*[\"']\\s*[-+\\d.eE]+[\\s,]+[-+\\d.eE]+[\\s,]+([\\d.eE+]+)[\\s,]+([\\d.eE+]+)\\s*[\"']");
+    private static final Pattern SVG_WIDTH = Pattern.compile("\\swidth\\s*=\\s*[\"']\\s*([\\d.]+)\\s*(px)?\\s*[\"']");
+    private static final Pattern SVG_HEIGHT = Pattern.compile("\\sheight\\s*=\\s*[\"']\\s*([\\d.]+)\\s*(px)?\\s*[\"']");
+
+    private ImageSizeProbe() {
+    }
+
+    public static Optional<Pair<Double, Double>> probe(byte[] data) {
+        Pair<Double, Double> result = null;
+        if (isPng(data)) {
+            result = dimension(readIntBE(data, 16), readIntBE(data, 20));
+        } else if (isGif(data)) {
+            result = dimension(readShortLE(data, 6), readShortLE(data, 8));
+        } else if (isBmp(data)) {
+            result = dimension(readIntLE(data, 18), Math.abs(readIntLE(data, 22)));
+        } else if (isJpeg(data)) {
+            result = probeJpeg(data);
+        } else {
+            result = probeSvg(data);
+        }
+        if (result == null) {
+            result = probeImageReader(data);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    private static boolean startsWith(byte[] data, int... signature) {
+        if (data.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((data[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPng(byte[] data) {
+        return data.length >= 24 && startsWith(data, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+    }
+
+    private static boolean isGif(byte[] data) {
+        return data.length >= 10 && startsWith(data, 'G', 'I', 'F', '8');
+    }
+
+    private static boolean isBmp(byte[] data) {
+        return data.length >= 26 && startsWith(data, 'B', 'M') && readIntLE(data, 14) >= 40;
+    }
+
+    private static boolean isJpeg(byte[] data) {
+        return startsWith(data, 0xFF, 0xD8);
+    }
+
+    private static Pair<Double, Double> probeJpeg(byte[] data) {
+        int pos = 2;
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) {
+                return null;
+            }
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                pos += 2;
+                continue;
+            }
+            int length = readShortBE(data, pos + 2);
+            boolean startOfFrame = marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+            if (startOfFrame && pos + 9 <= data.length) {
+                return dimension(readShortBE(data, pos + 7), readShortBE(data, pos + 5));
+            }
+            if (marker == 0xD9 || marker == 0xDA || length < 2) {
+                return null;
+            }
+            pos += 2 + length;
+        }
+        return null;
+    }
+
+    private static Pair<Double, Double> probeSvg(byte[] data) {
+        String header = new String(data, 0, Math.min(data.length, SVG_HEADER_LENGTH), StandardCharsets.UTF_8);
+        Matcher tag = SVG_TAG.matcher(header);
+        if (!tag.find()) {
+            return null;
+        }
+        String svg = tag.group();
+        Matcher width = SVG_WIDTH.matcher(svg);
+        Matcher height = SVG_HEIGHT.matcher(svg);
+        if (width.find() && height.find()) {
+            return dimension(Double.parseDouble(width.group(1)), Double.parseDouble(height.group(1)));
+        }
+        Matcher viewBox = SVG_VIEWBOX.matcher(svg);
+        if (viewBox.find()) {
+            return dimension(Double.parseDouble(viewBox.group(1)), Double.parseDouble(viewBox.group(2)));
+        }
+        return null;
+    }
+
+    private static Pair<Double, Double> probeImageReader(byte[] data) {
+        try (ImageInputStream is = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = is == null ? null : ImageIO.getImageReaders(is);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(is, true, true);
+                return dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Pair<Double, Double> dimension(double width, double height) {
+        return width > 0 && height > 0 ? new Pair<>(width, height) : null;
+    }
+
+    private static int readIntBE(byte[] data, int pos) {
+        return ((data[pos] & 0xFF) << 24) | ((data[pos + 1] & 0xFF) << 16) | ((data[pos + 2] & 0xFF) << 8) | (data[pos + 3] & 0xFF);
+    }
+
+    private static int readIntLE(byte[] data, int pos) {
+        return ((data[pos + 3] & 0xFF) << 24) | ((data[pos + 2] & 0xFF) << 16) | ((data[pos + 1] & 0xFF) << 8) | (data[pos] & 0xFF);
+    }
+
+    private static int readShortBE(byte[] data, int pos) {
+        return ((data[pos] & 0xFF) << 8) | (data[pos + 1] & 0xFF);
+    }
+
+    private static int readShortLE(byte[] data, int pos) {
+        return ((data[pos + 1] & 0xFF) << 8) | (data[pos] & 0xFF);
+    }
+}
@@ -47,6 +47,8 @@ import java.util.Optional;
 
 public class OdfTableCellModifier<C extends DocContainer<D>, D> implements SelectionModifier<MSelection<C, ParametersPlaceholderData, D>, TableCellModifierData, ModifierResult> {
 
+    private static final DateTimeFormatter TIME_VALUE_FORMAT = DateTimeFormatter.ofPattern("'PT'HH'H'mm'M'ss'S'");
+    private static final DateTimeFormatter DATE_VALUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     @Override
     public ModifierResult modify(MSelection<C, ParametersPlaceholderData, D> selection, TableCellModifierData modifierData) {
@@ -63,9 +65,9 @@ public class OdfTableCellModifier<C extends DocContainer<D>, D> implements Selec
         String styleName = Problems.MISSING_VALUE.get(OdfTables.getCellStyle(templatePair), "style of template table cell");
         Node template = Problems.MISSING_VALUE.notNull(templatePair.right, "template table cell");
         if (value instanceof LocalDateTime time) {
-            OdfAttribute.OFFICE_TIME_VALUE.setAttributeNS(cell, DateTimeFormatter.ofPattern("'PT'HH'H'mm'M'ss'S'").format(time));
+            OdfAttribute.OFFICE_TIME_VALUE.setAttributeNS(cell, TIME_VALUE_FORMAT.format(time));
         } else if (value instanceof LocalDate date) {
-            OdfAttribute.OFFICE_DATE_VALUE.setAttributeNS(cell, DateTimeFormatter.ofPattern("yyyy-MM-dd").format(date));
+            OdfAttribute.OFFICE_DATE_VALUE.setAttributeNS(cell, DATE_VALUE_FORMAT.format(date));
         } else if (value instanceof Number number) {
             OdfAttribute.OFFICE_VALUE.setAttributeNS(cell, String.valueOf(number.doubleValue()));
         } else if (value instanceof String) {
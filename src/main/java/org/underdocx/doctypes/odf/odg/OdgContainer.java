@@ -93,21 +93,25 @@ public class OdgContainer extends AbstractOdfContainer<OdfGraphicsDocument> {
 
     @Override
     public void load(InputStream is) throws IOException {
+        long startTime = UnderdocxEnv.getInstance().metrics.startTiming();
         try {
             setDocument(OdfGraphicsDocument.loadDocument(is));
         } catch (Exception e) {
             throw new IOException(e);
         }
+        UnderdocxEnv.getInstance().metrics.documentLoaded(getClass(), startTime);
     }
 
 
     @Override
     public void save(OutputStream os) throws IOException {
+        long startTime = UnderdocxEnv.getInstance().metrics.startTiming();
         try {
             getDocument().save(os);
         } catch (Exception e) {
             throw new IOException(e);
         }
+        UnderdocxEnv.getInstance().metrics.documentSaved(getClass(), startTime);
     }
 
     public void appendText(String text) {
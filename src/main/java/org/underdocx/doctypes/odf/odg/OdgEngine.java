@@ -26,6 +26,8 @@ package org.underdocx.doctypes.odf.odg;
 
 import org.odftoolkit.odfdom.doc.OdfGraphicsDocument;
 import org.underdocx.doctypes.commands.*;
+import org.underdocx.doctypes.commands.AliasCommandHandler;
+import org.underdocx.doctypes.commands.MultiCommandHandler;
 import org.underdocx.doctypes.odf.AbstractOdfEngine;
 import org.underdocx.doctypes.odf.commands.*;
 import org.underdocx.doctypes.odf.commands.forcommand.ForListCommandHandler;
@@ -53,38 +55,38 @@ public class OdgEngine extends AbstractOdfEngine<OdgContainer, OdfGraphicsDocume
     }
 
     protected void registerDefaultCommandHandlers() {
-        engine.registerCommandHandler(parameters, new IgnoreCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ModelCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new StringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ShortModelStringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ShortVarStringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new VariableCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ForCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdfDateCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdfTimeCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CounterCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new IfCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ForRowsCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new IgnoreCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ModelCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new StringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ShortModelStringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ShortVarStringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new VariableCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ForCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfDateCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfTimeCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CounterCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new IfCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ForRowsCommandHandler<>(modifiers));
         if (!UnderdocxEnv.getInstance().disableImagePlaceholderProvider) {
-            engine.registerCommandHandler(imagePlaceholdersProvider, new ImageCommandHandler<>(modifiers));
+            engine.registerCommandHandler(imagePlaceholdersProvider, () -> new ImageCommandHandler<>(modifiers));
         }
-        engine.registerCommandHandler(parameters, new ForListCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdgOdpPageStyleCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, multiCommandHandler);
-        engine.registerCommandHandler(parameters, new JoinCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new DeleteNodesEodHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, aliasCommandHandler);
-        engine.registerCommandHandler(parameters, new OdgImportCommandHandler(modifiers));
-        engine.registerCommandHandler(parameters, new OdfNumberCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new RemoveCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdfCloneCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ConcatCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CalcCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CreateCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CopyCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CreateImageCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdgExportCommandHandler(modifiers));
-        engine.registerCommandHandler(parameters, new ReplaceCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ForListCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdgOdpPageStyleCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new MultiCommandHandler<>(multiCommandHandler));
+        engine.registerCommandHandler(parameters, () -> new JoinCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new DeleteNodesEodHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new AliasCommandHandler<>(aliasCommandHandler));
+        engine.registerCommandHandler(parameters, () -> new OdgImportCommandHandler(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfNumberCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new RemoveCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfCloneCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ConcatCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CalcCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CreateCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CopyCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CreateImageCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdgExportCommandHandler(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ReplaceCommandHandler<>(modifiers));
     }
 
     @Override
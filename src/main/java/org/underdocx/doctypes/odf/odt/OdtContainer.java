@@ -100,21 +100,25 @@ public class OdtContainer extends AbstractOdfContainer<OdfTextDocument> {
 
     @Override
     public void load(InputStream is) throws IOException {
+        long startTime = UnderdocxEnv.getInstance().metrics.startTiming();
         try {
             setDocument(OdfTextDocument.loadDocument(is));
         } catch (Exception e) {
             throw new IOException(e);
         }
+        UnderdocxEnv.getInstance().metrics.documentLoaded(getClass(), startTime);
     }
 
 
     @Override
     public void save(OutputStream os) throws IOException {
+        long startTime = UnderdocxEnv.getInstance().metrics.startTiming();
         try {
             getDocument().save(os);
         } catch (Exception e) {
             throw new IOException(e);
         }
+        UnderdocxEnv.getInstance().metrics.documentSaved(getClass(), startTime);
     }
 
     public void appendText(String content) {
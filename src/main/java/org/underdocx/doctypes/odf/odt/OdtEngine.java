@@ -26,6 +26,8 @@ package org.underdocx.doctypes.odf.odt;
 
 import org.odftoolkit.odfdom.doc.OdfTextDocument;
 import org.underdocx.doctypes.commands.*;
+import org.underdocx.doctypes.commands.AliasCommandHandler;
+import org.underdocx.doctypes.commands.MultiCommandHandler;
 import org.underdocx.doctypes.odf.AbstractOdfEngine;
 import org.underdocx.doctypes.odf.commands.*;
 import org.underdocx.doctypes.odf.commands.forcommand.ForListCommandHandler;
@@ -35,6 +37,7 @@ import org.underdocx.doctypes.odf.odt.commands.OdtImportCommandHandler;
 import org.underdocx.doctypes.odf.odt.commands.OdtPageStyleCommandHandler;
 import org.underdocx.doctypes.odf.odt.commands.UnderdocxCommandHandler;
 import org.underdocx.doctypes.odf.tools.placeholder.OdfDefaultPlaceholdersProviderFactory;
+import org.underdocx.doctypes.template.CompiledTemplate;
 import org.underdocx.doctypes.tools.placeholder.GenericTextualPlaceholdersProviderFactory;
 import org.underdocx.enginelayers.modelengine.ModelEngine;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
@@ -46,37 +49,37 @@ public class OdtEngine extends AbstractOdfEngine<OdtContainer, OdfTextDocument>
     private final ModelEngine<OdtContainer, OdfTextDocument> engine;
 
     protected void registerDefaultCommandHandlers() {
-        engine.registerCommandHandler(parameters, new IgnoreCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ModelCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new StringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ShortModelStringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ShortVarStringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new VariableCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ForCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdfDateCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdfTimeCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CounterCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new IfCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ForRowsCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdtImportCommandHandler(modifiers));
+        engine.registerCommandHandler(parameters, () -> new IgnoreCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ModelCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new StringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ShortModelStringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ShortVarStringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new VariableCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ForCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfDateCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfTimeCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CounterCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new IfCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ForRowsCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdtImportCommandHandler(modifiers));
         if (!UnderdocxEnv.getInstance().disableImagePlaceholderProvider) {
-            engine.registerCommandHandler(imagePlaceholdersProvider, new ImageCommandHandler<>(modifiers));
+            engine.registerCommandHandler(imagePlaceholdersProvider, () -> new ImageCommandHandler<>(modifiers));
         }
-        engine.registerCommandHandler(parameters, new ForListCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdtPageStyleCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdtExportCommandHandler(modifiers));
-        engine.registerCommandHandler(parameters, multiCommandHandler);
-        engine.registerCommandHandler(parameters, new JoinCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new DeleteNodesEodHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new UnderdocxCommandHandler(modifiers));
-        engine.registerCommandHandler(parameters, aliasCommandHandler);
-        engine.registerCommandHandler(parameters, new OdfNumberCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new RemoveCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new OdfCloneCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ConcatCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CalcCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CreateImageCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ReplaceCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ForListCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdtPageStyleCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdtExportCommandHandler(modifiers));
+        engine.registerCommandHandler(parameters, () -> new MultiCommandHandler<>(multiCommandHandler));
+        engine.registerCommandHandler(parameters, () -> new JoinCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new DeleteNodesEodHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new UnderdocxCommandHandler(modifiers));
+        engine.registerCommandHandler(parameters, () -> new AliasCommandHandler<>(aliasCommandHandler));
+        engine.registerCommandHandler(parameters, () -> new OdfNumberCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new RemoveCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new OdfCloneCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ConcatCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CalcCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CreateImageCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ReplaceCommandHandler<>(modifiers));
     }
 
     public OdtEngine() {
@@ -89,6 +92,13 @@ public class OdtEngine extends AbstractOdfEngine<OdtContainer, OdfTextDocument>
         registerDefaultCommandHandlers();
     }
 
+    /**
+     * Analyzes the template once to render it many times, see {@link CompiledTemplate}
+     */
+    public static CompiledTemplate<OdtContainer, OdfTextDocument> compile(OdtContainer template) {
+        return CompiledTemplate.compile(template, OdtContainer::new, new OdfDefaultPlaceholdersProviderFactory<>(), OdtEngine::new);
+    }
+
     @Override
     protected ModelEngine<OdtContainer, OdfTextDocument> getEngine() {
         return engine;
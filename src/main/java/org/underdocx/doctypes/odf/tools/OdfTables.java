@@ -36,7 +36,6 @@ import org.underdocx.doctypes.odf.constants.OdfElement;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -48,9 +47,7 @@ public class OdfTables {
 
     public static Optional<Node> findTable(Node tree, String name) {
         return Convenience.buildOptional(result -> {
-            Predicate<Node> predicate = OdfElement.TABLE::is;
-            List<Node> tables = Nodes.findDescendantNodes(tree, predicate, true);
-            for (Node table : tables) {
+            for (Node table : Nodes.getDescendants(tree, OdfElement.TABLE::is, true)) {
                 if (name.equals(OdfAttribute.TABLE_NAME.getAttributeNS((Element) table))) {
                     result.value = table;
                     break;
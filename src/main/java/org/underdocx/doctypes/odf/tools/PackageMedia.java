@@ -0,0 +1,128 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.odf.tools;
+
+import org.odftoolkit.odfdom.pkg.OdfPackage;
+import org.underdocx.common.tools.StringHash;
+
+import java.util.*;
+
+/**
+ * Content-hash index of the media ("Pictures/...") of an {@link OdfPackage}. Storing data that is already
+ * part of the package returns the existing path, so identical images are embedded only once.
+ * The index is kept per package as long as the package is in use and picks up entries inserted by others.
+ */
+public class PackageMedia {
+
+    public static final String PICTURES = "Pictures/";
+
+    private static final Map<OdfPackage, Index> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static class Index {
+        private final Map<String, String> pathByHash = new HashMap<>();
+        private final Map<String, String> hashByPath = new HashMap<>();
+    }
+
+    private final OdfPackage pack;
+    private final Index index;
+
+    private PackageMedia(OdfPackage pack, Index index) {
+        this.pack = pack;
+        this.index = index;
+    }
+
+    public static PackageMedia of(OdfPackage pack) {
+        return new PackageMedia(pack, indexes.computeIfAbsent(pack, p -> new Index()));
+    }
+
+    public static boolean isMediaPath(String path) {
+        return path != null && path.startsWith(PICTURES) && path.length() > PICTURES.length();
+    }
+
+    /**
+     * @return path of an entry with the same content, if any
+     */
+    public Optional<String> find(byte[] data) {
+        String hash = StringHash.createStringHash128(data);
+        synchronized (index) {
+            update();
+            return Optional.ofNullable(index.pathByHash.get(hash));
+        }
+    }
+
+    /**
+     * Inserts the data unless the package already contains it. If the preferred path is taken by
+     * different content, a path derived from the content hash is used instead.
+     *
+     * @return the package path that holds the data
+     */
+    public String store(byte[] data, String preferredPath, String mediaType) {
+        String hash = StringHash.createStringHash128(data);
+        synchronized (index) {
+            update();
+            String existing = index.pathByHash.get(hash);
+            if (existing != null) {
+                return existing;
+            }
+            String path = preferredPath;
+            if (pack.contains(path)) {
+                path = createUniquePath(preferredPath, hash);
+            }
+            pack.insert(data, path, mediaType);
+            index.pathByHash.put(hash, path);
+            index.hashByPath.put(path, hash);
+            return path;
+        }
+    }
+
+    private void update() {
+        Set<String> paths = pack.getFilePaths();
+        if (index.hashByPath.keySet().removeIf(path -> !paths.contains(path))) {
+            index.pathByHash.values().removeIf(path -> !paths.contains(path));
+        }
+        for (String path : paths) {
+            if (isMediaPath(path) && !index.hashByPath.containsKey(path)) {
+                byte[] data = pack.getBytes(path);
+                if (data != null) {
+                    String hash = StringHash.createStringHash128(data);
+                    index.hashByPath.put(path, hash);
+                    index.pathByHash.putIfAbsent(hash, path);
+                }
+            }
+        }
+    }
+
+    private String createUniquePath(String preferredPath, String hash) {
+        int dot = preferredPath.lastIndexOf('.');
+        String extension = dot > preferredPath.lastIndexOf('/') ? preferredPath.substring(dot) : "";
+        String base = dot > preferredPath.lastIndexOf('/') ? preferredPath.substring(0, dot) : preferredPath;
+        String suffix = hash.replace('/', '_').replace('+', '-').replace("=", "");
+        String path = base + "_" + suffix.substring(0, 12) + extension;
+        for (int i = 1; pack.contains(path); i++) {
+            path = base + "_" + suffix.substring(0, 12) + "_" + i + extension;
+        }
+        return path;
+    }
+}
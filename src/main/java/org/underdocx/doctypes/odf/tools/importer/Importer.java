@@ -25,17 +25,23 @@ SOFTWARE.
 package org.underdocx.doctypes.odf.tools.importer;
 
 import org.odftoolkit.odfdom.pkg.OdfPackage;
+import org.odftoolkit.odfdom.pkg.manifest.OdfFileEntry;
 import org.underdocx.common.tree.Nodes;
 import org.underdocx.common.types.Pair;
 import org.underdocx.doctypes.odf.AbstractOdfContainer;
+import org.underdocx.doctypes.odf.tools.PackageMedia;
 import org.underdocx.doctypes.odf.tools.importer.internal.ConsumerScanner;
 import org.underdocx.doctypes.odf.tools.importer.internal.FontImporter;
 import org.underdocx.doctypes.odf.tools.importer.internal.ProviderScanner;
 import org.underdocx.doctypes.odf.tools.importer.proxyfamilystyle.ProxyFamilyStyleInserter;
 import org.underdocx.doctypes.odf.tools.importer.rules.AbstractImportRules;
 import org.underdocx.doctypes.odf.tools.importer.rules.AttrDescr;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -72,23 +78,39 @@ public class Importer {
         ConsumerScanner consumers = new ConsumerScanner(source, importRules.getConsumerDescrs());
         consumers.rename(sourceResourceName);
 
+        // import images referenced by the nodes to copy, links are updated before the nodes get copied
+        List<Node> nodesToCopy = new ArrayList<>();
+        importRules.getCopyRules().forEach(copyRule -> nodesToCopy.addAll(copyRule.findAll(source)));
+        nodesToCopy.addAll(importRules.getMainCopyExecutor().findNodesToCopy(source));
+        importImages(source, target, nodesToCopy);
+
         // copy nodes
         importRules.getCopyRules().forEach(copyRule -> copyRule.copy(source, target));
         importRules.getMainCopyExecutor().copy(source, targetRefNode);
 
-        // import images
-        importImages(source, target);
-
     }
 
-    private void importImages(AbstractOdfContainer<?> source, AbstractOdfContainer<?> target) {
+    private void importImages(AbstractOdfContainer<?> source, AbstractOdfContainer<?> target, List<Node> nodesToCopy) {
         OdfPackage sourcePackage = source.getDocument().getPackage();
-        OdfPackage targetPackage = target.getDocument().getPackage();
-        sourcePackage.getFilePaths().forEach(path -> {
-            if (path.startsWith("Pictures")) {
-                byte[] imageData = sourcePackage.getBytes(path);
-                targetPackage.insert(imageData, path, null);
-            }
-        });
+        PackageMedia targetMedia = PackageMedia.of(target.getDocument().getPackage());
+        Map<String, String> importedPaths = new HashMap<>();
+        for (Node node : nodesToCopy) {
+            Nodes.findDescendantNodes(node, n -> n.getNodeType() == Node.ELEMENT_NODE && n.hasAttributes(), false, element -> {
+                NamedNodeMap attributes = element.getAttributes();
+                for (int i = 0; i < attributes.getLength(); i++) {
+                    Node attribute = attributes.item(i);
+                    String path = attribute.getNodeValue();
+                    if (PackageMedia.isMediaPath(path) && sourcePackage.contains(path)) {
+                        String targetPath = importedPaths.computeIfAbsent(path, p -> {
+                            OdfFileEntry entry = sourcePackage.getFileEntry(p);
+                            return targetMedia.store(sourcePackage.getBytes(p), p, entry != null ? entry.getMediaTypeString() : null);
+                        });
+                        if (!targetPath.equals(path)) {
+                            attribute.setNodeValue(targetPath);
+                        }
+                    }
+                }
+            });
+        }
     }
 }
@@ -99,18 +99,24 @@ public class OdgOdpPagesImportRules extends AbstractImportRules {
             this.newMasterPageName = newMasterPageName;
         }
 
+        private static final TagPathDescr mainCopyRule = new TagPathDescr(true, DOCUMENT_CONTENT, OFFICE_BODY, DrawingOrPresentation, DRAW_PAGE);
+
         @Override
         public void copy(AbstractOdfContainer<?> source, Node refNode) {
-            TagPathDescr mainCopyRule = new TagPathDescr(true, DOCUMENT_CONTENT, OFFICE_BODY, DrawingOrPresentation, DRAW_PAGE);
             Document targetOwnerDocument = refNode.getOwnerDocument();
             DrawPageElement page = (DrawPageElement) Nodes.findOldestAncestorNode(refNode, DRAW_PAGE).get();
-            List<Node> allToCopy = Convenience.reverse(mainCopyRule.findAll(source));
+            List<Node> allToCopy = Convenience.reverse(findNodesToCopy(source));
             allToCopy.forEach(toCopy -> {
                 DrawPageElement clone = (DrawPageElement) targetOwnerDocument.importNode(toCopy, true);
                 clone.setDrawMasterPageNameAttribute(newMasterPageName);
                 Nodes.insertAfter(page, clone);
             });
         }
+
+        @Override
+        public List<Node> findNodesToCopy(AbstractOdfContainer<?> source) {
+            return mainCopyRule.findAll(source);
+        }
     }
 
 
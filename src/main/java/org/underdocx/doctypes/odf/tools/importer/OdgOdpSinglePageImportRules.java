@@ -105,12 +105,17 @@ public class OdgOdpSinglePageImportRules extends AbstractImportRules {
         public void copy(AbstractOdfContainer<?> source, Node refNode) {
             Document targetOwnerDocument = refNode.getOwnerDocument();
             Node page = Nodes.findOldestAncestorNode(refNode, DRAW_PAGE).get();
-            List<Node> allToCopy = mainCopyRule.findAll(source);
+            List<Node> allToCopy = findNodesToCopy(source);
             allToCopy.forEach(toCopy -> {
                 Node clone = targetOwnerDocument.importNode(toCopy, true);
                 page.appendChild(clone);
             });
         }
+
+        @Override
+        public List<Node> findNodesToCopy(AbstractOdfContainer<?> source) {
+            return mainCopyRule.findAll(source);
+        }
     }
 
 
@@ -99,7 +99,7 @@ public class OdtImportRules extends AbstractImportRules {
             Document targetOwnerDocument = targetRefInsertAfter.getOwnerDocument();
             Node siblingRef = insertAfterParagraph.getNextSibling();
             Node targetParent = insertAfterParagraph.getParentNode();
-            List<Node> allToCopy = mainCopyRule.findAll(source);
+            List<Node> allToCopy = findNodesToCopy(source);
             allToCopy.forEach(toCopy -> {
                 Node clone = targetOwnerDocument.importNode(toCopy, true);
                 if (siblingRef != null) {
@@ -110,7 +110,10 @@ public class OdtImportRules extends AbstractImportRules {
             });
         }
 
-
+        @Override
+        public List<Node> findNodesToCopy(AbstractOdfContainer<?> source) {
+            return mainCopyRule.findAll(source);
+        }
     }
 
 }
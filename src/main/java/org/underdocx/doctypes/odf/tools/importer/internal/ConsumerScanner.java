@@ -26,13 +26,11 @@ package org.underdocx.doctypes.odf.tools.importer.internal;
 
 import org.odftoolkit.odfdom.dom.OdfContentDom;
 import org.odftoolkit.odfdom.dom.OdfStylesDom;
-import org.underdocx.common.enumerator.Enumerator;
-import org.underdocx.common.enumerator.EnumeratorOfEnumerator;
-import org.underdocx.common.tools.Convenience;
-import org.underdocx.common.tree.TreeWalker;
+import org.underdocx.common.tree.TreeCursor;
 import org.underdocx.doctypes.odf.AbstractOdfContainer;
 import org.underdocx.doctypes.odf.tools.importer.rules.ConsumerDescr;
 import org.underdocx.doctypes.odf.tools.importer.rules.Renameable;
+import org.w3c.dom.Node;
 
 import java.util.List;
 
@@ -53,13 +51,17 @@ public class ConsumerScanner implements Renameable {
     public void rename(String resource) {
         OdfContentDom c = doc.getContentDom();
         OdfStylesDom s = doc.getStylesDom();
-        Enumerator<TreeWalker.VisitState> treeWalkers = new EnumeratorOfEnumerator<>(new TreeWalker(s, s), new TreeWalker(c, c));
-        while (treeWalkers.hasNext()) {
-            Convenience.also(treeWalkers.next(), next -> {
-                if (next.isBeginVisit()) {
-                    consumerDescr.forEach(cd -> cd.modifyOnMatch(resource, next.getNode()));
-                }
-            });
+        rename(resource, s);
+        rename(resource, c);
+    }
+
+    private void rename(String resource, Node dom) {
+        TreeCursor cursor = new TreeCursor(dom, dom);
+        while (cursor.next()) {
+            if (cursor.isBeginVisit()) {
+                Node node = cursor.getNode();
+                consumerDescr.forEach(cd -> cd.modifyOnMatch(resource, node));
+            }
         }
     }
 
@@ -33,7 +33,6 @@ import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Node;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -68,13 +67,9 @@ public class FontImporter {
     }
 
     private static Set<StyleFontFaceElement> getFonts(OfficeFontFaceDeclsElement decl) {
-        return Convenience.build(new HashSet<>(), result -> {
-            List<Node> nodes = Nodes.findDescendantNodes(decl, "style:font-face", true);
-            for (Node node : nodes) {
-                StyleFontFaceElement font = (StyleFontFaceElement) node;
-                result.value.add(font);
-            }
-        });
+        return Convenience.build(new HashSet<>(), result ->
+                Nodes.findDescendantNodes(decl, node -> node.getNodeName().equals("style:font-face"), true,
+                        node -> result.value.add((StyleFontFaceElement) node)));
     }
 
     private static OfficeFontFaceDeclsElement createDecl(AbstractOdfContainer<?> doc) {
@@ -80,15 +80,12 @@ public class AttrDescr extends NodeDescr<AttrDescr> {
 
 
     private String getHash(String resource) {
-        if (hashCache.size() > MAX_CACHE) {
-            hashCache.clear();
-        }
-        String cachedValue = hashCache.get(resource);
-        if (cachedValue == null) {
-            cachedValue = StringHash.createStringHash32(resource);
-            hashCache.put(resource, cachedValue);
+        synchronized (hashCache) {
+            if (hashCache.size() > MAX_CACHE) {
+                hashCache.clear();
+            }
+            return hashCache.computeIfAbsent(resource, StringHash::createStringHash32);
         }
-        return cachedValue;
     }
 
     public Optional<String> modifyValue(String resourceDescr, Node node) {
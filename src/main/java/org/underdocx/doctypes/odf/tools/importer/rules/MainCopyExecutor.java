@@ -27,6 +27,13 @@ package org.underdocx.doctypes.odf.tools.importer.rules;
 import org.underdocx.doctypes.odf.AbstractOdfContainer;
 import org.w3c.dom.Node;
 
+import java.util.List;
+
 public interface MainCopyExecutor {
     void copy(AbstractOdfContainer<?> source, Node targetRefInsertAfter);
+
+    /**
+     * @return the source nodes {@link #copy} will import
+     */
+    List<Node> findNodesToCopy(AbstractOdfContainer<?> source);
 }
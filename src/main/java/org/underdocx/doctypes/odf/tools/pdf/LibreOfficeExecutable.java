@@ -0,0 +1,67 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.odf.tools.pdf;
+
+import org.underdocx.environment.UnderdocxEnv;
+import org.underdocx.environment.err.Problems;
+
+import java.io.File;
+
+/**
+ * Runs {@code soffice --headless --convert-to pdf} with a separate user installation per worker
+ */
+public class LibreOfficeExecutable implements ConverterExecutable {
+
+    private final String executable;
+    private final String homePath;
+
+    public LibreOfficeExecutable(String executable, String homePath) {
+        this.executable = Problems.LIBREOFFICE_ENV_NOT_SET.notNull(executable, "LIBREOFFICE");
+        this.homePath = homePath;
+    }
+
+    public LibreOfficeExecutable(String executable) {
+        this(executable, null);
+    }
+
+    public static LibreOfficeExecutable fromEnv() {
+        UnderdocxEnv env = UnderdocxEnv.getInstance();
+        return new LibreOfficeExecutable(env.libreOfficeExecutable, env.libreOfficeHomePath);
+    }
+
+    @Override
+    public ProcessBuilder createProcess(File inputFile, File outputDir, File profileDir) {
+        ProcessBuilder processBuilder = new ProcessBuilder(executable,
+                "-env:UserInstallation=" + profileDir.toURI(),
+                "--headless", "--convert-to", "pdf",
+                "--outdir", outputDir.getAbsolutePath(),
+                inputFile.getAbsolutePath());
+        processBuilder.directory(outputDir);
+        if (homePath != null && !homePath.isBlank()) {
+            processBuilder.environment().put("HOME", homePath);
+        }
+        return processBuilder;
+    }
+}
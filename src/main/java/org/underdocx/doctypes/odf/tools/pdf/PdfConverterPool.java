@@ -0,0 +1,247 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.odf.tools.pdf;
+
+import org.underdocx.environment.UnderdocxEnv;
+import org.underdocx.environment.err.ProblemException;
+import org.underdocx.environment.err.Problems;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fixed number of converter workers fed by a bounded queue. Each worker keeps its own profile directory
+ * for its whole lifetime, so conversions run in parallel and only the first job of a worker pays for
+ * profile initialization. Callers block while the queue is full and get a
+ * {@link Problems#PDF_CONVERSION_FAILED} problem if the conversion hasn't finished within the timeout,
+ * which is counted from the submission of the job.
+ */
+public class PdfConverterPool implements AutoCloseable {
+
+    private static final long CANCEL_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static PdfConverterPool defaultPool = null;
+
+    private final ConverterExecutable executable;
+    private final long timeout;
+    private final BlockingQueue<Job> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean closed = false;
+    private File temporaryProfilesDir = null;
+
+    public PdfConverterPool(ConverterExecutable executable, int workerCount, int queueSize, long timeout, File profilesDir) {
+        this.executable = executable;
+        this.timeout = timeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            File profileDir = new File(profilesDir, "worker-" + i);
+            Thread worker = new Thread(() -> work(profileDir), "underdocx-pdf-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public static synchronized PdfConverterPool getDefault() {
+        if (defaultPool == null) {
+            UnderdocxEnv env = UnderdocxEnv.getInstance();
+            try {
+                File profilesDir = Files.createTempDirectory("underdocx_pdf_").toFile();
+                defaultPool = new PdfConverterPool(LibreOfficeExecutable.fromEnv(), env.pdfConverterWorkers,
+                        env.pdfConverterQueueSize, env.pdfConversionTimeout, profilesDir);
+                defaultPool.temporaryProfilesDir = profilesDir;
+            } catch (IOException e) {
+                return Problems.IO_EXCEPTION.fire(e);
+            }
+        }
+        return defaultPool;
+    }
+
+    /**
+     * Replaces the pool used by {@code writePDF()}, the previous one is closed. {@code null} resets to
+     * a LibreOffice pool configured by {@link UnderdocxEnv}
+     */
+    public static synchronized void setDefault(PdfConverterPool pool) {
+        if (defaultPool != null && defaultPool != pool) {
+            defaultPool.close();
+        }
+        defaultPool = pool;
+    }
+
+    public int getWorkerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Converts the file and returns the created PDF, which is placed next to the input file
+     */
+    public File convert(File inputFile) {
+        Job job = new Job(inputFile, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+        try {
+            if (closed || !queue.offer(job, job.remainingNanos(), TimeUnit.NANOSECONDS)) {
+                return Problems.PDF_CONVERSION_FAILED.fireValue("converter queue is full or closed");
+            }
+            if (closed) {
+                job.result.completeExceptionally(rejected());
+            }
+            return job.result.get(job.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            job.result.cancel(false);
+            Thread.currentThread().interrupt();
+            return Problems.PDF_CONVERSION_FAILED.fire(e);
+        } catch (TimeoutException e) {
+            // a worker skips the job or kills its conversion
+            job.result.cancel(false);
+            return Problems.PDF_CONVERSION_FAILED.fireValue("timeout after " + timeout + " ms: " + inputFile.getName());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProblemException problemException) {
+                throw problemException;
+            }
+            return Problems.PDF_CONVERSION_FAILED.fire(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        workers.forEach(Thread::interrupt);
+        Job job;
+        while ((job = queue.poll()) != null) {
+            job.result.completeExceptionally(rejected());
+        }
+        if (temporaryProfilesDir != null) {
+            // interrupted workers kill their conversions, the profiles are in use until then
+            for (Thread worker : workers) {
+                try {
+                    worker.join(timeout);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            delete(temporaryProfilesDir);
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        if (!file.delete() && file.exists()) {
+            UnderdocxEnv.getInstance().logger.warn("Failed to delete " + file, null);
+        }
+    }
+
+    private ProblemException rejected() {
+        return new ProblemException(Problems.PDF_CONVERSION_FAILED.toProblem().value("converter pool has been closed"));
+    }
+
+    private void work(File profileDir) {
+        while (!closed) {
+            Job job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (job.result.isDone()) {
+                continue;
+            }
+            try {
+                job.result.complete(run(job, profileDir));
+            } catch (Exception e) {
+                job.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private File run(Job job, File profileDir) throws IOException, InterruptedException {
+        File inputFile = job.inputFile;
+        File outputDir = inputFile.getAbsoluteFile().getParentFile();
+        String name = inputFile.getName();
+        String baseName = name.lastIndexOf('.') > 0 ? name.substring(0, name.lastIndexOf('.')) : name;
+        File logFile = new File(outputDir, baseName + ".log");
+        ProcessBuilder processBuilder = executable.createProcess(inputFile, outputDir, profileDir);
+        processBuilder.redirectErrorStream(true);
+        processBuilder.redirectOutput(logFile);
+        Process process = processBuilder.start();
+        try {
+            while (!process.waitFor(Math.min(job.remainingNanos(), CANCEL_CHECK_NANOS), TimeUnit.NANOSECONDS)) {
+                if (job.remainingNanos() <= 0 || job.result.isDone()) {
+                    destroy(process);
+                    process.waitFor();
+                    return Problems.PDF_CONVERSION_FAILED.fireValue("timeout after " + timeout + " ms: " + name);
+                }
+            }
+        } catch (InterruptedException e) {
+            destroy(process);
+            throw e;
+        }
+        String output = new String(Files.readAllBytes(logFile.toPath()), Charset.defaultCharset());
+        logFile.delete();
+        UnderdocxEnv.getInstance().logger.info(() -> "PDF generation execution, error code: " + process.exitValue() + " output: " + output);
+        File pdfFile = new File(outputDir, baseName + ".pdf");
+        if (!pdfFile.exists()) {
+            return Problems.PDF_CONVERSION_FAILED.fireValue(output);
+        }
+        return pdfFile;
+    }
+
+    /*
+    The converter may start helper processes which keep the profile and the output locked, they are killed first
+     */
+    private static void destroy(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private static class Job {
+        private final File inputFile;
+        private final long deadline;
+        private final CompletableFuture<File> result = new CompletableFuture<>();
+
+        private Job(File inputFile, long deadline) {
+            this.inputFile = inputFile;
+            this.deadline = deadline;
+        }
+
+        private long remainingNanos() {
+            return deadline - System.nanoTime();
+        }
+    }
+}
@@ -28,9 +28,9 @@ import org.odftoolkit.odfdom.doc.OdfDocument;
 import org.underdocx.common.codec.Codec;
 import org.underdocx.common.enumerator.Enumerator;
 import org.underdocx.common.placeholder.EncapsulatedNodesExtractor;
-import org.underdocx.common.placeholder.basic.extraction.RegexExtractor;
+import org.underdocx.common.placeholder.basic.detection.DelimitedTextDetector;
+import org.underdocx.common.placeholder.basic.extraction.DelimitedExtractor;
 import org.underdocx.common.placeholder.basic.textnodeinterpreter.OdfTextNodeInterpreter;
-import org.underdocx.common.types.Regex;
 import org.underdocx.doctypes.TextNodeInterpreter;
 import org.underdocx.doctypes.odf.AbstractOdfContainer;
 import org.underdocx.doctypes.odf.tools.OdfSectionsWalker;
@@ -42,24 +42,24 @@ import org.w3c.dom.Node;
 public class OdfPlaceholderStyle<C extends AbstractOdfContainer<D>, D extends OdfDocument> {
 
     public final GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> XML_COMMENT =
-            new OdfPlaceholdersProvider("<!--${", "}-->", new Regex("<!--\\$\\{.*?\\}-->"));
+            new OdfPlaceholdersProvider("<!--${", "}-->");
     public final GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> CODE_COMMENT =
-            new OdfPlaceholdersProvider("/*!", "!*/", new Regex("\\/\\*!.*?!\\*\\/"));
+            new OdfPlaceholdersProvider("/*!", "!*/");
     public final GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> HASH_COMMENT =
-            new OdfPlaceholdersProvider("#!", "!#", new Regex("#!.*?!#"));
+            new OdfPlaceholdersProvider("#!", "!#");
     public final GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> DEFAULT = new OdfDefaultPlaceholdersProviderFactory<>();
     public final GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> DOUBLE_BRACKETS = new OdfDoubleBracketsPlaceholdersProviderFactory<>();
 
     protected class OdfPlaceholdersProvider implements GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> {
 
-        private final Regex regex;
+        private final DelimitedTextDetector detector;
         private final String suffix;
         private final String prefix;
 
-        protected OdfPlaceholdersProvider(String prefix, String suffix, Regex regex) {
+        protected OdfPlaceholdersProvider(String prefix, String suffix) {
             this.prefix = prefix;
             this.suffix = suffix;
-            this.regex = regex;
+            this.detector = new DelimitedTextDetector(prefix, suffix);
         }
 
         @Override
@@ -75,7 +75,7 @@ public class OdfPlaceholderStyle<C extends AbstractOdfContainer<D>, D extends Od
 
         @Override
         public EncapsulatedNodesExtractor getExtractor() {
-            return new RegexExtractor(regex, getTextNodeInterpreter());
+            return new DelimitedExtractor(detector, getTextNodeInterpreter());
         }
 
         @Override
@@ -0,0 +1,216 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.template;
+
+import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.AbstractEngine;
+import org.underdocx.doctypes.DocContainer;
+import org.underdocx.doctypes.commands.IfCommandHandler;
+import org.underdocx.doctypes.commands.forcommand.AbstractForCommandHandler;
+import org.underdocx.doctypes.tools.placeholder.GenericTextualPlaceholdersProviderFactory;
+import org.underdocx.enginelayers.baseengine.PlaceholdersProvider;
+import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.underdocx.environment.err.Problem;
+import org.underdocx.environment.err.Problems;
+import org.w3c.dom.Node;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A template document that has been analyzed once and can be rendered many times.
+ * Compilation encapsulates all placeholders and parses their parameters, rendering a model works on a fresh
+ * copy of the compiled document and doesn't need to detect and parse these placeholders again.
+ * Instances are immutable and can be shared between threads.
+ * <p>
+ * Limitation: the fresh copy is created by the {@link Loader} from the saved template, so each render still
+ * unpacks and parses the document. Containers hold a whole package (styles, manifest, images) and not only a DOM,
+ * so there is no generic way to hand out copies of the analyzed document. What is saved is the detection and
+ * parameter parsing of the placeholders.
+ */
+public class CompiledTemplate<C extends DocContainer<D>, D> {
+
+    private static final Map<String, String> AREA_KEYS = Map.of(
+            AbstractForCommandHandler.BEGIN_KEY, AbstractForCommandHandler.END_KEY,
+            IfCommandHandler.BEGIN_KEY, IfCommandHandler.END_KEY);
+
+    private final byte[] content;
+    private final Loader<C> loader;
+    private final Function<GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D>, ? extends AbstractEngine<C, D>> engineFactory;
+    private final PrecompiledPlaceholdersProviderFactory<C, D> parameters;
+    private final List<CompiledPlaceholder> placeholders;
+    private final List<Area> areas;
+
+    private CompiledTemplate(byte[] content, Loader<C> loader,
+                             Function<GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D>, ? extends AbstractEngine<C, D>> engineFactory,
+                             GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> parameters,
+                             List<CompiledPlaceholder> placeholders) {
+        this.content = content;
+        this.loader = loader;
+        this.engineFactory = engineFactory;
+        this.placeholders = Collections.unmodifiableList(placeholders);
+        this.areas = Collections.unmodifiableList(findAreas(placeholders));
+        Map<String, ParametersPlaceholderData> parsed = new HashMap<>();
+        placeholders.forEach(placeholder -> parsed.putIfAbsent(placeholder.text, placeholder.data));
+        this.parameters = new PrecompiledPlaceholdersProviderFactory<>(parameters, Collections.unmodifiableMap(parsed));
+    }
+
+    /**
+     * Analyzes the template document. The given document itself stays unchanged.
+     *
+     * @param template      the template document
+     * @param loader        creates a new document instance from the saved template
+     * @param parameters    the placeholder style used by the template
+     * @param engineFactory creates an engine using the given placeholder style
+     */
+    public static <C extends DocContainer<D>, D> CompiledTemplate<C, D> compile(
+            C template, Loader<C> loader,
+            GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> parameters,
+            Function<GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D>, ? extends AbstractEngine<C, D>> engineFactory) {
+        C doc = Problems.IO_EXCEPTION.exec(() -> loader.load(toBytes(template)));
+        List<CompiledPlaceholder> placeholders = new ArrayList<>();
+        PlaceholdersProvider<C, ParametersPlaceholderData, D> provider = parameters.createProvider(doc);
+        Enumerator<Node> nodes = provider.getPlaceholders(doc);
+        while (nodes.hasNext()) {
+            Node node = nodes.next();
+            if (node.hasChildNodes()) {
+                String text = node.getFirstChild().getNodeValue();
+                parameters.getCodec().tryParse(text).ifPresent(data ->
+                        placeholders.add(new CompiledPlaceholder(placeholders.size(), text, data)));
+            }
+        }
+        return new CompiledTemplate<>(toBytes(doc), loader, engineFactory, parameters, placeholders);
+    }
+
+    private static byte[] toBytes(DocContainer<?> doc) {
+        return Problems.IO_EXCEPTION.exec(() -> {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            doc.save(os);
+            return os.toByteArray();
+        });
+    }
+
+    private static List<Area> findAreas(List<CompiledPlaceholder> placeholders) {
+        List<Area> result = new ArrayList<>();
+        Deque<CompiledPlaceholder> openAreas = new ArrayDeque<>();
+        for (CompiledPlaceholder placeholder : placeholders) {
+            if (AREA_KEYS.containsKey(placeholder.getKey())) {
+                openAreas.push(placeholder);
+            } else if (AREA_KEYS.containsValue(placeholder.getKey())) {
+                while (!openAreas.isEmpty()) {
+                    CompiledPlaceholder begin = openAreas.pop();
+                    if (AREA_KEYS.get(begin.getKey()).equals(placeholder.getKey())) {
+                        result.add(new Area(begin.getKey(), begin.index, placeholder.index));
+                        break;
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparingInt(Area::begin));
+        return result;
+    }
+
+    /**
+     * @return a new document instance containing the compiled template, loaded from the saved template
+     */
+    public C createDocument() {
+        return Problems.IO_EXCEPTION.exec(() -> loader.load(content));
+    }
+
+    /**
+     * @return a new engine that uses the placeholders parsed during compilation
+     */
+    public AbstractEngine<C, D> createEngine() {
+        return engineFactory.apply(parameters);
+    }
+
+    public Pair<C, Optional<Problem>> render(DataNode<?> model) {
+        return render(engine -> engine.setModel(model));
+    }
+
+    public Pair<C, Optional<Problem>> render(Consumer<AbstractEngine<C, D>> setup) {
+        C doc = createDocument();
+        AbstractEngine<C, D> engine = createEngine();
+        setup.accept(engine);
+        return new Pair<>(doc, engine.run(doc));
+    }
+
+    /**
+     * @return all valid placeholders of the template in document order
+     */
+    public List<CompiledPlaceholder> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * @return all For/EndFor and If/EndIf pairs of the template, ordered by their begin placeholder
+     */
+    public List<Area> getAreas() {
+        return areas;
+    }
+
+    public interface Loader<C> {
+        C load(byte[] data) throws IOException;
+    }
+
+    public static class CompiledPlaceholder {
+        private final int index;
+        private final String text;
+        private final ParametersPlaceholderData data;
+
+        private CompiledPlaceholder(int index, String text, ParametersPlaceholderData data) {
+            this.index = index;
+            this.text = text;
+            this.data = data;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getKey() {
+            return data.getKey();
+        }
+
+        public ParametersPlaceholderData getData() {
+            return new ParametersPlaceholderData.Simple(data);
+        }
+    }
+
+    /**
+     * Begin and end placeholder indices of an area
+     */
+    public record Area(String key, int begin, int end) {
+    }
+}
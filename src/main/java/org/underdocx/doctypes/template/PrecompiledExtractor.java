@@ -0,0 +1,131 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.template;
+
+import org.underdocx.common.enumerator.AbstractPrepareNextEnumerator;
+import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.placeholder.EncapsulatedNodesExtractor;
+import org.underdocx.common.tools.Convenience;
+import org.underdocx.common.tree.TreeCursor;
+import org.underdocx.doctypes.TextNodeInterpreter;
+import org.w3c.dom.Node;
+
+import java.util.Set;
+
+/**
+ * Extractor for documents that have been normalized by {@link CompiledTemplate}. Placeholders known from
+ * compilation are recognized by their encapsulating node, only text that may start a new placeholder is
+ * passed to the wrapped extractor.
+ */
+public class PrecompiledExtractor implements EncapsulatedNodesExtractor {
+
+    private final EncapsulatedNodesExtractor extractor;
+    private final Set<String> knownPlaceholders;
+    private final char startChar;
+
+    public PrecompiledExtractor(EncapsulatedNodesExtractor extractor, Set<String> knownPlaceholders, char startChar) {
+        this.extractor = extractor;
+        this.knownPlaceholders = knownPlaceholders;
+        this.startChar = startChar;
+    }
+
+    private class ExtractNodeEnumerator extends AbstractPrepareNextEnumerator<Node> {
+
+        private final Node tree;
+        private final TreeCursor cursor;
+        private boolean exhausted = false;
+
+        private ExtractNodeEnumerator(Node tree, Node firstValidNodeOrNull) {
+            this.tree = tree;
+            this.cursor = new TreeCursor(tree, tree, firstValidNodeOrNull);
+        }
+
+        private ExtractNodeEnumerator(ExtractNodeEnumerator other) {
+            super(other);
+            this.tree = other.tree;
+            this.cursor = new TreeCursor(other.cursor);
+            this.exhausted = other.exhausted;
+        }
+
+        @Override
+        protected Node findNext() {
+            return Convenience.build(result -> {
+                while (result.value == null && !exhausted && cursor.next()) {
+                    if (cursor.isBeginVisit() && cursor.isValid()) {
+                        Node node = cursor.getNode();
+                        if (isKnownPlaceholder(node)) {
+                            result.value = node;
+                        } else if (mayStartPlaceholder(node)) {
+                            Enumerator<Node> extracted = extractor.extractNodes(tree, node);
+                            if (extracted.hasNext()) {
+                                result.value = extracted.next();
+                            } else {
+                                exhausted = true;
+                            }
+                        }
+                    }
+                }
+                Convenience.ifNotNull(result.value, placeholder -> {
+                    cursor.jump(placeholder);
+                    cursor.next();
+                    cursor.nextSkipChildren();
+                });
+            });
+        }
+
+        @Override
+        public Enumerator<Node> cloneEnumerator() {
+            return new ExtractNodeEnumerator(this);
+        }
+    }
+
+    private boolean isKnownPlaceholder(Node node) {
+        if (node.getNodeType() == Node.ELEMENT_NODE && node.getChildNodes().getLength() == 1
+                && getTextNodeInterpreter().isPlainTextContainerType(node)) {
+            Node child = node.getFirstChild();
+            return child.getNodeType() == Node.TEXT_NODE && knownPlaceholders.contains(child.getNodeValue());
+        }
+        return false;
+    }
+
+    private boolean mayStartPlaceholder(Node node) {
+        return node.getNodeType() == Node.TEXT_NODE && node.getNodeValue().indexOf(startChar) >= 0;
+    }
+
+    @Override
+    public Enumerator<Node> extractNodes(Node tree, Node firstValidNodeOrNull) {
+        return new ExtractNodeEnumerator(tree, firstValidNodeOrNull);
+    }
+
+    @Override
+    public boolean isEncapsulatedNode(Node node) {
+        return extractor.isEncapsulatedNode(node);
+    }
+
+    @Override
+    public TextNodeInterpreter getTextNodeInterpreter() {
+        return extractor.getTextNodeInterpreter();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.doctypes.template;
+
+import org.underdocx.common.codec.Codec;
+import org.underdocx.common.codec.CopyableCodec;
+import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.placeholder.EncapsulatedNodesExtractor;
+import org.underdocx.doctypes.DocContainer;
+import org.underdocx.doctypes.TextNodeInterpreter;
+import org.underdocx.doctypes.tools.placeholder.GenericTextualPlaceholdersProviderFactory;
+import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
+import org.w3c.dom.Node;
+
+import java.util.Map;
+
+/**
+ * Wraps the placeholder style a {@link CompiledTemplate} has been compiled with. Serves the placeholders parsed
+ * during compilation and skips detection of text that can't contain a placeholder.
+ */
+public class PrecompiledPlaceholdersProviderFactory<C extends DocContainer<D>, D> implements GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> {
+
+    private final GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> factory;
+    private final Map<String, ParametersPlaceholderData> parsedPlaceholders;
+    private final Codec<ParametersPlaceholderData> codec;
+    private final char startChar;
+
+    public PrecompiledPlaceholdersProviderFactory(GenericTextualPlaceholdersProviderFactory<C, ParametersPlaceholderData, D> factory, Map<String, ParametersPlaceholderData> parsedPlaceholders) {
+        this.factory = factory;
+        this.parsedPlaceholders = parsedPlaceholders;
+        this.codec = new PrecompiledCodec(factory.getCodec());
+        this.startChar = factory.getCodec().getTextContent(new ParametersPlaceholderData.Simple("", null)).charAt(0);
+    }
+
+    @Override
+    public TextNodeInterpreter getTextNodeInterpreter() {
+        return factory.getTextNodeInterpreter();
+    }
+
+    @Override
+    public Enumerator<Node> createSectionEnumerator(C doc, Node firstValidNode) {
+        return factory.createSectionEnumerator(doc, firstValidNode);
+    }
+
+    @Override
+    public EncapsulatedNodesExtractor getExtractor() {
+        return new PrecompiledExtractor(factory.getExtractor(), parsedPlaceholders.keySet(), startChar);
+    }
+
+    @Override
+    public Codec<ParametersPlaceholderData> getCodec() {
+        return codec;
+    }
+
+    private class PrecompiledCodec implements CopyableCodec<ParametersPlaceholderData> {
+
+        private final Codec<ParametersPlaceholderData> codec;
+
+        private PrecompiledCodec(Codec<ParametersPlaceholderData> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public ParametersPlaceholderData parse(String string) throws Exception {
+            ParametersPlaceholderData parsed = string == null ? null : parsedPlaceholders.get(string);
+            return parsed != null ? new ParametersPlaceholderData.Simple(parsed) : codec.parse(string);
+        }
+
+        @Override
+        public String getTextContent(ParametersPlaceholderData data) {
+            return codec.getTextContent(data);
+        }
+
+        @Override
+        public ParametersPlaceholderData copy(ParametersPlaceholderData data) {
+            return new ParametersPlaceholderData.Simple(data);
+        }
+    }
+}
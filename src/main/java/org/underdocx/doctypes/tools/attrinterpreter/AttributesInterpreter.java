@@ -28,6 +28,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.common.codec.JsonCodec;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.AbstractPredefinedDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.NumberLeafDataNode;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -62,6 +63,13 @@ public interface AttributesInterpreter<R, C> {
         Optional<JsonNode> attrValue = getComplexAttribute(attributes, property);
         if (attrValue.isPresent()) {
             JsonNode json = attrValue.get();
+            if (json.isInt()) {
+                return Optional.of(new NumberLeafDataNode(json.intValue()));
+            } else if (json.isLong()) {
+                return Optional.of(new NumberLeafDataNode(json.longValue()));
+            } else if (json.isNumber()) {
+                return Optional.of(new NumberLeafDataNode(json.asDouble()));
+            }
             Object obj = new JsonCodec().getAsObject(json);
             return Optional.of(AbstractPredefinedDataNode.createRootNode(obj));
         }
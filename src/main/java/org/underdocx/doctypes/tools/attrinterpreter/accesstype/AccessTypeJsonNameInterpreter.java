@@ -25,7 +25,7 @@ SOFTWARE.
 package org.underdocx.doctypes.tools.attrinterpreter.accesstype;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.underdocx.doctypes.tools.attrinterpreter.AbstractAttributeInterpreter;
+import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 
 /**
  * A {@link org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter}
@@ -38,20 +38,20 @@ import org.underdocx.doctypes.tools.attrinterpreter.AbstractAttributeInterpreter
  *
  * @see AccessTypeNameInterpreter
  */
-public class AccessTypeJsonNameInterpreter extends AbstractAttributeInterpreter<AccessType, String> {
+public class AccessTypeJsonNameInterpreter implements AttributesInterpreter<AccessType, String> {
 
     public static final AccessTypeJsonNameInterpreter DEFAULT = new AccessTypeJsonNameInterpreter();
 
     @Override
-    protected AccessType interpretAttributes() {
+    public AccessType interpretAttributes(JsonNode attributes, String configuration) {
         AccessType accessType = null;
-        if (configuration != null && hasAttribute(AccessType.ACCESS_VAR_CONTAINS_NAME_OF_VAR.rename(configuration))) {
+        if (configuration != null && AttributesInterpreter.hasAttribute(attributes, AccessType.ACCESS_VAR_CONTAINS_NAME_OF_VAR.rename(configuration))) {
             accessType = AccessType.ACCESS_VAR_CONTAINS_NAME_OF_VAR;
-        } else if (configuration != null && hasAttribute(AccessType.ACCESS_MODEL_BY_NAME.rename(configuration))) {
+        } else if (configuration != null && AttributesInterpreter.hasAttribute(attributes, AccessType.ACCESS_MODEL_BY_NAME.rename(configuration))) {
             accessType = AccessType.ACCESS_MODEL_BY_NAME;
-        } else if (configuration != null && hasAttribute(AccessType.ACCESS_VARIABLE_BY_NAME.rename(configuration))) {
+        } else if (configuration != null && AttributesInterpreter.hasAttribute(attributes, AccessType.ACCESS_VARIABLE_BY_NAME.rename(configuration))) {
             accessType = AccessType.ACCESS_VARIABLE_BY_NAME;
-        } else if (configuration != null && hasAttribute(configuration)) {
+        } else if (configuration != null && AttributesInterpreter.hasAttribute(attributes, configuration)) {
             accessType = AccessType.ACCESS_ATTR_VALUE;
         } else if (configuration == null) {
             accessType = AccessType.ACCESS_CURRENT_MODEL_NODE;
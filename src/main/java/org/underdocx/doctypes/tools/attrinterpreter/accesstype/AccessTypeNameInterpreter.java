@@ -24,7 +24,8 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.attrinterpreter.accesstype;
 
-import org.underdocx.doctypes.tools.attrinterpreter.AbstractAttributeInterpreter;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 
 /**
  * A {@link org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter}
@@ -36,12 +37,12 @@ import org.underdocx.doctypes.tools.attrinterpreter.AbstractAttributeInterpreter
  *
  * @see AccessTypeJsonNameInterpreter
  */
-public class AccessTypeNameInterpreter extends AbstractAttributeInterpreter<AccessType, String> {
+public class AccessTypeNameInterpreter implements AttributesInterpreter<AccessType, String> {
 
-    public static AccessTypeNameInterpreter DEFAULT = new AccessTypeNameInterpreter();
+    public static final AccessTypeNameInterpreter DEFAULT = new AccessTypeNameInterpreter();
 
     @Override
-    protected AccessType interpretAttributes() {
+    public AccessType interpretAttributes(JsonNode attributes, String configuration) {
         AccessType accessType = null;
         if (configuration != null && configuration.equals(AccessType.ACCESS_VAR_CONTAINS_NAME_OF_VAR.rename(configuration))) {
             accessType = AccessType.ACCESS_VAR_CONTAINS_NAME_OF_VAR;
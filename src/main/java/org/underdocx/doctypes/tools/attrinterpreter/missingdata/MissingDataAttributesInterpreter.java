@@ -24,24 +24,25 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.attrinterpreter.missingdata;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.common.tools.Convenience;
-import org.underdocx.doctypes.tools.attrinterpreter.AbstractAttributeInterpreter;
+import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 
 import java.util.Optional;
 
-public class MissingDataAttributesInterpreter extends AbstractAttributeInterpreter<MissingDataConfig, MissingDataConfig> {
+public class MissingDataAttributesInterpreter implements AttributesInterpreter<MissingDataConfig, MissingDataConfig> {
     @Override
-    protected MissingDataConfig interpretAttributes() {
+    public MissingDataConfig interpretAttributes(JsonNode attributes, MissingDataConfig configuration) {
         return Convenience.also(new MissingDataConfig(configuration), result -> {
-            getStringAttribute("fallback").ifPresent(f -> result.fallback = f);
-            getStrategy(MissingDataSzenario.ERROR).ifPresent(f -> result.setStrategy(MissingDataSzenario.ERROR, f));
-            getStrategy(MissingDataSzenario.EMPTY).ifPresent(f -> result.setStrategy(MissingDataSzenario.EMPTY, f));
-            getStrategy(MissingDataSzenario.NULL).ifPresent(f -> result.setStrategy(MissingDataSzenario.NULL, f));
+            AttributesInterpreter.getStringAttribute(attributes, "fallback").ifPresent(f -> result.fallback = f);
+            getStrategy(attributes, MissingDataSzenario.ERROR).ifPresent(f -> result.setStrategy(MissingDataSzenario.ERROR, f));
+            getStrategy(attributes, MissingDataSzenario.EMPTY).ifPresent(f -> result.setStrategy(MissingDataSzenario.EMPTY, f));
+            getStrategy(attributes, MissingDataSzenario.NULL).ifPresent(f -> result.setStrategy(MissingDataSzenario.NULL, f));
         });
     }
 
-    private Optional<MissingDataStrategy> getStrategy(MissingDataSzenario szenario) {
-        Optional<String> attrValue = getStringAttribute(szenario.getValue());
+    private Optional<MissingDataStrategy> getStrategy(JsonNode attributes, MissingDataSzenario szenario) {
+        Optional<String> attrValue = AttributesInterpreter.getStringAttribute(attributes, szenario.getValue());
         if (attrValue.isPresent())
             return Optional.ofNullable(MissingDataStrategy.getByString(attrValue.get()));
         return Optional.empty();
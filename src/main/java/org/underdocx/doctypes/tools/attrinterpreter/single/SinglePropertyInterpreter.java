@@ -25,13 +25,13 @@ SOFTWARE.
 package org.underdocx.doctypes.tools.attrinterpreter.single;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.underdocx.doctypes.tools.attrinterpreter.AbstractAttributeInterpreter;
+import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessTypeJsonNameInterpreter;
 
 import java.util.Optional;
 import java.util.function.BiFunction;
 
-public class SinglePropertyInterpreter<R> extends AbstractAttributeInterpreter<Optional<R>, String> {
+public class SinglePropertyInterpreter<R> implements AttributesInterpreter<Optional<R>, String> {
 
     private final boolean ignoreAccessType;
     private final BiFunction<JsonNode, String, Optional<R>> function;
@@ -46,7 +46,7 @@ public class SinglePropertyInterpreter<R> extends AbstractAttributeInterpreter<O
     }
 
     @Override
-    protected Optional<R> interpretAttributes() {
+    public Optional<R> interpretAttributes(JsonNode attributes, String configuration) {
         if (ignoreAccessType) {
             return function.apply(attributes, AccessTypeJsonNameInterpreter.DEFAULT.interpretAttributes(attributes, configuration).rename(configuration));
         } else {
@@ -24,17 +24,13 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.datapicker;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessType;
-import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
 
 import java.util.Optional;
 
 public abstract class AbstractDataPicker<T, N> implements ExtendedDataPicker<T> {
 
-    protected JsonNode attributes;
-    protected DataAccess model;
     protected final AttributesInterpreter<Optional<N>, String> attributeInterpreter;
     protected final AttributesInterpreter<AccessType, String> typeInterpreter;
 
@@ -46,20 +42,4 @@ public abstract class AbstractDataPicker<T, N> implements ExtendedDataPicker<T>
         this.attributeInterpreter = attributeInterpreter;
     }
 
-    public JsonNode getAttributes() {
-        return attributes;
-    }
-
-    public DataAccess getModel() {
-        return model;
-    }
-
-    @Override
-    public DataPickerResult<T> pickData(String name, DataAccess dataAccess, JsonNode attributes) {
-        this.attributes = attributes;
-        this.model = dataAccess;
-        return pickData(name);
-    }
-
-    abstract protected DataPickerResult<T> pickData(String name);
 }
@@ -24,11 +24,13 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.datapicker;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessType;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessTypeJsonNameInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.single.AttributeInterpreterFactory;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
 
 import java.util.Optional;
 
@@ -52,13 +54,13 @@ public class AttributeModelDataPicker extends AbstractDataPicker<DataNode<?>, St
     }
 
     @Override
-    protected DataPickerResult<DataNode<?>> pickData(String name) {
+    public DataPickerResult<DataNode<?>> pickData(String name, DataAccess model, JsonNode attributes) {
         AccessType type = typeInterpreter.interpretAttributes(attributes, name);
         if (name == null) {
             if (type != AccessType.ACCESS_CURRENT_MODEL_NODE) {
                 return DataPickerResult.unresolvedMissingAttr(DataPickerResult.ResultSource.MODEL);
             } else {
-                return fetchModelNode("");
+                return fetchModelNode("", model);
             }
         }
         String attrName = type.rename(name);
@@ -67,10 +69,10 @@ public class AttributeModelDataPicker extends AbstractDataPicker<DataNode<?>, St
             return DataPickerResult.unresolvedInvalidAttrValue(DataPickerResult.ResultSource.MODEL);
         }
         String modelName = attrValue.get();
-        return fetchModelNode(modelName);
+        return fetchModelNode(modelName, model);
     }
 
-    private DataPickerResult<DataNode<?>> fetchModelNode(String modelName) {
+    private DataPickerResult<DataNode<?>> fetchModelNode(String modelName, DataAccess model) {
         return nameDataPicker.pickData(modelName, model, null);
     }
 }
@@ -24,10 +24,12 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.datapicker;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessType;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessTypeJsonNameInterpreter;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
 
 /**
  * This is a {@link ExtendedDataPicker} that resolves a value from model, variable registry or from json attribute.
@@ -55,7 +57,7 @@ public class AttributeNodeDataPicker extends AbstractDataPicker<DataNode<?>, Str
     }
 
     @Override
-    protected DataPickerResult<DataNode<?>> pickData(String name) {
+    public DataPickerResult<DataNode<?>> pickData(String name, DataAccess model, JsonNode attributes) {
         AccessType accessType = typeInterpreter.interpretAttributes(attributes, name);
         return switch (accessType) {
             case ACCESS_CURRENT_MODEL_NODE, ACCESS_MODEL_BY_NAME ->
@@ -24,11 +24,13 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.datapicker;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessType;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessTypeJsonNameInterpreter;
 import org.underdocx.doctypes.tools.attrinterpreter.single.AttributeInterpreterFactory;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
 
 import java.util.Optional;
 
@@ -50,7 +52,7 @@ public class AttributeVar2VarDataPicker extends AbstractDataPicker<DataNode<?>,
     }
 
     @Override
-    protected DataPickerResult<DataNode<?>> pickData(String name) {
+    public DataPickerResult<DataNode<?>> pickData(String name, DataAccess model, JsonNode attributes) {
         AccessType type = typeInterpreter.interpretAttributes(attributes, name);
         if (type != AccessType.ACCESS_VAR_CONTAINS_NAME_OF_VAR) {
             return DataPickerResult.unresolvedMissingAttr(DataPickerResult.ResultSource.VAR);
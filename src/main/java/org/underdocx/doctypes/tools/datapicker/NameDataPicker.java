@@ -24,9 +24,11 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.datapicker;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessType;
 import org.underdocx.doctypes.tools.attrinterpreter.accesstype.AccessTypeNameInterpreter;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
 
 
 /**
@@ -52,7 +54,7 @@ public class NameDataPicker extends AbstractDataPicker<DataNode<?>, String> {
     }
 
     @Override
-    protected DataPickerResult<DataNode<?>> pickData(String name) {
+    public DataPickerResult<DataNode<?>> pickData(String name, DataAccess model, JsonNode attributes) {
         AccessType accessType = typeInterpreter.interpretAttributes(attributes, name);
         String pureName = AccessType.getPureName(name);
         return switch (accessType) {
@@ -24,7 +24,9 @@ SOFTWARE.
 
 package org.underdocx.doctypes.tools.datapicker;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.dataaccess.DataAccess;
 
 import java.util.Optional;
 
@@ -35,7 +37,7 @@ public class Var2VarNameDataPicker extends AbstractDataPicker<DataNode<?>, Objec
     }
 
     @Override
-    protected DataPickerResult<DataNode<?>> pickData(String variableName) {
+    public DataPickerResult<DataNode<?>> pickData(String variableName, DataAccess model, JsonNode attributes) {
         Optional<DataNode<?>> tmpPickedResult = new VarNameDataPicker().pickData(variableName, model, null).optional();
         if (tmpPickedResult.isEmpty() || !(tmpPickedResult.get().getValue() instanceof String)) {
             return DataPickerResult.unresolvedInvalidAttrValue(DataPickerResult.ResultSource.VAR);
@@ -26,6 +26,7 @@ package org.underdocx.doctypes.txt;
 
 import org.underdocx.common.types.Resource;
 import org.underdocx.doctypes.AbstractDocContainer;
+import org.underdocx.environment.UnderdocxEnv;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,6 +54,10 @@ public class TxtContainer extends AbstractDocContainer<TxtXml> {
         super(data);
     }
 
+    public TxtContainer(TxtXml doc) {
+        super(doc);
+    }
+
 
     @Override
     protected TxtXml createEmptyDoc() {
@@ -61,12 +66,16 @@ public class TxtContainer extends AbstractDocContainer<TxtXml> {
 
     @Override
     public void load(InputStream is) throws IOException {
+        long startTime = UnderdocxEnv.getInstance().metrics.startTiming();
         doc = new TxtXml(is);
+        UnderdocxEnv.getInstance().metrics.documentLoaded(getClass(), startTime);
     }
 
     @Override
     public void save(OutputStream os) throws IOException {
+        long startTime = UnderdocxEnv.getInstance().metrics.startTiming();
         doc.save(os);
+        UnderdocxEnv.getInstance().metrics.documentSaved(getClass(), startTime);
     }
 
     public String getPlainText() {
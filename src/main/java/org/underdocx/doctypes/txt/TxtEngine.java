@@ -28,6 +28,7 @@ import org.underdocx.common.types.Pair;
 import org.underdocx.doctypes.AbstractEngine;
 import org.underdocx.doctypes.commands.*;
 import org.underdocx.doctypes.modifiers.ModifiersProvider;
+import org.underdocx.doctypes.template.CompiledTemplate;
 import org.underdocx.doctypes.tools.placeholder.GenericTextualPlaceholdersProviderFactory;
 import org.underdocx.doctypes.txt.commands.TxtImportCommandHandler;
 import org.underdocx.doctypes.txt.modifiers.TxtModifiersProvider;
@@ -36,6 +37,8 @@ import org.underdocx.enginelayers.modelengine.MCommandHandler;
 import org.underdocx.enginelayers.modelengine.ModelEngine;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
 
+import java.util.function.Supplier;
+
 
 public class TxtEngine extends AbstractEngine<TxtContainer, TxtXml> {
 
@@ -48,28 +51,28 @@ public class TxtEngine extends AbstractEngine<TxtContainer, TxtXml> {
 
 
     protected void registerDefaultCommandHandlers() {
-        engine.registerCommandHandler(parameters, new IgnoreCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ModelCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new StringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ShortModelStringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ShortVarStringCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new VariableCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new DeleteNodesEodHandler<>(modifiers));
-
-        engine.registerCommandHandler(parameters, new ForCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new DateCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new TimeCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, aliasCommandHandler);
-        engine.registerCommandHandler(parameters, multiCommandHandler);
-        engine.registerCommandHandler(parameters, new JoinCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new NumberCommandHandler<>(modifiers));
-
-        engine.registerCommandHandler(parameters, new CounterCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new IfCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new TxtImportCommandHandler(modifiers));
-        engine.registerCommandHandler(parameters, new ConcatCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new CalcCommandHandler<>(modifiers));
-        engine.registerCommandHandler(parameters, new ReplaceCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new IgnoreCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ModelCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new StringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ShortModelStringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ShortVarStringCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new VariableCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new DeleteNodesEodHandler<>(modifiers));
+
+        engine.registerCommandHandler(parameters, () -> new ForCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new DateCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new TimeCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new AliasCommandHandler<>(aliasCommandHandler));
+        engine.registerCommandHandler(parameters, () -> new MultiCommandHandler<>(multiCommandHandler));
+        engine.registerCommandHandler(parameters, () -> new JoinCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new NumberCommandHandler<>(modifiers));
+
+        engine.registerCommandHandler(parameters, () -> new CounterCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new IfCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new TxtImportCommandHandler(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ConcatCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new CalcCommandHandler<>(modifiers));
+        engine.registerCommandHandler(parameters, () -> new ReplaceCommandHandler<>(modifiers));
     }
 
     public TxtEngine() {
@@ -82,6 +85,13 @@ public class TxtEngine extends AbstractEngine<TxtContainer, TxtXml> {
         registerDefaultCommandHandlers();
     }
 
+    /**
+     * Analyzes the template once to render it many times, see {@link CompiledTemplate}
+     */
+    public static CompiledTemplate<TxtContainer, TxtXml> compile(TxtContainer template) {
+        return CompiledTemplate.compile(template, TxtContainer::new, new TxtDefaultPlaceholdersProviderFactory(), TxtEngine::new);
+    }
+
     @Override
     protected ModelEngine<TxtContainer, TxtXml> getEngine() {
         return engine;
@@ -104,10 +114,15 @@ public class TxtEngine extends AbstractEngine<TxtContainer, TxtXml> {
         aliasCommandHandler.registerAlias(aliasData);
     }
 
+    @Deprecated
     public void registerParametersCommandHandler(MCommandHandler<TxtContainer, ParametersPlaceholderData, TxtXml> commandHandler) {
         this.getEngine().registerCommandHandler(parameters, commandHandler);
     }
 
+    public void registerParametersCommandHandler(Supplier<? extends MCommandHandler<TxtContainer, ParametersPlaceholderData, TxtXml>> commandHandler) {
+        this.getEngine().registerCommandHandler(parameters, commandHandler);
+    }
+
     public ModifiersProvider<TxtContainer, TxtXml> getModifiers() {
         return modifiers;
     }
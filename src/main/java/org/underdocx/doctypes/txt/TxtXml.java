@@ -26,6 +26,7 @@ package org.underdocx.doctypes.txt;
 
 import org.apache.commons.io.IOUtils;
 import org.underdocx.common.codec.XMLCodec;
+import org.underdocx.common.tree.TreeCursor;
 import org.underdocx.common.tree.TreeWalker;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -55,6 +56,10 @@ public class TxtXml {
         this.doc = parse(is);
     }
 
+    public TxtXml(TxtXml other) {
+        this.doc = (Document) other.doc.cloneNode(true);
+    }
+
     public Document getDoc() {
         return doc;
     }
@@ -103,11 +108,11 @@ public class TxtXml {
     }
 
     public void save(TextWriter w) throws IOException {
-        TreeWalker walker = new TreeWalker(doc, doc, null);
+        TreeCursor cursor = new TreeCursor(doc, doc);
         List<String> stack = new ArrayList<>();
         boolean lastWasEndOfP = false;
-        while (walker.hasNext()) {
-            TreeWalker.VisitState state = walker.next();
+        while (cursor.next()) {
+            TreeWalker.VisitState state = cursor.getState();
             if (state.getNode().getNodeType() != Node.TEXT_NODE) {
                 if (state.isBeginVisit()) {
                     stack.add(0, state.getNode().getNodeName());
@@ -24,6 +24,7 @@ SOFTWARE.
 
 package org.underdocx.doctypes.txt.commands;
 
+import org.underdocx.common.cache.ResourceCache;
 import org.underdocx.common.types.Regex;
 import org.underdocx.common.types.Resource;
 import org.underdocx.doctypes.commands.internal.AbstractImportCommandHandler;
@@ -65,5 +66,11 @@ public class TxtImportCommandHandler extends AbstractImportCommandHandler<TxtCon
         return new TxtContainer(data);
     }
 
+    @Override
+    protected TxtContainer copyContainer(ResourceCache.Entry source) throws Exception {
+        return source.copyTemplate(() -> createContainer(source.getData()),
+                template -> new TxtContainer(new TxtXml(template.getDocument())));
+    }
+
 
 }
@@ -35,6 +35,7 @@ import org.underdocx.doctypes.txt.TxtXml;
 import org.underdocx.enginelayers.baseengine.ModifierNodeResult;
 import org.underdocx.enginelayers.baseengine.ModifierResult;
 import org.underdocx.enginelayers.baseengine.SelectionModifier;
+import org.underdocx.environment.UnderdocxEnv;
 import org.w3c.dom.Node;
 
 import java.util.function.Predicate;
@@ -56,6 +57,7 @@ public class TxtImportModifier extends AbstractModifier<TxtContainer, TxtXml> im
                             first.value = clone;
                         }
                         p.getParentNode().insertBefore(clone, p);
+                        UnderdocxEnv.getInstance().metrics.nodesCloned(getClass(), 1);
                     }));
             modifiers.getDeletePlaceholderModifier().modify(selection, DeletePlaceholderModifierData.DEFAULT);
         });
@@ -27,8 +27,8 @@ package org.underdocx.doctypes.txt.placeholders;
 import org.underdocx.common.codec.Codec;
 import org.underdocx.common.enumerator.Enumerator;
 import org.underdocx.common.placeholder.EncapsulatedNodesExtractor;
-import org.underdocx.common.placeholder.basic.extraction.RegexExtractor;
-import org.underdocx.common.types.Regex;
+import org.underdocx.common.placeholder.basic.detection.DelimitedTextDetector;
+import org.underdocx.common.placeholder.basic.extraction.DelimitedExtractor;
 import org.underdocx.doctypes.TextNodeInterpreter;
 import org.underdocx.doctypes.tools.placeholder.GenericTextualPlaceholdersProviderFactory;
 import org.underdocx.doctypes.txt.TxtContainer;
@@ -40,24 +40,24 @@ import org.w3c.dom.Node;
 public class TxtPlaceholderStyle {
 
     public static final GenericTextualPlaceholdersProviderFactory<TxtContainer, ParametersPlaceholderData, TxtXml> XML_COMMENT =
-            new TxtPlaceholdersProvider("<!--${", "}-->", new Regex("<!--\\$\\{.*?\\}-->"));
+            new TxtPlaceholdersProvider("<!--${", "}-->");
     public static final GenericTextualPlaceholdersProviderFactory<TxtContainer, ParametersPlaceholderData, TxtXml> CODE_COMMENT =
-            new TxtPlaceholdersProvider("/*!", "!*/", new Regex("\\/\\*!.*?!\\*\\/"));
+            new TxtPlaceholdersProvider("/*!", "!*/");
     public static final GenericTextualPlaceholdersProviderFactory<TxtContainer, ParametersPlaceholderData, TxtXml> HASH_COMMENT =
-            new TxtPlaceholdersProvider("#!", "!#", new Regex("#!.*?!#"));
+            new TxtPlaceholdersProvider("#!", "!#");
     public static final GenericTextualPlaceholdersProviderFactory<TxtContainer, ParametersPlaceholderData, TxtXml> DEFAULT = new TxtDefaultPlaceholdersProviderFactory();
     public static final GenericTextualPlaceholdersProviderFactory<TxtContainer, ParametersPlaceholderData, TxtXml> DOUBLE_BRACKETS = new TxtDoubleBracketsParameterizedPlaceholdersProviderFactory();
 
     protected static class TxtPlaceholdersProvider implements GenericTextualPlaceholdersProviderFactory<TxtContainer, ParametersPlaceholderData, TxtXml> {
 
-        private final Regex regex;
+        private final DelimitedTextDetector detector;
         private final String suffix;
         private final String prefix;
 
-        protected TxtPlaceholdersProvider(String prefix, String suffix, Regex regex) {
+        protected TxtPlaceholdersProvider(String prefix, String suffix) {
             this.prefix = prefix;
             this.suffix = suffix;
-            this.regex = regex;
+            this.detector = new DelimitedTextDetector(prefix, suffix);
         }
 
         @Override
@@ -72,7 +72,7 @@ public class TxtPlaceholderStyle {
 
         @Override
         public EncapsulatedNodesExtractor getExtractor() {
-            return new RegexExtractor(regex, getTextNodeInterpreter());
+            return new DelimitedExtractor(detector, getTextNodeInterpreter());
         }
 
         @Override
@@ -26,194 +26,347 @@ package org.underdocx.enginelayers.baseengine;
 
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.tree.DocumentOrderIndex;
+import org.underdocx.common.tree.Nodes;
 import org.underdocx.common.types.Pair;
 import org.underdocx.doctypes.DocContainer;
+import org.underdocx.enginelayers.baseengine.EngineAccess.AreaResult;
 import org.underdocx.enginelayers.baseengine.internal.EngineAccessImpl;
+import org.underdocx.enginelayers.baseengine.internal.IncrementalScanner;
 import org.underdocx.enginelayers.baseengine.internal.PlaceholdersEnumerator;
 import org.underdocx.enginelayers.baseengine.internal.SelectionImpl;
 import org.underdocx.environment.UnderdocxEnv;
 import org.underdocx.environment.err.Problem;
 import org.underdocx.environment.err.Problems;
+import org.underdocx.environment.metrics.EngineMetrics;
 import org.w3c.dom.Node;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.underdocx.common.tools.Convenience.build;
 
 public class BaseEngine<C extends DocContainer<D>, D> {
 
-    protected C doc;
-
-    protected int step = 0;
-    protected boolean rescan = true;
-    protected boolean initialized = false;
+    /**
+     * Configuration of the engine: a placeholders provider (or a factory creating one per run) and a supplier
+     * of the command handler. Handlers registered as instances are shared by all runs, handlers registered
+     * as supplier are created for each run.
+     */
+    protected record Registration<C extends DocContainer<D>, D>(
+            PlaceholdersProvider.Factory<C, ?, D> providerFactory,
+            PlaceholdersProvider<C, ?, D> provider,
+            Supplier<? extends CommandHandler<C, ?, D>> commandHandler) {
+    }
 
-    protected final ArrayListValuedHashMap<PlaceholdersProvider<C, ?, D>, CommandHandler<C, ?, D>> registry = new ArrayListValuedHashMap<>();
-    protected final HashMap<Class<?>, PlaceholdersProvider<C, ?, D>> reverseRegistry = new HashMap<>();
-    protected final IdentityHashMap<PlaceholdersProvider.Factory<C, ?, D>, PlaceholdersProvider<C, ?, D>> factoryProviderMap = new IdentityHashMap<>();
-    protected final LinkedHashSet<EngineListener<C, D>> listeners = new LinkedHashSet<>();
-    protected Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> placeholderEnumerator;
+    protected final List<Registration<C, D>> registrations = new ArrayList<>();
 
     public BaseEngine() {
     }
 
-    private void prepareRun(C doc) {
-        this.doc = doc;
-        step = 0;
-        rescan = true;
-        initialized = false;
+    /**
+     * @deprecated the handler instance is shared by all runs of this engine, so runs must not overlap
+     * (e.g. in a BatchRenderer). Register a supplier which creates the handler for each run instead.
+     */
+    @Deprecated
+    public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider.Factory<C, X, D> providerFactory, CommandHandler<C, X, D> commandHandler) {
+        return registerCommandHandler(providerFactory, () -> commandHandler);
     }
 
-    public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider.Factory<C, X, D> providerFactory, CommandHandler<C, X, D> commandHandler) {
-        PlaceholdersProvider<C, ?, D> provider = factoryProviderMap.get(providerFactory);
-        if (provider == null) {
-            provider = providerFactory.createProvider(doc);
-            factoryProviderMap.put(providerFactory, provider);
+    public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider.Factory<C, X, D> providerFactory, Supplier<? extends CommandHandler<C, X, D>> commandHandler) {
+        synchronized (registrations) {
+            registrations.add(new Registration<>(providerFactory, null, commandHandler));
         }
-        return registerCommandHandler((PlaceholdersProvider<C, X, D>) provider, commandHandler);
+        return this;
     }
 
+    /**
+     * @deprecated the handler instance is shared by all runs of this engine, so runs must not overlap
+     * (e.g. in a BatchRenderer). Register a supplier which creates the handler for each run instead.
+     */
+    @Deprecated
     public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider<C, X, D> provider, CommandHandler<C, X, D> commandHandler) {
-        registry.put(provider, commandHandler);
-        reverseRegistry.put(commandHandler.getClass(), provider);
-        return this;
+        return registerCommandHandler(provider, () -> commandHandler);
     }
 
-    protected Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> createPlaceholdersEnumerator() {
-        return new PlaceholdersEnumerator<>(doc, registry.keySet()).cache();
+    public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider<C, X, D> provider, Supplier<? extends CommandHandler<C, X, D>> commandHandler) {
+        synchronized (registrations) {
+            registrations.add(new Registration<>(null, provider, commandHandler));
+        }
+        return this;
     }
 
-    protected CommandHandlerResult findAndExecCommandHandler(PlaceholdersProvider<C, ?, D> provider, Selection<C, ?, D> selection) {
-        return build(CommandHandlerResult.IGNORED, result -> {
-            for (CommandHandler<C, ?, D> commandHandler : registry.get(provider)) {
-                try {
-                    result.value = commandHandler.tryExecuteCommand((Selection) selection);
-                } catch (Exception e) {
-                    Problems.COMMAND_HANDLER_FAILED
-                            .toProblem()
-                            .command(commandHandler)
-                            .node(selection.getNode())
-                            .handle(e)
-                            .fire();
-                }
-                if (result.value != CommandHandlerResult.IGNORED) {
-                    if (UnderdocxEnv.getInstance().isDebug) {
-                        UnderdocxEnv.getInstance().logger.trace("Step " + step + ": commandHandler " + commandHandler + " returned type: " + result.value.getResultType().name() + ", (changed) node: " + selection.getNode() + ", nextValidNode: " + result.value.getRestartNode());
-                    }
-                    break;
-                }
-            }
-        });
+    protected Execution createExecution(C doc) {
+        return new Execution(doc);
     }
 
-    protected <P> Selection<C, P, D> createSelection(PlaceholdersProvider<C, P, D> provider, Node node, EngineAccess<C, D> engineAccess) {
-        return new SelectionImpl<>(doc, node, provider, engineAccess);
+    public Optional<Problem> run(C doc) {
+        return createExecution(doc).run();
     }
 
-    protected void stepExecuted(Selection<C, ?, D> selection) {
-        if (UnderdocxEnv.getInstance().isDebug) {
-            try {
-                String fileName = "Debug_" + step + "_" + System.currentTimeMillis() + "." + selection.getDocContainer().getFileExtension();
-                String fileDir = System.getProperty("java.io.tmpdir");
-                File tmpFile = new File(fileDir + "/" + fileName);
-                UnderdocxEnv.getInstance().logger.trace("save debug file: " + tmpFile);
-                selection.getDocContainer().save(tmpFile);
-            } catch (IOException e) {
-                UnderdocxEnv.getInstance().logger.error("Failed to create debug file", e);
+    /**
+     * State of a single {@link #run(DocContainer)}, the engine itself only holds the configuration
+     */
+    protected class Execution {
+
+        protected final C doc;
+
+        protected int step = 0;
+        protected boolean rescan = true;
+        protected boolean initialized = false;
+
+        protected final ArrayListValuedHashMap<PlaceholdersProvider<C, ?, D>, CommandHandler<C, ?, D>> registry = new ArrayListValuedHashMap<>();
+        protected final HashMap<Class<?>, PlaceholdersProvider<C, ?, D>> reverseRegistry = new HashMap<>();
+        protected final LinkedHashSet<EngineListener<C, D>> listeners = new LinkedHashSet<>();
+        protected Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> placeholderEnumerator;
+        protected final List<Node> visited = new ArrayList<>();
+        protected final DocumentOrderIndex documentOrder = new DocumentOrderIndex();
+        protected final IncrementalScanner<C, D> incrementalScanner;
+        protected Node restartNode = null;
+        protected boolean restartAtEndOfDoc = false;
+        // time spent in command handlers executed within the currently executing one
+        protected long nestedHandlerTime = 0;
+        protected final EngineAccess<C, D> engineAccess = new EngineAccessImpl<>(listeners, () -> rescan = true,
+                this::getLookAheadEnumerator, () -> visited, reverseRegistry, this::processArea, this::getScanStatistics);
+
+        protected Execution(C doc) {
+            this.doc = doc;
+            this.incrementalScanner = UnderdocxEnv.getInstance().incrementalRescan ? new IncrementalScanner<>(doc, documentOrder, this::scanFrom) : null;
+            IdentityHashMap<PlaceholdersProvider.Factory<C, ?, D>, PlaceholdersProvider<C, ?, D>> factoryProviderMap = new IdentityHashMap<>();
+            List<Registration<C, D>> snapshot;
+            synchronized (registrations) {
+                snapshot = new ArrayList<>(registrations);
+            }
+            for (Registration<C, D> registration : snapshot) {
+                PlaceholdersProvider<C, ?, D> provider = registration.provider();
+                if (provider == null) {
+                    provider = factoryProviderMap.computeIfAbsent(registration.providerFactory(), factory -> factory.createProvider(doc));
+                }
+                CommandHandler<C, ?, D> commandHandler = registration.commandHandler().get();
+                registry.put(provider, commandHandler);
+                reverseRegistry.put(commandHandler.getClass(), provider);
             }
         }
-    }
 
-    public Optional<Problem> run(C doc) {
-        prepareRun(doc);
-        long startTime = System.currentTimeMillis();
-        Problem detectedError = null;
-        try {
-            runUncatched();
-        } catch (Exception e) {
-            UnderdocxEnv.getInstance().logger.error(e);
-            detectedError = Problems.UNEXPECTED_EXCEPION_CAUGHT.toProblem().handle(e);
-        }
-        long endTime = System.currentTimeMillis();
-        UnderdocxEnv.getInstance().logger.trace("Engine execution: " + ((double) (endTime - startTime)) / 1000 + " sec");
-        if (detectedError != null && UnderdocxEnv.getInstance().appendErrorReport) {
-            doc.appendText(
-                    "\n---------------------------\n" +
-                            "Problem Report: \n" +
-                            "---------------------------\n" +
-                            detectedError);
-        }
-        if (detectedError != null) {
-            UnderdocxEnv.getInstance().logger.error(detectedError.toString());
-        }
-        return Optional.ofNullable(detectedError);
-    }
+        protected Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> createPlaceholdersEnumerator() {
+            if (incrementalScanner == null) {
+                return new PlaceholdersEnumerator<>(doc, registry.keySet(), documentOrder).cache();
+            }
+            return incrementalScanner.getPlaceholders(restartNode, restartAtEndOfDoc).cache();
+        }
+
+        protected Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> scanFrom(Node node) {
+            registry.keySet().forEach(provider -> provider.restartAt(node, false));
+            return new PlaceholdersEnumerator<>(doc, registry.keySet(), documentOrder);
+        }
+
+        protected Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> getLookAheadEnumerator() {
+            return incrementalScanner == null ? placeholderEnumerator : incrementalScanner.observeLookAhead(placeholderEnumerator);
+        }
+
+        protected ScanStatistics getScanStatistics() {
+            return incrementalScanner;
+        }
+
+        protected void restartProviders(Node node, boolean endOfDoc) {
+            restartNode = node;
+            restartAtEndOfDoc = endOfDoc;
+            registry.keySet().forEach(provider -> provider.restartAt(node, endOfDoc));
+        }
+
+        protected CommandHandlerResult findAndExecCommandHandler(PlaceholdersProvider<C, ?, D> provider, Selection<C, ?, D> selection) {
+            return build(CommandHandlerResult.IGNORED, result -> {
+                EngineMetrics metrics = UnderdocxEnv.getInstance().metrics;
+                for (CommandHandler<C, ?, D> commandHandler : registry.get(provider)) {
+                    long outerNestedTime = nestedHandlerTime;
+                    nestedHandlerTime = 0;
+                    long startTime = metrics.startTiming();
+                    try {
+                        result.value = commandHandler.tryExecuteCommand((Selection) selection);
+                        if (result.value != CommandHandlerResult.IGNORED) {
+                            // placeholders processed on behalf of the handler are reported for their own handlers
+                            metrics.handlerExecuted(commandHandler.getClass(), startTime + nestedHandlerTime);
+                        }
+                    } catch (Exception e) {
+                        Problems.COMMAND_HANDLER_FAILED
+                                .toProblem()
+                                .command(commandHandler)
+                                .node(selection.getNode())
+                                .handle(e)
+                                .fire();
+                    } finally {
+                        nestedHandlerTime = outerNestedTime + (startTime == 0L ? 0L : System.nanoTime() - startTime);
+                    }
+                    if (result.value != CommandHandlerResult.IGNORED) {
+                        if (UnderdocxEnv.getInstance().isDebug) {
+                            UnderdocxEnv.getInstance().logger.trace("Step " + step + ": commandHandler " + commandHandler + " returned type: " + result.value.getResultType().name() + ", (changed) node: " + selection.getNode() + ", nextValidNode: " + result.value.getRestartNode());
+                        }
+                        break;
+                    }
+                }
+            });
+        }
 
-    protected boolean reactOnExecutionResult(CommandHandlerResult executionResult, Selection<C, ?, D> selection) {
-        switch (executionResult.getResultType()) {
-            case IGNORED ->
-                    UnderdocxEnv.getInstance().logger.warn("No Command handler found four " + selection.getNode(), null);
-            case EXECUTED_PROCEED -> stepExecuted(selection);
-            case EXECUTED_FULL_RESCAN -> {
-                stepExecuted(selection);
-                registry.keySet().forEach(provider -> provider.restartAt(null, false));
-                rescan = true;
+        protected <P> Selection<C, P, D> createSelection(PlaceholdersProvider<C, P, D> provider, Node node, EngineAccess<C, D> engineAccess) {
+            return new SelectionImpl<>(doc, node, provider, engineAccess);
+        }
+
+        protected void stepExecuted(Selection<C, ?, D> selection) {
+            if (UnderdocxEnv.getInstance().isDebug) {
+                try {
+                    String fileName = "Debug_" + step + "_" + System.currentTimeMillis() + "." + selection.getDocContainer().getFileExtension();
+                    String fileDir = System.getProperty("java.io.tmpdir");
+                    File tmpFile = new File(fileDir + "/" + fileName);
+                    UnderdocxEnv.getInstance().logger.trace("save debug file: " + tmpFile);
+                    selection.getDocContainer().save(tmpFile);
+                } catch (IOException e) {
+                    UnderdocxEnv.getInstance().logger.error("Failed to create debug file", e);
+                }
             }
-            case EXECUTED_RESTART_AT_NODE -> {
-                stepExecuted(selection);
-                registry.keySet().forEach(provider -> provider.restartAt(executionResult.getRestartNode(), false));
-                placeholderEnumerator = createPlaceholdersEnumerator();
+        }
+
+        public Optional<Problem> run() {
+            long startTime = System.nanoTime();
+            Problem detectedError = null;
+            try {
+                runUncatched();
+            } catch (Exception e) {
+                UnderdocxEnv.getInstance().logger.error(e);
+                detectedError = Problems.UNEXPECTED_EXCEPION_CAUGHT.toProblem().handle(e);
+            } finally {
+                if (incrementalScanner != null) {
+                    incrementalScanner.release();
+                }
+                documentOrder.release();
             }
-            case EXECUTED_END_OF_DOC -> {
-                stepExecuted(selection);
-                registry.keySet().forEach(provider -> provider.restartAt(null, true));
-                placeholderEnumerator = createPlaceholdersEnumerator();
+            UnderdocxEnv.getInstance().metrics.engineExecuted(startTime);
+            UnderdocxEnv.getInstance().logger.trace(() -> "Engine execution: " + ((double) (System.nanoTime() - startTime)) / 1000000000 + " sec");
+            if (detectedError != null && UnderdocxEnv.getInstance().appendErrorReport) {
+                doc.appendText(
+                        "\n---------------------------\n" +
+                                "Problem Report: \n" +
+                                "---------------------------\n" +
+                                detectedError);
             }
-            case EXIT -> {
-                stepExecuted(selection);
-                return false;
+            if (detectedError != null) {
+                UnderdocxEnv.getInstance().logger.error(detectedError.toString());
             }
-            default -> Problems.UNEXPECTED_TYPE_DETECTED.fireValue(executionResult.getResultType().name());
+            return Optional.ofNullable(detectedError);
         }
-        return true;
-    }
 
-    protected void runUncatched() {
-        List<Node> visited = new ArrayList<>();
-        EngineAccess<C, D> engineAccess = new EngineAccessImpl<>(listeners, () -> rescan = true, () -> placeholderEnumerator, () -> visited, reverseRegistry);
-        while (rescan) {
-            placeholderEnumerator = createPlaceholdersEnumerator();
-            visited.clear();
-            rescan = false;
-            if (initialized) {
-                listeners.forEach(listener -> listener.rescan(doc, engineAccess));
+        protected boolean reactOnExecutionResult(CommandHandlerResult executionResult, Selection<C, ?, D> selection) {
+            UnderdocxEnv.getInstance().metrics.handlerResult(executionResult.getResultType());
+            switch (executionResult.getResultType()) {
+                case IGNORED ->
+                        UnderdocxEnv.getInstance().logger.warn("No Command handler found four " + selection.getNode(), null);
+                case EXECUTED_PROCEED -> stepExecuted(selection);
+                case EXECUTED_FULL_RESCAN -> {
+                    stepExecuted(selection);
+                    restartProviders(null, false);
+                    rescan = true;
+                }
+                case EXECUTED_RESTART_AT_NODE -> {
+                    stepExecuted(selection);
+                    restartProviders(executionResult.getRestartNode(), false);
+                    placeholderEnumerator = createPlaceholdersEnumerator();
+                }
+                case EXECUTED_END_OF_DOC -> {
+                    stepExecuted(selection);
+                    restartProviders(null, true);
+                    placeholderEnumerator = createPlaceholdersEnumerator();
+                }
+                case EXIT -> {
+                    stepExecuted(selection);
+                    return false;
+                }
+                default -> Problems.UNEXPECTED_TYPE_DETECTED.fireValue(executionResult.getResultType().name());
             }
-            if (!initialized) {
-                registry.values().forEach(handler -> handler.init(doc, engineAccess));
-                initialized = true;
+            return true;
+        }
+
+        protected void runUncatched() {
+            while (rescan) {
+                placeholderEnumerator = createPlaceholdersEnumerator();
+                visited.clear();
+                rescan = false;
+                if (initialized) {
+                    listeners.forEach(listener -> listener.rescan(doc, engineAccess));
+                }
+                if (!initialized) {
+                    registry.values().forEach(handler -> handler.init(doc, engineAccess));
+                    initialized = true;
+                }
+                processPlaceholders(null, null);
+
+                boolean endOfDoc = !rescan;
+                listeners.forEach(listener -> {
+                    if (!rescan) {
+                        listener.eodReached(doc, engineAccess);
+                    }
+                });
+                if (endOfDoc && incrementalScanner != null) {
+                    // listeners at the end of the document may change it anywhere
+                    incrementalScanner.clear();
+                }
             }
+        }
+
+        /**
+         * Processes the placeholders of the current enumerator until a rescan is requested or a placeholder
+         * within or behind the stop node is reached. Placeholders within the skip node are ignored.
+         */
+        protected AreaResult processPlaceholders(Node skipNode, Node stopNode) {
             while (!rescan && placeholderEnumerator.hasNext()) {
-                step++;
                 Pair<PlaceholdersProvider<C, ?, D>, Node> placeholder = placeholderEnumerator.next();
+                if (stopNode != null && Nodes.isAncestorOrSelf(stopNode, placeholder.right)) {
+                    return AreaResult.END_REACHED;
+                }
+                if (stopNode != null && documentOrder.compareInDocumentOrder(placeholder.right, stopNode) > 0) {
+                    return AreaResult.END_NOT_REACHED;
+                }
+                if (skipNode != null && Nodes.isAncestorOrSelf(skipNode, placeholder.right)) {
+                    continue;
+                }
+                step++;
+                UnderdocxEnv.getInstance().metrics.placeholderProcessed(placeholder.left.getClass());
                 if (UnderdocxEnv.getInstance().isDebug) {
                     UnderdocxEnv.getInstance().logger.trace("Processing placeholder: " + placeholder.right);
                 }
                 Selection<C, ?, D> selection = createSelection(placeholder.left, placeholder.right, engineAccess);
+                if (incrementalScanner != null) {
+                    incrementalScanner.placeholderExecuting(placeholder.right);
+                }
                 CommandHandlerResult executionResult = findAndExecCommandHandler(placeholder.left, selection);
+                if (incrementalScanner != null) {
+                    incrementalScanner.placeholderExecuted(executionResult);
+                }
                 visited.add(selection.getNode());
                 if (!reactOnExecutionResult(executionResult, selection)) {
                     UnderdocxEnv.getInstance().logger.trace("Exiting engine execution by exit command");
-                    break;
+                    return AreaResult.EXIT;
                 }
             }
+            return AreaResult.END_NOT_REACHED;
+        }
 
-            listeners.forEach(listener -> {
-                if (!rescan) {
-                    listener.eodReached(doc, engineAccess);
+        protected AreaResult processArea(Node begin, Node end) {
+            while (true) {
+                // a rescan requested within the area must not leave it, outer areas are still being processed
+                if (incrementalScanner != null) {
+                    incrementalScanner.areaEntered(end);
                 }
-            });
+                restartProviders(begin, false);
+                placeholderEnumerator = createPlaceholdersEnumerator();
+                AreaResult result = processPlaceholders(begin, end);
+                if (result != AreaResult.END_NOT_REACHED || !rescan) {
+                    return result;
+                }
+                rescan = false;
+                visited.clear();
+                listeners.forEach(listener -> listener.rescan(doc, engineAccess));
+            }
         }
     }
 }
@@ -35,6 +35,12 @@ import java.util.function.Predicate;
 
 public interface EngineAccess<C extends DocContainer<D>, D> {
 
+    enum AreaResult {
+        END_REACHED,
+        EXIT,
+        END_NOT_REACHED
+    }
+
     void addListener(EngineListener<C, D> listener);
 
     void removeListener(EngineListener<C, D> listener);
@@ -48,4 +54,20 @@ public interface EngineAccess<C extends DocContainer<D>, D> {
     <H extends CommandHandler<C, ?, D>> Optional<? extends TextualPlaceholderToolkit<?>> getToolkit(Class<H> commandHandler);
 
     void sendCustomEvent(CustomEvent event);
+
+    /**
+     * Processes all placeholders between the begin and the end node, placeholders within both nodes are not processed.
+     * Command handlers can use this to execute nested placeholders while they are still running.
+     *
+     * Rescans requested within the area restart at the begin node.
+     *
+     * @return EXIT if a command handler requested to exit, END_NOT_REACHED if the end node has been removed or
+     * the placeholders ran out or continued behind the end node
+     */
+    AreaResult processArea(Node begin, Node end);
+
+    /**
+     * @return statistics of the placeholder scans of the current run, empty if incremental rescans are disabled
+     */
+    Optional<ScanStatistics> getScanStatistics();
 }
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -47,18 +48,24 @@ public class EngineAccessImpl<C extends DocContainer<D>, D> implements EngineAcc
     private final Supplier<List<Node>> lookBack;
     private final Supplier<Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>>> lookAhead;
     private final Map<Class<?>, PlaceholdersProvider<C, ?, D>> handler2ProviderMap;
+    private final BiFunction<Node, Node, AreaResult> areaProcessor;
+    private final Supplier<ScanStatistics> scanStatistics;
 
 
     public EngineAccessImpl(Set<EngineListener<C, D>> listeners,
                             Runnable forceRescan,
                             Supplier<Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>>> lookAhead,
                             Supplier<List<Node>> lookBack,
-                            Map<Class<?>, PlaceholdersProvider<C, ?, D>> handler2ProviderMap) {
+                            Map<Class<?>, PlaceholdersProvider<C, ?, D>> handler2ProviderMap,
+                            BiFunction<Node, Node, AreaResult> areaProcessor,
+                            Supplier<ScanStatistics> scanStatistics) {
         this.listeners = listeners;
         this.rescan = forceRescan;
         this.lookAhead = lookAhead;
         this.lookBack = lookBack;
         this.handler2ProviderMap = handler2ProviderMap;
+        this.areaProcessor = areaProcessor;
+        this.scanStatistics = scanStatistics;
     }
 
     @Override
@@ -125,6 +132,16 @@ public class EngineAccessImpl<C extends DocContainer<D>, D> implements EngineAcc
         } else return Optional.empty();
     }
 
+    @Override
+    public AreaResult processArea(Node begin, Node end) {
+        return areaProcessor.apply(begin, end);
+    }
+
+    @Override
+    public Optional<ScanStatistics> getScanStatistics() {
+        return Optional.ofNullable(scanStatistics.get());
+    }
+
     @Override
     public void sendCustomEvent(CustomEvent event) {
         listeners.forEach(l -> l.onCustomEvemt(event));
@@ -0,0 +1,500 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.enginelayers.baseengine.internal;
+
+import org.underdocx.common.enumerator.AbstractPrepareNextEnumerator;
+import org.underdocx.common.enumerator.Enumerator;
+import org.underdocx.common.tree.DocumentOrderIndex;
+import org.underdocx.common.tree.Nodes;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.DocContainer;
+import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
+import org.underdocx.enginelayers.baseengine.PlaceholdersProvider;
+import org.underdocx.enginelayers.baseengine.ScanStatistics;
+import org.w3c.dom.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keeps the placeholders the engine enumerated as a list in document order. Each entry knows whether the
+ * region up to the next entry is unchanged since it has been scanned. Instead of observing the DOM, the engine
+ * reports its own mutation points: an executed placeholder changes the region around itself and the placeholders
+ * its handler looked ahead to, a restart or a loop area additionally the range up to the restart node or the end
+ * of the area. Restarts and rescans follow the unchanged regions and scan only the changed ones, starting at the
+ * nearest node in front of the change which survived it.
+ * <p>
+ * This relies on command handlers changing the document only between the placeholders around their own one
+ * and the placeholders they looked ahead to, or up to the node they restart at. Engine listeners must not change
+ * the document on rescans. Changes at the end of the document and replacing the document of the container drop
+ * everything recorded ({@link #clear()}).
+ */
+public class IncrementalScanner<C extends DocContainer<D>, D> implements ScanStatistics {
+
+    private final C doc;
+    private final DocumentOrderIndex documentOrder;
+    private final Function<Node, Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>>> scanner;
+    private final Map<Node, Entry> entries = new IdentityHashMap<>();
+    private final Deque<Execution> executions = new ArrayDeque<>();
+    private Entry head = new Entry(null);
+    private Entry restartPredecessor = null;
+    private long scanned = 0;
+    private long reused = 0;
+
+    /**
+     * @param scanner creates the merged placeholders enumeration of all providers restarted at the given node
+     *                ({@code null} for the start of the documents)
+     */
+    public IncrementalScanner(C doc, DocumentOrderIndex documentOrder,
+                              Function<Node, Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>>> scanner) {
+        this.doc = doc;
+        this.documentOrder = documentOrder;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public long getScannedPlaceholders() {
+        return scanned;
+    }
+
+    @Override
+    public long getReusedPlaceholders() {
+        return reused;
+    }
+
+    /**
+     * @return the placeholders starting at the restart node ({@code null} for a full rescan), like the merged
+     * enumeration of all providers after {@link PlaceholdersProvider#restartAt(Node, boolean)}
+     */
+    public Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> getPlaceholders(Node restartNode, boolean endOfDoc) {
+        if (endOfDoc) {
+            return Enumerator.empty();
+        }
+        if (restartNode == null) {
+            return new ReusingEnumerator(head, null);
+        }
+        Entry predecessor = restartPredecessor == null || restartPredecessor.removed ? null : restartPredecessor;
+        return new ReusingEnumerator(predecessor, scanner.apply(restartNode));
+    }
+
+    /**
+     * @return the enumerator which reports the placeholders a command handler looks ahead to, they belong to
+     * the region the handler may change
+     */
+    public Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> observeLookAhead(Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> lookAhead) {
+        return new LookAheadEnumerator(lookAhead);
+    }
+
+    /**
+     * Called before the command handlers get the placeholder
+     */
+    public void placeholderExecuting(Node placeholder) {
+        Entry entry = entries.get(placeholder);
+        executions.push(entry == null ? new Execution(null, null, List.of()) : new Execution(entry, entry.previous, findAnchors(placeholder)));
+    }
+
+    /**
+     * Called with the result of the command handlers for the placeholder reported by the last
+     * {@link #placeholderExecuting(Node)}
+     */
+    public void placeholderExecuted(CommandHandlerResult result) {
+        Execution execution = executions.pop();
+        restartPredecessor = execution.previous;
+        if (doc.getDocument() != execution.document) {
+            // the handler replaced the document
+            clear();
+            return;
+        }
+        switch (result.getResultType()) {
+            case IGNORED -> {
+            }
+            case EXECUTED_RESTART_AT_NODE -> invalidate(execution, result.getRestartNode(), true);
+            case EXECUTED_END_OF_DOC -> invalidate(execution, null, true);
+            default -> invalidate(execution, null, false);
+        }
+    }
+
+    /**
+     * Called when the executing command handler lets the engine process the area up to the end node,
+     * the area has been created by the handler
+     */
+    public void areaEntered(Node end) {
+        Execution execution = executions.peek();
+        if (execution == null || doc.getDocument() != execution.document) {
+            clear();
+            return;
+        }
+        invalidate(execution, end, true);
+        restartPredecessor = execution.previous;
+    }
+
+    /**
+     * Drops everything recorded, the following scans start from scratch
+     */
+    public void clear() {
+        entries.values().forEach(entry -> entry.removed = true);
+        entries.clear();
+        head.removed = true;
+        head = new Entry(null);
+        restartPredecessor = null;
+    }
+
+    public void release() {
+        clear();
+        executions.clear();
+    }
+
+    /*
+    The elements in front of the placeholder on each level, the first one still attached after the execution
+    is the position where changes may begin. Text nodes are left out, replacing placeholders splits and joins them.
+     */
+    private static List<Node> findAnchors(Node placeholder) {
+        List<Node> anchors = new ArrayList<>();
+        for (Node node = placeholder; node.getParentNode() != null; node = node.getParentNode()) {
+            Node sibling = node.getPreviousSibling();
+            while (sibling != null && sibling.getNodeType() != Node.ELEMENT_NODE) {
+                sibling = sibling.getPreviousSibling();
+            }
+            if (sibling != null) {
+                anchors.add(sibling);
+            }
+        }
+        return anchors;
+    }
+
+    private void invalidate(Execution execution, Node end, boolean range) {
+        Entry previous = execution.previous;
+        if (previous == null || previous.removed) {
+            clear();
+            return;
+        }
+        if (!execution.entry.removed) {
+            unlink(execution.entry);
+        }
+        int lookedAhead = (int) execution.lookedAhead.stream().filter(entry -> !entry.removed).count();
+        boolean bounded = end != null && isAttached(end);
+        while (previous.next != null && (lookedAhead > 0 || (range && (!bounded || isInFront(previous.next, end))))) {
+            Entry entry = previous.next;
+            if (execution.lookedAhead.contains(entry)) {
+                lookedAhead--;
+            }
+            unlink(entry);
+        }
+        Node anchor = execution.anchors.stream().filter(IncrementalScanner::isAttached).findFirst().orElse(null);
+        markChanged(previous, anchor);
+    }
+
+    private void unlink(Entry entry) {
+        entry.removed = true;
+        entries.remove(entry.node());
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+    }
+
+    private void insertBehind(Entry predecessor, Entry entry) {
+        entries.put(entry.node(), entry);
+        entry.previous = predecessor;
+        entry.next = predecessor.next;
+        if (predecessor.next != null) {
+            predecessor.next.previous = entry;
+        }
+        predecessor.next = entry;
+    }
+
+    private void markChanged(Entry entry, Node anchor) {
+        Node from = anchor != null && isBehind(anchor, entry) ? anchor : entry.node();
+        if (!entry.unchanged) {
+            from = earlier(entry, entry.changedFrom, from);
+        }
+        entry.unchanged = false;
+        entry.changedFrom = from;
+    }
+
+    /*
+    The earlier one of two nodes behind the entry, or the entry itself if they can't be compared anymore
+     */
+    private Node earlier(Entry entry, Node node1, Node node2) {
+        if (node1 == null || node2 == null || node1 == entry.node() || node2 == entry.node() || !isAttached(node1)
+                || node1.getOwnerDocument() != node2.getOwnerDocument()) {
+            return entry.node();
+        }
+        return documentOrder.compareInDocumentOrder(node1, node2) <= 0 ? node1 : node2;
+    }
+
+    /*
+    Nodes of different documents are considered behind, scans and handlers proceed from one document to the next
+     */
+    private boolean isBehind(Node node, Entry entry) {
+        Node entryNode = entry.node();
+        return entryNode == null || node.getOwnerDocument() != entryNode.getOwnerDocument()
+                || documentOrder.compareInDocumentOrder(node, entryNode) > 0;
+    }
+
+    private boolean isInFront(Entry entry, Node node) {
+        return !isAttached(entry.node()) || (entry.node().getOwnerDocument() == node.getOwnerDocument()
+                && documentOrder.compareInDocumentOrder(entry.node(), node) < 0);
+    }
+
+    private static boolean isAttached(Node node) {
+        return node.getOwnerDocument() != null && Nodes.isAncestorOrSelf(node.getOwnerDocument(), node);
+    }
+
+    /*
+    The nearest entry in front which is still in the list and in the document
+     */
+    private Entry present(Entry entry) {
+        Entry result = entry;
+        while (result != null && (result.removed || (result.node() != null && !isAttached(result.node())))) {
+            result = result.previous;
+        }
+        return result;
+    }
+
+    private class Entry {
+        private final Pair<PlaceholdersProvider<C, ?, D>, Node> placeholder;
+        private Entry previous = null;
+        private Entry next = null;
+        // the region up to the next entry (or the end of the documents) has been scanned and not changed since
+        private boolean unchanged = false;
+        // where scanning has to start again if the region has been changed, null for the start of the documents
+        private Node changedFrom;
+        private boolean removed = false;
+
+        private Entry(Pair<PlaceholdersProvider<C, ?, D>, Node> placeholder) {
+            this.placeholder = placeholder;
+            this.changedFrom = node();
+        }
+
+        private Node node() {
+            return placeholder == null ? null : placeholder.right;
+        }
+    }
+
+    private class Execution {
+        private final Entry entry;
+        private final Entry previous;
+        private final List<Node> anchors;
+        private final Set<Entry> lookedAhead = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final D document = doc.getDocument();
+
+        private Execution(Entry entry, Entry previous, List<Node> anchors) {
+            this.entry = entry;
+            this.previous = previous;
+            this.anchors = anchors;
+        }
+    }
+
+    private class LookAheadEnumerator implements Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> {
+        private final Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> inner;
+
+        private LookAheadEnumerator(Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return inner.hasNext();
+        }
+
+        @Override
+        public Pair<PlaceholdersProvider<C, ?, D>, Node> next() {
+            Pair<PlaceholdersProvider<C, ?, D>, Node> placeholder = inner.next();
+            Execution execution = executions.peek();
+            Entry entry = placeholder == null ? null : entries.get(placeholder.right);
+            if (execution != null && entry != null) {
+                execution.lookedAhead.add(entry);
+            }
+            return placeholder;
+        }
+
+        @Override
+        public Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> cloneEnumerator() {
+            return new LookAheadEnumerator(inner.cloneEnumerator());
+        }
+    }
+
+    private class ReusingEnumerator extends AbstractPrepareNextEnumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> {
+
+        // the last enumerated entry or the entry in front of the restart node, null if nothing gets recorded
+        private Entry last;
+        // the scan of a changed region, null while unchanged regions are followed
+        private Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> scan;
+        // scanned placeholders up to this node have been enumerated already
+        private Node skipUntil = null;
+        // whether the region between the last entry and the next scanned placeholder is covered by the scan
+        private boolean scannedFromLast;
+
+        private ReusingEnumerator(Entry last, Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> scan) {
+            this.last = last;
+            this.scan = scan;
+            this.scannedFromLast = scan == null;
+        }
+
+        private ReusingEnumerator(ReusingEnumerator other) {
+            super(other);
+            this.last = other.last;
+            this.scan = other.scan == null ? null : other.scan.cloneEnumerator();
+            this.skipUntil = other.skipUntil;
+            this.scannedFromLast = other.scannedFromLast;
+        }
+
+        @Override
+        protected Pair<PlaceholdersProvider<C, ?, D>, Node> findNext() {
+            if (scan == null) {
+                Entry entry = followUnchanged();
+                if (entry != null) {
+                    reused++;
+                    last = entry;
+                    return entry.placeholder;
+                }
+                if (scan == null) {
+                    return null;
+                }
+            }
+            return scanNext();
+        }
+
+        /*
+        Returns the next entry if the region in front of it is unchanged, otherwise prepares the scan
+         */
+        private Entry followUnchanged() {
+            if (last.unchanged) {
+                Entry candidate = last.next;
+                if (candidate == null) {
+                    return null;
+                }
+                if (!candidate.removed && isAttached(candidate.node())) {
+                    if (!candidate.unchanged) {
+                        // providers scan behind a placeholder before its handler is executed
+                        startScan(candidate.node(), candidate);
+                    }
+                    return candidate;
+                }
+            }
+            Entry entry = present(last);
+            if (entry == null) {
+                last = null;
+                startScan(null, null);
+            } else {
+                last = entry;
+                startScan(entry.unchanged ? entry.node() : entry.changedFrom, entry);
+            }
+            return null;
+        }
+
+        private void startScan(Node from, Entry behind) {
+            Node start = from != null && isAttached(from) ? from : (behind == null ? null : behind.node());
+            scan = scanner.apply(start);
+            skipUntil = behind == null ? null : behind.node();
+            scannedFromLast = true;
+        }
+
+        private Pair<PlaceholdersProvider<C, ?, D>, Node> scanNext() {
+            Pair<PlaceholdersProvider<C, ?, D>, Node> placeholder = scan.hasNext() ? scan.next() : null;
+            while (placeholder != null && skipUntil != null && !isScannedBehind(placeholder.right, skipUntil)) {
+                placeholder = scan.hasNext() ? scan.next() : null;
+            }
+            skipUntil = null;
+            if (placeholder == null) {
+                endReached();
+                return null;
+            }
+            scanned++;
+            return record(placeholder);
+        }
+
+        private boolean isScannedBehind(Node node, Node other) {
+            return node != other && (node.getOwnerDocument() != other.getOwnerDocument()
+                    || documentOrder.compareInDocumentOrder(node, other) > 0);
+        }
+
+        private Pair<PlaceholdersProvider<C, ?, D>, Node> record(Pair<PlaceholdersProvider<C, ?, D>, Node> placeholder) {
+            Entry predecessor = present(last);
+            if (predecessor == null) {
+                return placeholder;
+            }
+            boolean scannedFromPredecessor = scannedFromLast && predecessor == last;
+            scannedFromLast = true;
+            Entry entry = entries.get(placeholder.right);
+            if (entry == predecessor || !isBehind(placeholder.right, predecessor)) {
+                // the restart node lies in front of the recorded position
+                last = null;
+                return placeholder;
+            }
+            // entries the scan has passed without finding them are gone
+            while (predecessor.next != null && predecessor.next != entry
+                    && (entry != null || isInFront(predecessor.next, placeholder.right))) {
+                unlink(predecessor.next);
+            }
+            if (entry == null) {
+                entry = new Entry(placeholder);
+                insertBehind(predecessor, entry);
+            }
+            link(predecessor, scannedFromPredecessor);
+            last = entry;
+            if (entry.unchanged) {
+                scan = null;
+            }
+            return placeholder;
+        }
+
+        private void endReached() {
+            Entry predecessor = present(last);
+            if (predecessor != null) {
+                boolean scannedFromPredecessor = scannedFromLast && predecessor == last;
+                while (predecessor.next != null) {
+                    unlink(predecessor.next);
+                }
+                link(predecessor, scannedFromPredecessor);
+            }
+        }
+
+        private void link(Entry predecessor, boolean scannedFromPredecessor) {
+            if (scannedFromPredecessor) {
+                predecessor.unchanged = true;
+                predecessor.changedFrom = predecessor.node();
+            } else if (predecessor.unchanged) {
+                markChanged(predecessor, null);
+            }
+        }
+
+        @Override
+        public Enumerator<Pair<PlaceholdersProvider<C, ?, D>, Node>> cloneEnumerator() {
+            return new ReusingEnumerator(this);
+        }
+    }
+}
+
@@ -33,6 +33,7 @@ import org.underdocx.doctypes.DocContainer;
 import org.underdocx.enginelayers.baseengine.PlaceholdersProvider;
 import org.w3c.dom.Node;
 
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -43,13 +44,19 @@ public class PlaceholdersEnumerator<C extends DocContainer<D>, D> extends Abstra
     private final Map<PlaceholdersProvider<C, ?, D>, Node> currentNodes = new HashMap<>();
 
     private final C doc;
+    private final Comparator<Node> nodeOrder;
 
     public PlaceholdersEnumerator(C doc, Set<PlaceholdersProvider<C, ?, D>> providers) {
+        this(doc, providers, Nodes::compareNodePositions);
+    }
+
+    public PlaceholdersEnumerator(C doc, Set<PlaceholdersProvider<C, ?, D>> providers, Comparator<Node> nodeOrder) {
         this.doc = doc;
+        this.nodeOrder = nodeOrder;
         providers.forEach(provider -> currentEnumerators.put(provider, provider.getPlaceholders(doc)));
         currentEnumerators.forEach((provider, enumerator) -> {
             Node node = enumerator.next();
-            if (node != null && (next == null || Nodes.compareNodePositions(node, next.getPreparedNextElement().right) < 0)) {
+            if (node != null && (next == null || nodeOrder.compare(node, next.getPreparedNextElement().right) < 0)) {
                 next = new PreparedNextElement(new Pair<>(provider, node), true);
             }
             currentNodes.put(provider, node);
@@ -59,6 +66,7 @@ public class PlaceholdersEnumerator<C extends DocContainer<D>, D> extends Abstra
     private PlaceholdersEnumerator(PlaceholdersEnumerator<C, D> other) {
         super(other);
         this.doc = other.doc;
+        this.nodeOrder = other.nodeOrder;
         other.currentEnumerators.forEach((key, value) -> this.currentEnumerators.put(key, value.cloneEnumerator()));
         this.currentNodes.putAll(other.currentNodes);
     }
@@ -71,7 +79,7 @@ public class PlaceholdersEnumerator<C extends DocContainer<D>, D> extends Abstra
         Wrapper<Pair<PlaceholdersProvider<C, ?, D>, Node>> result = new Wrapper<>();
 
         currentNodes.forEach((provider, node) -> {
-            if (node != null && (result.value == null || Nodes.compareNodePositions(node, result.value.right) < 0)) {
+            if (node != null && (result.value == null || nodeOrder.compare(node, result.value.right) < 0)) {
                 result.value = new Pair<>(provider, node);
             }
         });
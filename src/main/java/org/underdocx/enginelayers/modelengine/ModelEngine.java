@@ -37,17 +37,20 @@ import org.underdocx.enginelayers.modelengine.datapath.DataPath;
 import org.underdocx.enginelayers.modelengine.datapath.elements.DataPathElement;
 import org.underdocx.enginelayers.modelengine.datapath.elements.PropertyDataPathElement;
 import org.underdocx.enginelayers.modelengine.internal.MSelectionWrapper;
+import org.underdocx.environment.err.Problem;
 import org.underdocx.environment.err.Problems;
 import org.w3c.dom.Node;
 
 import java.util.*;
+import java.util.function.Function;
 
 public class ModelEngine<C extends DocContainer<D>, D> extends BaseEngine<C, D> {
 
     protected DataNode<?> modelRoot = new MapDataNode();
-    protected DataPath currentDataPath = new DataPath();
     protected final Map<String, Deque<DataNode<?>>> variableStacks = new HashMap<>();
 
+    private final ThreadLocal<ModelExecution> currentExecution = new ThreadLocal<>();
+
 
     public ModelEngine() {
         super();
@@ -55,32 +58,111 @@ public class ModelEngine<C extends DocContainer<D>, D> extends BaseEngine<C, D>
 
     public void setModelRoot(DataNode<?> modelRoot) {
         this.modelRoot = modelRoot;
-        this.currentDataPath = new DataPath();
     }
 
+    /**
+     * Called during a run the variable is pushed to the variables of this run,
+     * otherwise it becomes an initial variable of all following runs
+     */
     public void pushVariable(String varName, DataNode<?> value) {
-        new ModelEngineDataAccess().pushVariable(varName, value);
+        withDataAccess(dataAccess -> {
+            dataAccess.pushVariable(varName, value);
+            return null;
+        });
     }
 
+    /**
+     * Called during a run the variables of this run are read, otherwise the initial variables. Variables pushed
+     * by a run are dropped when it ends.
+     */
     public Optional<DataNode<?>> getVariable(String varName) {
-        return new ModelEngineDataAccess().getVariable(varName);
+        return withDataAccess(dataAccess -> dataAccess.getVariable(varName));
+    }
+
+    private <T> T withDataAccess(Function<DataAccess, T> function) {
+        ModelExecution execution = currentExecution.get();
+        if (execution != null) {
+            return function.apply(execution.dataAccess);
+        }
+        synchronized (variableStacks) {
+            return function.apply(new ModelEngineDataAccess(modelRoot, new DataPath(), variableStacks));
+        }
     }
 
     @Override
-    protected <P> Selection<C, P, D> createSelection(PlaceholdersProvider<C, P, D> provider, Node node, EngineAccess<C, D> engineAccess) {
-        Selection<C, P, D> baseSelection = super.createSelection(provider, node, engineAccess);
-        return new MSelectionWrapper<>(baseSelection, new ModelEngineDataAccess());
+    protected Execution createExecution(C doc) {
+        return new ModelExecution(doc, modelRoot);
+    }
+
+    /**
+     * Runs the engine with the given model instead of the configured model root
+     */
+    public Optional<Problem> run(C doc, DataNode<?> model) {
+        return new ModelExecution(doc, model).run();
     }
 
+    /**
+     * @deprecated the handler instance is shared by all runs, register a supplier instead
+     */
+    @Deprecated
     public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider<C, X, D> provider, MCommandHandler<C, X, D> commandHandler) {
         return super.registerCommandHandler(provider, commandHandler);
     }
 
+    /**
+     * @deprecated the handler instance is shared by all runs, register a supplier instead
+     */
+    @Deprecated
     public <X> BaseEngine<C, D> registerCommandHandler(PlaceholdersProvider.Factory<C, X, D> provider, MCommandHandler<C, X, D> commandHandler) {
         return super.registerCommandHandler(provider, commandHandler);
     }
 
-    private class ModelEngineDataAccess implements DataAccess {
+    protected class ModelExecution extends Execution {
+
+        protected final ModelEngineDataAccess dataAccess;
+
+        protected ModelExecution(C doc, DataNode<?> modelRoot) {
+            super(doc);
+            Map<String, Deque<DataNode<?>>> stacks = new HashMap<>();
+            synchronized (variableStacks) {
+                variableStacks.forEach((name, stack) -> stacks.put(name, new LinkedList<>(stack)));
+            }
+            this.dataAccess = new ModelEngineDataAccess(modelRoot, new DataPath(), stacks);
+        }
+
+        @Override
+        public Optional<Problem> run() {
+            ModelExecution previous = currentExecution.get();
+            currentExecution.set(this);
+            try {
+                return super.run();
+            } finally {
+                if (previous != null) {
+                    currentExecution.set(previous);
+                } else {
+                    currentExecution.remove();
+                }
+            }
+        }
+
+        @Override
+        protected <P> Selection<C, P, D> createSelection(PlaceholdersProvider<C, P, D> provider, Node node, EngineAccess<C, D> engineAccess) {
+            Selection<C, P, D> baseSelection = super.createSelection(provider, node, engineAccess);
+            return new MSelectionWrapper<>(baseSelection, dataAccess);
+        }
+    }
+
+    private static class ModelEngineDataAccess implements DataAccess {
+
+        private final DataNode<?> modelRoot;
+        private DataPath currentDataPath;
+        private final Map<String, Deque<DataNode<?>>> variableStacks;
+
+        private ModelEngineDataAccess(DataNode<?> modelRoot, DataPath currentDataPath, Map<String, Deque<DataNode<?>>> variableStacks) {
+            this.modelRoot = modelRoot;
+            this.currentDataPath = currentDataPath;
+            this.variableStacks = variableStacks;
+        }
 
         @Override
         public Optional<DataNode<?>> getCurrentModelNode() {
@@ -110,16 +192,15 @@ public class ModelEngine<C extends DocContainer<D>, D> extends BaseEngine<C, D>
         }
 
         public Optional<DataNode<?>> getVariable(String name) {
-            DataPath path = new DataPath(name);
-            DataPathElement first = (!path.getElements().isEmpty()) ? path.getElements().get(0) : null;
+            List<DataPathElement> path = DataPath.compile(name);
+            DataPathElement first = (!path.isEmpty()) ? path.get(0) : null;
             Problems.INVALID_VALUE.checkNot(
                     (first == null || !(first instanceof PropertyDataPathElement)), null, name);
             Deque<DataNode<?>> stack = variableStacks.get(((PropertyDataPathElement) first).property());
             if (stack != null) {
                 DataNode<?> varValue = stack.peek();
                 if (varValue != null) {
-                    path.subPath(1);
-                    return path.interpret(varValue);
+                    return DataPath.interpret(path, 1, varValue);
                 }
             }
             return Optional.empty();
@@ -97,6 +97,8 @@ public abstract class AbstractPredefinedDataNode<T> extends AbstractDataNode<T>
                 w.value = Convenience.also(new MapDataNode(),
                         node -> ((Map<?, ?>) object).forEach(
                                 (key, value) -> node.add(String.valueOf(key), node.create(value))));
+            } else if (NumberLeafDataNode.isSupported(object)) {
+                w.value = new NumberLeafDataNode((Number) object);
             } else {
                 w.value = new LeafDataNode<>(object);
             }
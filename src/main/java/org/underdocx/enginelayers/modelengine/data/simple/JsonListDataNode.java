@@ -0,0 +1,94 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.enginelayers.modelengine.data.simple;
+
+import java.util.List;
+
+/**
+ * A {@link ListDataNode} of a {@link JsonMapDataNode} tree, its elements are created on first access
+ */
+public class JsonListDataNode extends ListDataNode {
+
+    // null once the elements have been created, see JsonMapDataNode
+    private volatile JsonSource source;
+    private final int offset;
+    private final int length;
+
+    JsonListDataNode(JsonSource source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private void ensureElements() {
+        if (source != null) {
+            readElements();
+        }
+    }
+
+    private synchronized void readElements() {
+        JsonSource elements = source;
+        if (elements != null) {
+            elements.readMembers(offset, length, false, (name, node) -> super.add(node));
+            source = null;
+        }
+    }
+
+    @Override
+    public List<AbstractDataNode<?>> getValue() {
+        ensureElements();
+        return super.getValue();
+    }
+
+    @Override
+    public AbstractDataNode<?> getProperty(int index) {
+        ensureElements();
+        return super.getProperty(index);
+    }
+
+    @Override
+    public boolean hasProperty(int index) {
+        ensureElements();
+        return super.hasProperty(index);
+    }
+
+    @Override
+    public <T extends AbstractDataNode<?>> void add(T node) {
+        ensureElements();
+        super.add(node);
+    }
+
+    @Override
+    public int getSize() {
+        ensureElements();
+        return super.getSize();
+    }
+
+    @Override
+    protected void removeChild(AbstractDataNode<?> node) {
+        ensureElements();
+        super.removeChild(node);
+    }
+}
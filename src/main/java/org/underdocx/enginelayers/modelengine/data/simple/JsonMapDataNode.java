@@ -0,0 +1,114 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.enginelayers.modelengine.data.simple;
+
+import com.fasterxml.jackson.core.JsonToken;
+import org.underdocx.environment.err.Problems;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link MapDataNode} read from a JSON stream. The stream is kept as raw bytes only, members of nested maps
+ * and lists are created when they are accessed for the first time, e.g. by a data path.
+ */
+public class JsonMapDataNode extends MapDataNode {
+
+    // null once the members have been created, volatile so that shared models are read only when complete
+    private volatile JsonSource source;
+    private final int offset;
+    private final int length;
+
+    public JsonMapDataNode(InputStream is) {
+        JsonSource rootSource = new JsonSource(is);
+        this.source = null;
+        this.offset = 0;
+        this.length = rootSource.getLength();
+        // skipping the nested containers reads the whole input, so syntax errors are reported here
+        JsonToken rootToken = rootSource.readMembers(offset, length, true, this::addMember);
+        Problems.CODEC_PARSE_ERROR.checkNot(rootToken != JsonToken.START_OBJECT, null, "JSON root must be an object");
+    }
+
+    JsonMapDataNode(JsonSource source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private void addMember(String name, AbstractPredefinedDataNode<?> node) {
+        super.add(name, node);
+    }
+
+    private void ensureMembers() {
+        if (source != null) {
+            readMembers();
+        }
+    }
+
+    private synchronized void readMembers() {
+        JsonSource members = source;
+        if (members != null) {
+            members.readMembers(offset, length, false, this::addMember);
+            source = null;
+        }
+    }
+
+    @Override
+    public Map<String, AbstractDataNode<?>> getValue() {
+        ensureMembers();
+        return super.getValue();
+    }
+
+    @Override
+    public AbstractDataNode<?> getProperty(String name) {
+        ensureMembers();
+        return super.getProperty(name);
+    }
+
+    @Override
+    public boolean hasProperty(String name) {
+        ensureMembers();
+        return super.hasProperty(name);
+    }
+
+    @Override
+    public void add(String property, AbstractDataNode<?> node) {
+        ensureMembers();
+        super.add(property, node);
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        ensureMembers();
+        return super.getPropertyNames();
+    }
+
+    @Override
+    protected void removeChild(AbstractDataNode<?> node) {
+        ensureMembers();
+        super.removeChild(node);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.enginelayers.modelengine.data.simple;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import org.underdocx.environment.err.Problems;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+
+/**
+ * Raw JSON bytes shared by {@link JsonMapDataNode} and {@link JsonListDataNode}. Containers are referenced by
+ * their byte range and parsed with a streaming parser when their members are requested, nested containers are
+ * skipped. Accepts the same simplified syntax as the default model {@link org.underdocx.common.codec.JsonCodec}.
+ */
+class JsonSource {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_LEADING_DECIMAL_POINT_FOR_NUMBERS)
+            .enable(JsonReadFeature.ALLOW_TRAILING_DECIMAL_POINT_FOR_NUMBERS)
+            .build();
+
+    private final byte[] bytes;
+    private final int length;
+
+    JsonSource(InputStream is) {
+        this.bytes = Problems.IO_EXCEPTION.exec(is::readAllBytes);
+        this.length = exchangeQuotes(bytes);
+    }
+
+    /**
+     * Replaces typographic double quotes (UTF-8 E2 80 9C..9F) by '"' in place
+     *
+     * @return the new length
+     */
+    private static int exchangeQuotes(byte[] bytes) {
+        int target = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == (byte) 0xE2 && i + 2 < bytes.length && bytes[i + 1] == (byte) 0x80
+                    && bytes[i + 2] >= (byte) 0x9C && bytes[i + 2] <= (byte) 0x9F) {
+                bytes[target++] = '"';
+                i += 2;
+            } else {
+                bytes[target++] = bytes[i];
+            }
+        }
+        return target;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Parses the container within the byte range and creates a node for each member value: a leaf for scalars
+     * and a lazily parsed node for nested containers
+     *
+     * @param memberConsumer receives the field name (null for list elements) and the node
+     * @return the type of the container
+     */
+    JsonToken readMembers(int offset, int length, boolean rootLevel, BiConsumer<String, AbstractPredefinedDataNode<?>> memberConsumer) {
+        return Problems.CODEC_PARSE_ERROR.exec(() -> {
+            try (JsonParser parser = FACTORY.createParser(bytes, offset, length)) {
+                JsonToken containerToken = parser.nextToken();
+                if (containerToken != JsonToken.START_OBJECT && containerToken != JsonToken.START_ARRAY) {
+                    return containerToken;
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY) {
+                    String name = null;
+                    if (token == JsonToken.FIELD_NAME) {
+                        name = parser.currentName();
+                        token = parser.nextToken();
+                    }
+                    memberConsumer.accept(name, createNode(parser, token, offset));
+                }
+                if (rootLevel && parser.nextToken() != null) {
+                    throw new JsonParseException(parser, "unexpected content after JSON root");
+                }
+                return containerToken;
+            }
+        });
+    }
+
+    private AbstractPredefinedDataNode<?> createNode(JsonParser parser, JsonToken token, int offset) throws IOException {
+        return switch (token) {
+            case START_OBJECT, START_ARRAY -> {
+                int start = offset + (int) parser.currentTokenLocation().getByteOffset();
+                parser.skipChildren();
+                int end = offset + (int) parser.currentLocation().getByteOffset();
+                yield token == JsonToken.START_OBJECT
+                        ? new JsonMapDataNode(this, start, end - start)
+                        : new JsonListDataNode(this, start, end - start);
+            }
+            case VALUE_STRING -> new LeafDataNode<>(parser.getText());
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> new NumberLeafDataNode(parser.getIntValue());
+                case LONG -> new NumberLeafDataNode(parser.getLongValue());
+                default -> new LeafDataNode<>(parser.getNumberValue());
+            };
+            case VALUE_NUMBER_FLOAT -> new NumberLeafDataNode(parser.getDoubleValue());
+            case VALUE_TRUE -> new LeafDataNode<>(true);
+            case VALUE_FALSE -> new LeafDataNode<>(false);
+            default -> new LeafDataNode<>(null);
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.enginelayers.modelengine.data.simple;
+
+/**
+ * A numeric leaf that keeps its value as primitive. {@link #getValue()} returns the same boxed types as a
+ * {@link LeafDataNode} ({@link Integer}, {@link Long} or {@link Double}), the box is only created on request.
+ */
+public class NumberLeafDataNode extends LeafDataNode<Number> {
+
+    public enum NumberType {
+        INT,
+        LONG,
+        DOUBLE
+    }
+
+    private final NumberType numberType;
+    private final long longValue;
+    private final double doubleValue;
+
+    public NumberLeafDataNode(int value) {
+        super(null);
+        this.numberType = NumberType.INT;
+        this.longValue = value;
+        this.doubleValue = value;
+    }
+
+    public NumberLeafDataNode(long value) {
+        super(null);
+        this.numberType = NumberType.LONG;
+        this.longValue = value;
+        this.doubleValue = value;
+    }
+
+    public NumberLeafDataNode(double value) {
+        super(null);
+        this.numberType = NumberType.DOUBLE;
+        this.longValue = (long) value;
+        this.doubleValue = value;
+    }
+
+    /**
+     * @param value an {@link Integer}, {@link Long} or {@link Double}, it is kept as boxed value
+     */
+    NumberLeafDataNode(Number value) {
+        super(value);
+        this.numberType = value instanceof Double ? NumberType.DOUBLE
+                : value instanceof Long ? NumberType.LONG
+                : NumberType.INT;
+        this.longValue = value.longValue();
+        this.doubleValue = value.doubleValue();
+    }
+
+    static boolean isSupported(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Double;
+    }
+
+    public NumberType getNumberType() {
+        return numberType;
+    }
+
+    public boolean isFloatingPoint() {
+        return numberType == NumberType.DOUBLE;
+    }
+
+    public long getLong() {
+        return longValue;
+    }
+
+    public double getDouble() {
+        return doubleValue;
+    }
+
+    @Override
+    public Number getValue() {
+        if (containedValue == null) {
+            containedValue = switch (numberType) {
+                case INT -> (int) longValue;
+                case LONG -> longValue;
+                case DOUBLE -> doubleValue;
+            };
+        }
+        return containedValue;
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+}
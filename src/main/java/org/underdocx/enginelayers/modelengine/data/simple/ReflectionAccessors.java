@@ -0,0 +1,218 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.enginelayers.modelengine.data.simple;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Property accessors of a class used by {@link ReflectionDataNode}. Each property name is resolved once per class,
+ * getters are called through {@link LambdaMetafactory} generated functions or method handles.
+ */
+class ReflectionAccessors {
+
+    interface Accessor {
+        Object get(Object target) throws Exception;
+    }
+
+    private static final Accessor NONE = target -> null;
+
+    private static final ClassValue<ReflectionAccessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ReflectionAccessors computeValue(Class<?> type) {
+            return new ReflectionAccessors(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Map<String, Accessor> accessors = new ConcurrentHashMap<>();
+    private final Map<Member, Accessor> memberAccessors = new ConcurrentHashMap<>();
+    private volatile Set<String> propertyNames = null;
+
+    private ReflectionAccessors(Class<?> type) {
+        this.type = type;
+    }
+
+    static ReflectionAccessors of(Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    /**
+     * @return the accessor for a public field named [name] or is[name], otherwise for a public method without
+     * parameters named [name], get[name] or is[name], names are compared ignoring case. null if there is none.
+     */
+    Accessor find(String name) {
+        Accessor result = accessors.computeIfAbsent(name, this::resolve);
+        return result == NONE ? null : result;
+    }
+
+    /**
+     * @return the accessor for a field or method of this class, e.g. one returned by {@link #findField(String)}
+     */
+    Accessor of(Member member) {
+        return memberAccessors.computeIfAbsent(member, key -> key instanceof Field field
+                ? createAccessor(field)
+                : createAccessor((Method) key));
+    }
+
+    Set<String> getPropertyNames() {
+        Set<String> result = propertyNames;
+        if (result == null) {
+            result = new HashSet<>(getFieldNames());
+            result.addAll(getGetMethodNames());
+            propertyNames = result = Collections.unmodifiableSet(result);
+        }
+        return result;
+    }
+
+    Optional<Field> findField(String name) {
+        String isName = "is" + name;
+        for (Field field : type.getFields()) {
+            if (field.getName().equalsIgnoreCase(name) || field.getName().equalsIgnoreCase(isName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    Optional<Method> findGetMethod(String name) {
+        String isName = "is" + name;
+        String getName = "get" + name;
+        for (Method method : type.getMethods()) {
+            String methodName = method.getName();
+            if (method.getParameterCount() == 0 && (methodName.equalsIgnoreCase(name)
+                    || methodName.equalsIgnoreCase(getName) || methodName.equalsIgnoreCase(isName))) {
+                return Optional.of(method);
+            }
+        }
+        return Optional.empty();
+    }
+
+    List<String> getFieldNames() {
+        List<String> result = new ArrayList<>();
+        for (Field field : type.getFields()) {
+            result.add(field.getName());
+        }
+        return result;
+    }
+
+    List<String> getGetMethodNames() {
+        List<String> result = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0) {
+                result.add(toPropertyName(method.getName()));
+            }
+        }
+        return result;
+    }
+
+    private static String toPropertyName(String name) {
+        if (name.length() > 3 && name.startsWith("get") && Character.isUpperCase(name.charAt(3))) {
+            return Character.toString(name.charAt(3)).toLowerCase() + name.substring(4);
+        } else if (name.length() > 4 && name.startsWith("get_")) {
+            return name.substring(4);
+        } else if (name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            return Character.toString(name.charAt(2)).toLowerCase() + name.substring(3);
+        } else if (name.length() > 3 && name.startsWith("is_")) {
+            return name.substring(3);
+        }
+        return name;
+    }
+
+    private Accessor resolve(String name) {
+        Optional<Field> field = findField(name);
+        if (field.isPresent()) {
+            return createAccessor(field.get());
+        }
+        return findGetMethod(name).map(ReflectionAccessors::createAccessor).orElse(NONE);
+    }
+
+    private static Accessor createAccessor(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return createAccessor(getter);
+        } catch (Exception e) {
+            return failing(e);
+        }
+    }
+
+    private static Accessor createAccessor(Method method) {
+        if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+                MethodHandle handle = lookup.unreflect(method);
+                @SuppressWarnings("unchecked")
+                Function<Object, Object> function = (Function<Object, Object>) LambdaMetafactory.metafactory(
+                        lookup, "apply", MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class), handle,
+                        handle.type().wrap()
+                ).getTarget().invoke();
+                return function::apply;
+            } catch (Throwable e) {
+                // e.g. a module that doesn't open the declaring package, method handles may still work
+            }
+        }
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return createAccessor(handle);
+        } catch (Exception e) {
+            return failing(e);
+        }
+    }
+
+    private static Accessor createAccessor(MethodHandle handle) {
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return target -> {
+            try {
+                return generic.invokeExact(target);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    private static Accessor failing(Exception e) {
+        return target -> {
+            throw e;
+        };
+    }
+}
@@ -34,6 +34,15 @@ import java.util.*;
 
 public class ReflectionDataNode extends AbstractDataNode<Object> implements DataNode<Object> {
 
+    // whether a subclass still customizes property lookup by overriding the deprecated lookup methods
+    private static final ClassValue<Boolean> LOOKUP_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "findField", String.class) || overrides(type, "readField", Field.class)
+                    || overrides(type, "findGetMethod", String.class) || overrides(type, "callGetMethod", Method.class);
+        }
+    };
+
     private final Object containedValue;
     protected DataNode<?> parent;
     protected Resolver resolver = ReflectionInterceptorRegistry.DEFAULT;
@@ -102,14 +111,12 @@ public class ReflectionDataNode extends AbstractDataNode<Object> implements Data
             return null;
         } else if (getValue() instanceof Map<?, ?>) {
             return create(((Map<?, ?>) containedValue).get(name));
+        } else if (LOOKUP_OVERRIDDEN.get(getClass())) {
+            Optional<Field> field = findField(name);
+            return (field.isPresent() ? readField(field.get()) : findGetMethod(name).flatMap(this::callGetMethod)).orElse(null);
         } else {
-            return Convenience.build(
-                    w -> findField(name).ifPresentOrElse(
-                            field -> readField(field).ifPresent(
-                                    result -> w.value = result),
-                            () -> findGetMethod(name).ifPresent(
-                                    method -> callGetMethod(method).ifPresent(
-                                            result -> w.value = result))));
+            ReflectionAccessors.Accessor accessor = ReflectionAccessors.of(containedValue.getClass()).find(name);
+            return accessor == null ? null : read(accessor).orElse(null);
         }
     }
 
@@ -149,8 +156,10 @@ public class ReflectionDataNode extends AbstractDataNode<Object> implements Data
             return false;
         } else if (getValue() instanceof Map<?, ?>) {
             return ((Map<?, ?>) containedValue).containsKey(name);
-        } else {
+        } else if (LOOKUP_OVERRIDDEN.get(getClass())) {
             return findGetMethod(name).isPresent() || findField(name).isPresent();
+        } else {
+            return ReflectionAccessors.of(containedValue.getClass()).find(name) != null;
         }
     }
 
@@ -170,11 +179,10 @@ public class ReflectionDataNode extends AbstractDataNode<Object> implements Data
         return containedValue == null;
     }
 
-    protected Optional<ReflectionDataNode> callGetMethod(Method method) {
+    private Optional<ReflectionDataNode> read(ReflectionAccessors.Accessor accessor) {
         Object result;
         try {
-            method.setAccessible(true);
-            result = method.invoke(containedValue);
+            result = accessor.get(containedValue);
         } catch (Exception e) {
             UnderdocxEnv.getInstance().logger.error(e);
             return Optional.empty();
@@ -182,67 +190,73 @@ public class ReflectionDataNode extends AbstractDataNode<Object> implements Data
         return Optional.of(create(result));
     }
 
-    protected Optional<Method> findGetMethod(String name) {
-        return Convenience.findFirst(Arrays.asList(containedValue.getClass().getMethods()), method -> {
-            boolean nameFits = method.getName().equalsIgnoreCase(name) ||
-                    method.getName().equalsIgnoreCase(("get" + name)) ||
-                    method.getName().equalsIgnoreCase(("is" + name));
-            boolean returnFits = method.getReturnType() != Void.class;
-            boolean parametersFits = method.getParameterTypes().length == 0;
-            return nameFits && returnFits && parametersFits;
-        });
+    private static boolean overrides(Class<?> type, String name, Class<?> parameterType) {
+        for (Class<?> current = type; current != ReflectionDataNode.class; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(name, parameterType);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not declared on this level
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @deprecated properties are read through cached accessors. If a subclass overrides one of the lookup methods,
+     * {@link #getProperty(String)} and {@link #hasProperty(String)} use the lookup methods instead.
+     */
+    @Deprecated
+    protected Optional<ReflectionDataNode> callGetMethod(Method method) {
+        return read(ReflectionAccessors.of(containedValue.getClass()).of(method));
     }
 
+    /**
+     * @deprecated properties are read through cached accessors. If a subclass overrides one of the lookup methods,
+     * {@link #getProperty(String)} and {@link #hasProperty(String)} use the lookup methods instead.
+     */
+    @Deprecated
+    protected Optional<Method> findGetMethod(String name) {
+        return ReflectionAccessors.of(containedValue.getClass()).findGetMethod(name);
+    }
 
+    /**
+     * @deprecated use {@link #getPropertyNames()}
+     */
+    @Deprecated
     protected List<String> findGetMethodNames() {
-        return Convenience.buildList(result ->
-                Arrays.asList(containedValue.getClass().getMethods()).forEach(method -> {
-                    boolean returnFits = method.getReturnType() != Void.class;
-                    boolean parametersFits = method.getParameterTypes().length == 0;
-                    if (returnFits && parametersFits) {
-                        String name = method.getName();
-                        if (name.length() > 3 && name.startsWith("get") && Character.isUpperCase(Character.valueOf(name.charAt(3)))) {
-                            name = Character.valueOf(name.charAt(3)).toString().toLowerCase() + name.substring(4);
-                        } else if (name.length() > 4 && name.startsWith("get_")) {
-                            name = name.substring(4);
-                        } else if (name.length() > 2 && name.startsWith("is") && Character.isUpperCase(Character.valueOf(name.charAt(2)))) {
-                            name = Character.valueOf(name.charAt(2)).toString().toLowerCase() + name.substring(3);
-                        } else if (name.length() > 3 && name.startsWith("is_")) {
-                            name = name.substring(3);
-                        }
-                        result.add(name);
-                    }
-                }));
+        return ReflectionAccessors.of(containedValue.getClass()).getGetMethodNames();
     }
 
+    /**
+     * @deprecated properties are read through cached accessors. If a subclass overrides one of the lookup methods,
+     * {@link #getProperty(String)} and {@link #hasProperty(String)} use the lookup methods instead.
+     */
+    @Deprecated
     protected Optional<ReflectionDataNode> readField(Field field) {
-        Object result;
-        try {
-            field.setAccessible(true);
-            result = field.get(containedValue);
-        } catch (Exception e) {
-            UnderdocxEnv.getInstance().logger.error(e);
-            return Optional.empty();
-        }
-        return Optional.of(create(result));
+        return read(ReflectionAccessors.of(containedValue.getClass()).of(field));
     }
 
+    /**
+     * @deprecated properties are read through cached accessors. If a subclass overrides one of the lookup methods,
+     * {@link #getProperty(String)} and {@link #hasProperty(String)} use the lookup methods instead.
+     */
+    @Deprecated
     protected Optional<Field> findField(String name) {
-        return Convenience.findFirst(Arrays.asList(containedValue.getClass().getFields()),
-                field -> field.getName().equalsIgnoreCase(name) ||
-                        field.getName().equalsIgnoreCase(("is" + name)));
+        return ReflectionAccessors.of(containedValue.getClass()).findField(name);
     }
 
+    /**
+     * @deprecated use {@link #getPropertyNames()}
+     */
+    @Deprecated
     public List<String> findFieldNames() {
-        return Convenience.buildList(result -> Arrays.asList(containedValue.getClass().getFields()).forEach(field -> result.add(field.getName())));
+        return ReflectionAccessors.of(containedValue.getClass()).getFieldNames();
     }
 
     @Override
     public Set<String> getPropertyNames() {
-        return Convenience.also(new HashSet<>(), result -> {
-            result.addAll(findFieldNames());
-            result.addAll(findGetMethodNames());
-        });
+        return new HashSet<>(ReflectionAccessors.of(containedValue.getClass()).getPropertyNames());
     }
 
     public interface Resolver {
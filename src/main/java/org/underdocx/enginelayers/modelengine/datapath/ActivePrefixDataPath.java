@@ -68,13 +68,13 @@ public class ActivePrefixDataPath extends DataPath {
 
     @Override
     public void interpret(String path) {
-        List<DataPathElement> subPath = new DataPath(path).getElements();
+        List<DataPathElement> subPath = compile(path);
         String prefix = prefixSupplier != null ? prefixSupplier.get() : null;
         if (prefix != null
                 && subPath.size() > 0
                 && subPath.get(0).getType() == DatalPathElementType.PROPERTY
                 && ((PropertyDataPathElement) subPath.get(0)).property().equals(prefix)) {
-            subPath.remove(0);
+            subPath = subPath.subList(1, subPath.size());
         }
         super.interpret(subPath);
     }
@@ -24,7 +24,7 @@ SOFTWARE.
 
 package org.underdocx.enginelayers.modelengine.datapath;
 
-import org.underdocx.common.tools.Convenience;
+import org.underdocx.common.cache.Cache;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
 import org.underdocx.enginelayers.modelengine.datapath.elements.DataPathElement;
 import org.underdocx.enginelayers.modelengine.datapath.parser.DataPathCodec;
@@ -34,9 +34,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.underdocx.common.tools.Convenience.also;
+
 public class DataPath {
 
     private static final DataPathCodec codec = new DataPathCodec();
+    private static final Cache<String, List<DataPathElement>> compiledPaths =
+            Cache.<String, List<DataPathElement>>builder("dataPaths").maxSize(4096).build();
 
     protected List<DataPathElement> elements = new ArrayList<>();
 
@@ -52,7 +56,16 @@ public class DataPath {
     }
 
     public DataPath(String toParse) {
-        this.elements = Problems.CODEC_PARSE_ERROR.exec(() -> codec.parse(toParse), null, toParse).getElements();
+        this.elements.addAll(compile(toParse));
+    }
+
+    /**
+     * Parses a path string once, all callers of the same string share the immutable result
+     */
+    public static List<DataPathElement> compile(String path) {
+        Problems.CODEC_PARSE_ERROR.notNull(path, "path");
+        return compiledPaths.get(path, key ->
+                List.copyOf(Problems.CODEC_PARSE_ERROR.exec(() -> codec.parse(key), null, key).elements));
     }
 
     public List<DataPathElement> getElements() {
@@ -64,20 +77,26 @@ public class DataPath {
     }
 
     public static Optional<DataNode<?>> interpret(String path, DataNode<?> node) {
-        return new DataPath(path).interpret(node);
+        return interpret(compile(path), 0, node);
+    }
+
+    /**
+     * Interprets the elements starting at [fromIndex]
+     */
+    public static Optional<DataNode<?>> interpret(List<DataPathElement> elements, int fromIndex, DataNode<?> node) {
+        DataNode<?> result = node;
+        for (int i = fromIndex; i < elements.size() && result != null; i++) {
+            result = elements.get(i).interpret(result).orElse(null);
+        }
+        return Optional.ofNullable(result);
     }
 
     public Optional<DataNode<?>> interpret(DataNode<?> rootDataNode) {
-        return Convenience.buildOptional(rootDataNode, w -> elements.forEach(element -> {
-            if (w.value != null) {
-                w.value = element.interpret(w.value).orElse(null);
-            }
-        }));
+        return interpret(elements, 0, rootDataNode);
     }
 
     public void interpret(String path) {
-        List<DataPathElement> subPath = new DataPath(path).getElements();
-        interpret(subPath);
+        interpret(compile(path));
     }
 
     protected void interpret(List<DataPathElement> subPath) {
@@ -88,6 +107,13 @@ public class DataPath {
         elements = elements.subList(index, elements.size());
     }
 
+    /**
+     * @return a new path with the element appended, e.g. an index of a list path
+     */
+    public DataPath append(DataPathElement element) {
+        return also(clone(), result -> result.elements.add(element));
+    }
+
     public DataPath clone() {
         return new DataPath(this);
     }
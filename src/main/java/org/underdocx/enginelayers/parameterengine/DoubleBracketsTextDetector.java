@@ -29,24 +29,10 @@ import org.underdocx.common.placeholder.basic.detection.TextDetector;
 import org.underdocx.common.tree.nodepath.TextNodePath;
 import org.underdocx.common.types.Pair;
 
-import java.util.StringTokenizer;
-
 public class DoubleBracketsTextDetector implements TextDetector {
 
     public static final DoubleBracketsTextDetector INSTANCE = new DoubleBracketsTextDetector();
 
-    private DetectionState state;
-    private int counter = 0;
-    private int startIndex = 0;
-    private final StringBuilder readBuffer = new StringBuilder();
-
-    private void init() {
-        state = DetectionState.IDLE;
-        counter = 0;
-        startIndex = 0;
-        readBuffer.delete(0, readBuffer.length());
-    }
-
     private enum DetectionState {
         IDLE,
         FIRST_START_DETECTED,
@@ -59,7 +45,7 @@ public class DoubleBracketsTextDetector implements TextDetector {
     @Override
     public TextDetectionResult detect(TextNodePath path) {
         String text = path.fetchTextContent();
-        Pair<Integer, Integer> indicies = parse(text);
+        Pair<Integer, Integer> indicies = new Parser().parse(text);
         TextDetectionResult.TextDetectionResultType type = createResultType(indicies);
         return (type == TextDetectionResult.TextDetectionResultType.CONTAINS_TEXT)
                 ? new TextDetectionResult(type, createArea(path, indicies))
@@ -82,57 +68,60 @@ public class DoubleBracketsTextDetector implements TextDetector {
                 : TextDetectionResult.TextDetectionResultType.CONTAINS_TEXT);
     }
 
-    private Pair<Integer, Integer> parse(String text) {
-        init();
-        StringTokenizer t = new StringTokenizer(text, "{}", true);
-        while (t.hasMoreTokens() && state != DetectionState.ENDED) {
-            String token = t.nextToken();
-            switch (token) {
-                case "{" -> parseOpen();
-                case "}" -> parseClose();
-                default -> parseContent(token);
+    private static class Parser {
+
+        private DetectionState state;
+        private int counter = 0;
+        private int startIndex = 0;
+        private int index = 0;
+
+        private Pair<Integer, Integer> parse(String text) {
+            state = DetectionState.IDLE;
+            for (index = 0; index < text.length() && state != DetectionState.ENDED; index++) {
+                switch (text.charAt(index)) {
+                    case '{' -> parseOpen();
+                    case '}' -> parseClose();
+                    default -> parseContent();
+                }
             }
+            return switch (state) {
+                case IDLE -> null;
+                case FIRST_START_DETECTED, READING_CONTENT, FIRST_END_DETECTED -> new Pair<>(startIndex, null);
+                case ENDED -> new Pair<>(startIndex, index - 1);
+            };
         }
-        return switch (state) {
-            case IDLE -> null;
-            case FIRST_START_DETECTED, READING_CONTENT, FIRST_END_DETECTED -> new Pair<>(startIndex, null);
-            case ENDED -> new Pair<>(startIndex, readBuffer.length() - 1);
-        };
-    }
 
-    private void parseOpen() {
-        readBuffer.append("{");
-        switch (state) {
-            case IDLE -> {
-                state = DetectionState.FIRST_START_DETECTED;
-                counter = 0;
-                startIndex = readBuffer.length() - 1;
+        private void parseOpen() {
+            switch (state) {
+                case IDLE -> {
+                    state = DetectionState.FIRST_START_DETECTED;
+                    counter = 0;
+                    startIndex = index;
+                }
+                case FIRST_START_DETECTED -> state = DetectionState.READING_CONTENT;
+                case READING_CONTENT -> counter++;
+                case FIRST_END_DETECTED -> state = DetectionState.FIRST_START_DETECTED;
             }
-            case FIRST_START_DETECTED -> state = DetectionState.READING_CONTENT;
-            case READING_CONTENT -> counter++;
-            case FIRST_END_DETECTED -> state = DetectionState.FIRST_START_DETECTED;
         }
-    }
 
-    private void parseClose() {
-        readBuffer.append("}");
-        switch (state) {
-            case FIRST_START_DETECTED -> state = DetectionState.IDLE;
-            case READING_CONTENT -> {
-                if (counter == 0) {
-                    state = DetectionState.FIRST_END_DETECTED;
-                } else {
-                    counter--;
+        private void parseClose() {
+            switch (state) {
+                case FIRST_START_DETECTED -> state = DetectionState.IDLE;
+                case READING_CONTENT -> {
+                    if (counter == 0) {
+                        state = DetectionState.FIRST_END_DETECTED;
+                    } else {
+                        counter--;
+                    }
                 }
+                case FIRST_END_DETECTED -> state = DetectionState.ENDED;
             }
-            case FIRST_END_DETECTED -> state = DetectionState.ENDED;
         }
-    }
 
-    private void parseContent(String s) {
-        readBuffer.append(s);
-        switch (state) {
-            case FIRST_START_DETECTED, FIRST_END_DETECTED -> state = DetectionState.IDLE;
+        private void parseContent() {
+            switch (state) {
+                case FIRST_START_DETECTED, FIRST_END_DETECTED -> state = DetectionState.IDLE;
+            }
         }
     }
 }
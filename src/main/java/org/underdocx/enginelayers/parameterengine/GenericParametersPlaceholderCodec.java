@@ -25,11 +25,11 @@ SOFTWARE.
 package org.underdocx.enginelayers.parameterengine;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import org.underdocx.common.codec.Codec;
+import org.underdocx.common.codec.CopyableCodec;
 import org.underdocx.common.codec.JsonCodec;
 import org.underdocx.environment.err.Problems;
 
-public class GenericParametersPlaceholderCodec implements Codec<ParametersPlaceholderData> {
+public class GenericParametersPlaceholderCodec implements CopyableCodec<ParametersPlaceholderData> {
 
     public final static JsonCodec JSON_CODEC = new JsonCodec(false, true, true);
     private final String prefix;
@@ -75,4 +75,9 @@ public class GenericParametersPlaceholderCodec implements Codec<ParametersPlaceh
             return prefix + data.getKey() + suffix;
         }
     }
+
+    @Override
+    public ParametersPlaceholderData copy(ParametersPlaceholderData data) {
+        return new ParametersPlaceholderData.Simple(data);
+    }
 }
@@ -29,24 +29,10 @@ import org.underdocx.common.placeholder.basic.detection.TextDetector;
 import org.underdocx.common.tree.nodepath.TextNodePath;
 import org.underdocx.common.types.Pair;
 
-import java.util.StringTokenizer;
-
 public class ParametersDetector implements TextDetector {
 
     public static final ParametersDetector INSTANCE = new ParametersDetector();
 
-    private DetectionState state;
-    private int counter = 0;
-    private int startIndex = 0;
-    private final StringBuilder readBuffer = new StringBuilder();
-
-    private void init() {
-        state = DetectionState.IDLE;
-        counter = 0;
-        startIndex = 0;
-        readBuffer.delete(0, readBuffer.length());
-    }
-
     private enum DetectionState {
         IDLE,
         DOLLAR_DETECTED,
@@ -58,7 +44,7 @@ public class ParametersDetector implements TextDetector {
     @Override
     public TextDetectionResult detect(TextNodePath path) {
         String text = path.fetchTextContent();
-        Pair<Integer, Integer> indicies = parse(text);
+        Pair<Integer, Integer> indicies = new Parser().parse(text);
         TextDetectionResult.TextDetectionResultType type = createResultType(indicies);
         return (type == TextDetectionResult.TextDetectionResultType.CONTAINS_TEXT)
                 ? new TextDetectionResult(type, createArea(path, indicies))
@@ -81,64 +67,67 @@ public class ParametersDetector implements TextDetector {
                 : TextDetectionResult.TextDetectionResultType.CONTAINS_TEXT);
     }
 
-    private Pair<Integer, Integer> parse(String text) {
-        init();
-        StringTokenizer t = new StringTokenizer(text, "${}", true);
-        while (t.hasMoreTokens() && state != DetectionState.ENDED) {
-            String token = t.nextToken();
-            switch (token) {
-                case "$" -> parseDollar();
-                case "{" -> parseOpen();
-                case "}" -> parseClose();
-                default -> parseContent(token);
+    /**
+     * Holds the state of a single detection, the detector itself can be shared between threads
+     */
+    private static class Parser {
+
+        private DetectionState state;
+        private int counter = 0;
+        private int startIndex = 0;
+        private int index = 0;
+
+        private Pair<Integer, Integer> parse(String text) {
+            state = DetectionState.IDLE;
+            for (index = 0; index < text.length() && state != DetectionState.ENDED; index++) {
+                switch (text.charAt(index)) {
+                    case '$' -> parseDollar();
+                    case '{' -> parseOpen();
+                    case '}' -> parseClose();
+                    default -> parseContent();
+                }
             }
+            return switch (state) {
+                case IDLE -> null;
+                case DOLLAR_DETECTED, READING_CONTENT -> new Pair<>(startIndex, null);
+                case ENDED -> new Pair<>(startIndex, index - 1);
+            };
         }
-        return switch (state) {
-            case IDLE -> null;
-            case DOLLAR_DETECTED, READING_CONTENT -> new Pair<>(startIndex, null);
-            case ENDED -> new Pair<>(startIndex, readBuffer.length() - 1);
-        };
-    }
 
-    private void parseDollar() {
-        readBuffer.append("$");
-        switch (state) {
-            case IDLE, DOLLAR_DETECTED -> {
-                state = DetectionState.DOLLAR_DETECTED;
-                startIndex = readBuffer.length() - 1;
+        private void parseDollar() {
+            switch (state) {
+                case IDLE, DOLLAR_DETECTED -> {
+                    state = DetectionState.DOLLAR_DETECTED;
+                    startIndex = index;
+                }
             }
         }
-    }
 
-    private void parseOpen() {
-        readBuffer.append("{");
-        switch (state) {
-            case DOLLAR_DETECTED -> {
-                state = DetectionState.READING_CONTENT;
-                counter = 0;
+        private void parseOpen() {
+            switch (state) {
+                case DOLLAR_DETECTED -> {
+                    state = DetectionState.READING_CONTENT;
+                    counter = 0;
+                }
+                case READING_CONTENT -> counter++;
             }
-            case READING_CONTENT -> counter++;
         }
-    }
 
-    private void parseClose() {
-        readBuffer.append("}");
-        switch (state) {
-            case DOLLAR_DETECTED -> state = DetectionState.IDLE;
-            case READING_CONTENT -> {
-                if (counter == 0) {
-                    state = DetectionState.ENDED;
-                } else {
-                    counter--;
+        private void parseClose() {
+            switch (state) {
+                case DOLLAR_DETECTED -> state = DetectionState.IDLE;
+                case READING_CONTENT -> {
+                    if (counter == 0) {
+                        state = DetectionState.ENDED;
+                    } else {
+                        counter--;
+                    }
                 }
             }
         }
-    }
 
-    private void parseContent(String s) {
-        readBuffer.append(s);
-        state = (state == DetectionState.DOLLAR_DETECTED) ? DetectionState.IDLE : state;
+        private void parseContent() {
+            state = (state == DetectionState.DOLLAR_DETECTED) ? DetectionState.IDLE : state;
+        }
     }
-
-
 }
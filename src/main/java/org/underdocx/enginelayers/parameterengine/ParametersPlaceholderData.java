@@ -63,6 +63,11 @@ public interface ParametersPlaceholderData {
             this.json = JsonNodeFactory.instance.objectNode();
         }
 
+        public Simple(ParametersPlaceholderData other) {
+            this.key = other.getKey();
+            this.json = other.getJson() == null ? null : other.getJson().deepCopy();
+        }
+
         @Override
         public JsonNode getJson() {
             return json;
@@ -25,7 +25,9 @@ SOFTWARE.
 package org.underdocx.environment;
 
 import org.underdocx.common.tools.Convenience;
+import org.underdocx.environment.logger.LogLevel;
 import org.underdocx.environment.logger.Logger;
+import org.underdocx.environment.metrics.EngineMetrics;
 
 /**
  * Global framework settings as singleton
@@ -53,10 +55,21 @@ public class UnderdocxEnv {
     public Logger logger = new Logger() {
     };
 
+    public EngineMetrics metrics = new EngineMetrics() {
+    };
+
+    public LogLevel logLevel = LogLevel.TRACE;
+
     public boolean isDebug = false;
     public boolean appendErrorReport = true;
     public boolean disableImagePlaceholderProvider = false;
     public boolean tryNotToScanIgnoredNodes = false;
+    public boolean bindLoopVariablesDirectly = true;
+    public boolean incrementalRescan = false;
+
+    public int pdfConverterWorkers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    public int pdfConverterQueueSize = 64;
+    public long pdfConversionTimeout = 1000L * 60L * 2L;
 
     public final String libreOfficeExecutable = Convenience.build(path -> {
         path.value = System.getenv("LIBREOFFICE");
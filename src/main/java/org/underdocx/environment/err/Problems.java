@@ -38,6 +38,7 @@ public enum Problems implements Problematic {
     UNEXPECTED_TYPE_DETECTED("an unexpected value type has been received and can't be handled"),
     UNEXPECTED_LOOP_CONDITION("unexpected loop condition"),
     LIBREOFFICE_ENV_NOT_SET("Ensure environment variable LIBREOFFICE is set to LibreOffice executable"),
+    PDF_CONVERSION_FAILED("PDF conversion failed, timed out or has been rejected by the converter pool"),
     CODEC_ERROR("Can't encode or decode a string or object"),
     CODEC_PARSE_ERROR("Can't parse string, syntax error"),
     IO_EXCEPTION("An IO Exception has been caught, failed to load or save a resource"),
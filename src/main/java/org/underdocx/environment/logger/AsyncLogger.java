@@ -0,0 +1,171 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.environment.logger;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Console logger that formats messages on the calling thread and prints them in batches from a
+ * background thread. The queue is bounded: if the writer falls behind, callers wait for free slots.
+ * Install it via {@code UnderdocxEnv.getInstance().logger = new AsyncLogger();}
+ */
+public class AsyncLogger implements Logger, AutoCloseable {
+
+    private record Line(PrintStream out, String text, CountDownLatch written) {
+    }
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final BlockingQueue<Line> queue;
+    private final Thread writer;
+    private final Thread shutdownHook;
+    // lines are queued under the read lock, closed is set under the write lock, so no line is queued after close
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed = false;
+
+    public AsyncLogger(int queueSize, PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.writer = new Thread(this::write, "underdocx-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::close);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    public AsyncLogger() {
+        this(8192, System.out, System.err);
+    }
+
+    @Override
+    public void log(LogLevel level, String message, Throwable e) {
+        if (isEnabled(level)) {
+            PrintStream target = level.compareTo(LogLevel.ERROR) >= 0 ? err : out;
+            enqueue(new Line(target, Logger.formatMessage(level, message, e), null));
+        }
+    }
+
+    /**
+     * Blocks until all lines logged so far have been printed
+     */
+    public void flush() {
+        CountDownLatch written = new CountDownLatch(1);
+        enqueue(new Line(null, null, written));
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Line> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        print(rest);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down
+        }
+    }
+
+    private void enqueue(Line line) {
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                queue.put(line);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        print(List.of(line));
+    }
+
+    private void write() {
+        List<Line> batch = new ArrayList<>();
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch);
+            print(batch);
+            batch.clear();
+        }
+    }
+
+    private static void print(List<Line> batch) {
+        StringBuilder builder = new StringBuilder();
+        PrintStream current = null;
+        for (Line line : batch) {
+            if (line.out != current || line.written != null) {
+                flush(current, builder);
+                current = line.out;
+            }
+            if (line.written != null) {
+                line.written.countDown();
+            } else {
+                builder.append(line.text).append(System.lineSeparator());
+            }
+        }
+        flush(current, builder);
+    }
+
+    private static void flush(PrintStream stream, StringBuilder builder) {
+        if (stream != null && !builder.isEmpty()) {
+            stream.print(builder);
+            stream.flush();
+        }
+        builder.setLength(0);
+    }
+}
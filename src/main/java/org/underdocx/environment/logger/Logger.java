@@ -24,12 +24,17 @@ SOFTWARE.
 
 package org.underdocx.environment.logger;
 
+import org.underdocx.environment.UnderdocxEnv;
+
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.function.Supplier;
 
 /**
  * Logger interface that can be implemented to use any other logger framework.
+ * Messages below {@link UnderdocxEnv#logLevel} are dropped, the {@link Supplier} variants
+ * don't even build the message in that case.
  */
 public interface Logger {
 
@@ -50,9 +55,21 @@ public interface Logger {
         return level + ", " + message + "\n" + stackTrace;
     }
 
+    default boolean isEnabled(LogLevel level) {
+        return level.compareTo(UnderdocxEnv.getInstance().logLevel) >= 0;
+    }
+
     default void log(LogLevel level, String message, Throwable e) {
-        PrintStream out = level.compareTo(LogLevel.ERROR) >= 0 ? System.err : System.out;
-        out.println(formatMessage(level, message, e));
+        if (isEnabled(level)) {
+            PrintStream out = level.compareTo(LogLevel.ERROR) >= 0 ? System.err : System.out;
+            out.println(formatMessage(level, message, e));
+        }
+    }
+
+    default void log(LogLevel level, Supplier<String> message, Throwable e) {
+        if (isEnabled(level)) {
+            log(level, message.get(), e);
+        }
     }
 
     default void trace(String message) {
@@ -75,6 +92,22 @@ public interface Logger {
         log(LogLevel.FATAL, message, null);
     }
 
+    default void trace(Supplier<String> message) {
+        log(LogLevel.TRACE, message, null);
+    }
+
+    default void info(Supplier<String> message) {
+        log(LogLevel.INFO, message, null);
+    }
+
+    default void warn(Supplier<String> message) {
+        log(LogLevel.WARN, message, null);
+    }
+
+    default void error(Supplier<String> message) {
+        log(LogLevel.ERROR, message, null);
+    }
+
     default void warn(String message, Throwable e) {
         log(LogLevel.WARN, message, e);
     }
@@ -88,15 +121,15 @@ public interface Logger {
     }
 
     default void warn(Throwable e) {
-        log(LogLevel.WARN, null, e);
+        log(LogLevel.WARN, (String) null, e);
     }
 
     default void error(Throwable e) {
-        log(LogLevel.ERROR, null, e);
+        log(LogLevel.ERROR, (String) null, e);
     }
 
     default void fatal(Throwable e) {
-        log(LogLevel.FATAL, null, e);
+        log(LogLevel.FATAL, (String) null, e);
     }
 
 
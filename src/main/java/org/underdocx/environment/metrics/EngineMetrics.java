@@ -0,0 +1,76 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.environment.metrics;
+
+/**
+ * Receives measurements of the engine, the modifiers and the document containers. The default methods ignore
+ * everything and don't even read the clock, {@link EngineMetricsCollector} sums the measurements up.
+ * Timings are reported with the value returned by {@link #startTiming()} before the measured operation.
+ */
+public interface EngineMetrics {
+
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * @return start time of a measured operation in nanoseconds, 0 if metrics are disabled
+     */
+    default long startTiming() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * A command handler has executed a placeholder, handlers that ignored it are not reported. The time excludes
+     * placeholders that have been processed by the engine on behalf of the handler, e.g. the content of a loop,
+     * they are reported for their own handlers. Therefore the engine passes the start time moved by that time.
+     */
+    default void handlerExecuted(Class<?> handlerClass, long startTime) {
+    }
+
+    default void handlerResult(Enum<?> resultType) {
+    }
+
+    /**
+     * The engine passes a placeholder of the provider to its command handlers
+     */
+    default void placeholderProcessed(Class<?> providerClass) {
+    }
+
+    default void nodesCloned(Class<?> modifierClass, int count) {
+    }
+
+    default void bytesImported(long bytes) {
+    }
+
+    default void documentLoaded(Class<?> containerClass, long startTime) {
+    }
+
+    default void documentSaved(Class<?> containerClass, long startTime) {
+    }
+
+    default void engineExecuted(long startTime) {
+    }
+}
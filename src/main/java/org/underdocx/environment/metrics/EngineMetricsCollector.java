@@ -0,0 +1,196 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.environment.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe {@link EngineMetrics} implementation that sums up all measurements until {@link #reset()}
+ * is called. Can be shared by engines running in parallel.
+ */
+public class EngineMetricsCollector implements EngineMetrics {
+
+    public static class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void add(long startTime) {
+            count.increment();
+            nanos.add(System.nanoTime() - startTime);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        @Override
+        public String toString() {
+            return getCount() + "x " + getNanos() / 1000000 + " ms";
+        }
+    }
+
+    private final Map<Class<?>, Timing> handlerTimings = new ConcurrentHashMap<>();
+    private final Map<Enum<?>, LongAdder> handlerResults = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> processedPlaceholders = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> clonedNodes = new ConcurrentHashMap<>();
+    private final LongAdder importedBytes = new LongAdder();
+    private final Timing loadTiming = new Timing();
+    private final Timing saveTiming = new Timing();
+    private final Map<Class<?>, Timing> loadTimings = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Timing> saveTimings = new ConcurrentHashMap<>();
+    private final Timing engineTiming = new Timing();
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void handlerExecuted(Class<?> handlerClass, long startTime) {
+        handlerTimings.computeIfAbsent(handlerClass, key -> new Timing()).add(startTime);
+    }
+
+    @Override
+    public void handlerResult(Enum<?> resultType) {
+        handlerResults.computeIfAbsent(resultType, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void placeholderProcessed(Class<?> providerClass) {
+        processedPlaceholders.computeIfAbsent(providerClass, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void nodesCloned(Class<?> modifierClass, int count) {
+        clonedNodes.computeIfAbsent(modifierClass, key -> new LongAdder()).add(count);
+    }
+
+    @Override
+    public void bytesImported(long bytes) {
+        importedBytes.add(bytes);
+    }
+
+    @Override
+    public void documentLoaded(Class<?> containerClass, long startTime) {
+        loadTiming.add(startTime);
+        loadTimings.computeIfAbsent(containerClass, key -> new Timing()).add(startTime);
+    }
+
+    @Override
+    public void documentSaved(Class<?> containerClass, long startTime) {
+        saveTiming.add(startTime);
+        saveTimings.computeIfAbsent(containerClass, key -> new Timing()).add(startTime);
+    }
+
+    @Override
+    public void engineExecuted(long startTime) {
+        engineTiming.add(startTime);
+    }
+
+    public Map<Class<?>, Timing> getHandlerTimings() {
+        return handlerTimings;
+    }
+
+    public Map<Enum<?>, Long> getHandlerResults() {
+        return sums(handlerResults);
+    }
+
+    public Map<Class<?>, Long> getProcessedPlaceholders() {
+        return sums(processedPlaceholders);
+    }
+
+    public Map<Class<?>, Long> getClonedNodes() {
+        return sums(clonedNodes);
+    }
+
+    public long getImportedBytes() {
+        return importedBytes.sum();
+    }
+
+    public Timing getLoadTiming() {
+        return loadTiming;
+    }
+
+    public Timing getSaveTiming() {
+        return saveTiming;
+    }
+
+    /**
+     * @return load timings per container class, {@link #getLoadTiming()} sums them up
+     */
+    public Map<Class<?>, Timing> getLoadTimings() {
+        return loadTimings;
+    }
+
+    public Map<Class<?>, Timing> getSaveTimings() {
+        return saveTimings;
+    }
+
+    public Timing getEngineTiming() {
+        return engineTiming;
+    }
+
+    public void reset() {
+        handlerTimings.clear();
+        handlerResults.clear();
+        processedPlaceholders.clear();
+        loadTimings.clear();
+        saveTimings.clear();
+        clonedNodes.clear();
+        importedBytes.reset();
+        for (Timing timing : new Timing[]{loadTiming, saveTiming, engineTiming}) {
+            timing.count.reset();
+            timing.nanos.reset();
+        }
+    }
+
+    private static <K> Map<K, Long> sums(Map<K, LongAdder> adders) {
+        Map<K, Long> result = new ConcurrentHashMap<>();
+        adders.forEach((key, adder) -> result.put(key, adder.sum()));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Engine: ").append(engineTiming)
+                .append("\nLoad: ").append(loadTiming)
+                .append("\nSave: ").append(saveTiming)
+                .append("\nImported bytes: ").append(getImportedBytes());
+        loadTimings.forEach((container, timing) -> builder.append("\nLoad ").append(container.getSimpleName()).append(": ").append(timing));
+        saveTimings.forEach((container, timing) -> builder.append("\nSave ").append(container.getSimpleName()).append(": ").append(timing));
+        handlerTimings.forEach((handler, timing) -> builder.append("\nHandler ").append(handler.getSimpleName()).append(": ").append(timing));
+        getHandlerResults().forEach((type, count) -> builder.append("\nResult ").append(type.name()).append(": ").append(count));
+        getProcessedPlaceholders().forEach((provider, count) -> builder.append("\nPlaceholders of ").append(provider.getSimpleName()).append(": ").append(count));
+        getClonedNodes().forEach((modifier, count) -> builder.append("\nNodes cloned by ").append(modifier.getSimpleName()).append(": ").append(count));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.odf.baseengine;
+
+import org.junit.jupiter.api.Test;
+import org.odftoolkit.odfdom.doc.OdfTextDocument;
+import org.underdocx.AbstractOdtTest;
+import org.underdocx.doctypes.commands.internal.AbstractTextualCommandHandler;
+import org.underdocx.doctypes.modifiers.formodifier.ForMofifier;
+import org.underdocx.doctypes.odf.modifiers.OdfModifiersProvider;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.odt.OdtEngine;
+import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
+import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
+import org.underdocx.environment.UnderdocxEnv;
+import org.underdocx.environment.metrics.EngineMetrics;
+import org.underdocx.environment.metrics.EngineMetricsCollector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EngineMetricsTest extends AbstractOdtTest {
+
+    private static class SleepCommandHandler extends AbstractTextualCommandHandler<OdtContainer, OdfTextDocument> {
+        protected SleepCommandHandler() {
+            super("Sleep", new OdfModifiersProvider<>());
+        }
+
+        @Override
+        protected CommandHandlerResult tryExecuteTextualCommand() {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            selection.getNode().setTextContent("slept");
+            return CommandHandlerResult.EXECUTED_PROCEED;
+        }
+    }
+
+    @Test
+    public void testCollectMetrics() throws IOException {
+        ByteArrayOutputStream importData = new ByteArrayOutputStream();
+        new OdtContainer("Imported").save(importData);
+
+        EngineMetrics oldMetrics = UnderdocxEnv.getInstance().metrics;
+        EngineMetricsCollector metrics = new EngineMetricsCollector();
+        UnderdocxEnv.getInstance().metrics = metrics;
+        try {
+            OdtContainer doc = new OdtContainer("""
+                    ${For $value:"list", $as:"element"}
+                    ${$element}
+                    ${EndFor}
+                    ${Import $data:"importData"}
+                    """);
+            OdtEngine engine = new OdtEngine();
+            engine.pushVariable("list", Arrays.asList("A", "B", "C"));
+            engine.pushVariable("importData", new LeafDataNode<>(importData.toByteArray()));
+            engine.run(doc);
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            doc.save(os);
+            new OdtContainer(new ByteArrayInputStream(os.toByteArray()));
+        } finally {
+            UnderdocxEnv.getInstance().metrics = oldMetrics;
+        }
+
+        assertThat(metrics.getEngineTiming().getCount()).isEqualTo(1);
+        assertThat(metrics.getSaveTiming().getCount()).isGreaterThanOrEqualTo(1);
+        assertThat(metrics.getLoadTiming().getCount()).isGreaterThanOrEqualTo(2);
+        assertThat(metrics.getImportedBytes()).isEqualTo(importData.size());
+        assertThat(metrics.getClonedNodes().get(ForMofifier.class)).isGreaterThan(0);
+        assertThat(metrics.getHandlerTimings().keySet()).anyMatch(handler -> handler.getSimpleName().equals("ForCommandHandler"));
+        assertThat(metrics.getHandlerResults().get(CommandHandlerResult.CommandHandlerResultType.EXECUTED_PROCEED)).isGreaterThan(0);
+        assertThat(metrics.getProcessedPlaceholders().values().stream().mapToLong(Long::longValue).sum()).isGreaterThanOrEqualTo(4);
+        // only the handler that executed a placeholder is timed, not the ones that ignored it before
+        long executed = metrics.getHandlerResults().entrySet().stream()
+                .filter(entry -> entry.getKey() != CommandHandlerResult.CommandHandlerResultType.IGNORED)
+                .mapToLong(entry -> entry.getValue()).sum();
+        assertThat(metrics.getHandlerTimings().values().stream().mapToLong(EngineMetricsCollector.Timing::getCount).sum()).isEqualTo(executed);
+        assertThat(metrics.getLoadTimings().get(OdtContainer.class).getCount()).isGreaterThanOrEqualTo(2);
+        assertThat(metrics.getSaveTimings().keySet()).containsExactly(OdtContainer.class);
+        assertThat(metrics.toString()).contains("ForCommandHandler");
+    }
+
+    @Test
+    public void testExclusiveHandlerTime() {
+        EngineMetrics oldMetrics = UnderdocxEnv.getInstance().metrics;
+        EngineMetricsCollector metrics = new EngineMetricsCollector();
+        UnderdocxEnv.getInstance().metrics = metrics;
+        try {
+            OdtContainer doc = new OdtContainer("""
+                    ${For value:["A", "B"], $as:"element"}
+                    ${Sleep}
+                    ${EndFor}
+                    """);
+            OdtEngine engine = new OdtEngine();
+            engine.registerParametersCommandHandler(SleepCommandHandler::new);
+            engine.run(doc);
+        } finally {
+            UnderdocxEnv.getInstance().metrics = oldMetrics;
+        }
+
+        long sleepNanos = metrics.getHandlerTimings().get(SleepCommandHandler.class).getNanos();
+        long forNanos = metrics.getHandlerTimings().entrySet().stream()
+                .filter(entry -> entry.getKey().getSimpleName().equals("ForCommandHandler"))
+                .mapToLong(entry -> entry.getValue().getNanos()).sum();
+        assertThat(sleepNanos).isGreaterThanOrEqualTo(200_000_000L);
+        // the loop content is timed for its own handlers only
+        assertThat(forNanos).isLessThan(sleepNanos);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.odf.baseengine;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.odftoolkit.odfdom.doc.OdfTextDocument;
+import org.underdocx.AbstractOdtTest;
+import org.underdocx.common.tree.Nodes;
+import org.underdocx.doctypes.commands.internal.AbstractTextualCommandHandler;
+import org.underdocx.doctypes.odf.modifiers.OdfModifiersProvider;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.odt.OdtEngine;
+import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
+import org.underdocx.enginelayers.baseengine.ScanStatistics;
+import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
+import org.underdocx.environment.UnderdocxEnv;
+import org.underdocx.odf.commands.importer.ImportTest;
+import org.w3c.dom.Node;
+
+import java.io.IOException;
+
+public class IncrementalRescanTest extends AbstractOdtTest {
+
+    private static class RescanPlaceholder extends AbstractTextualCommandHandler<OdtContainer, OdfTextDocument> {
+        protected RescanPlaceholder() {
+            super("Rescan", new OdfModifiersProvider<>());
+        }
+
+        @Override
+        protected CommandHandlerResult tryExecuteTextualCommand() {
+            selection.getNode().setTextContent("rescanned");
+            return CommandHandlerResult.EXECUTED_FULL_RESCAN;
+        }
+    }
+
+    private static class StatisticsPlaceholder extends AbstractTextualCommandHandler<OdtContainer, OdfTextDocument> {
+        private ScanStatistics statistics = null;
+
+        protected StatisticsPlaceholder() {
+            super("Statistics", new OdfModifiersProvider<>());
+        }
+
+        @Override
+        protected CommandHandlerResult tryExecuteTextualCommand() {
+            statistics = engineAccess.getScanStatistics().orElse(null);
+            selection.getNode().setTextContent("statistics");
+            return CommandHandlerResult.EXECUTED_PROCEED;
+        }
+    }
+
+    private static final String CONTENT = """
+            ${String value:"A1"} ${Rescan} ${String value:"B2"}
+            ${If value:true} ${String value:"F1"} ${String value:"G2"} ${Rescan} ${String value:"H3"} ${EndIf}
+            ${For value:["X1", "Y2", "Z3"], $as:"item"} ${$item} ${Rescan} ${EndFor}
+            ${Import $data:"importDocument"}
+            ${String value:"C3"} ${Rescan} ${String value:"D4"} ${String value:"E5"}
+            ${Statistics}
+            """;
+
+    // the unknown placeholder is ignored, it stays in the document and in front of each rescan
+    private static final String IGNORED_CONTENT = """
+            ${Unknown}
+            ${String value:"A1"} ${Rescan} ${String value:"B2"} ${Rescan} ${String value:"C3"}
+            ${Statistics}
+            """;
+
+    private OdtContainer render(String content, boolean incremental, boolean bindLoopVariablesDirectly, StatisticsPlaceholder statistics) throws IOException {
+        boolean oldValue = UnderdocxEnv.getInstance().incrementalRescan;
+        boolean oldBinding = UnderdocxEnv.getInstance().bindLoopVariablesDirectly;
+        UnderdocxEnv.getInstance().incrementalRescan = incremental;
+        UnderdocxEnv.getInstance().bindLoopVariablesDirectly = bindLoopVariablesDirectly;
+        try {
+            OdtContainer doc = new OdtContainer(content);
+            OdtEngine engine = new OdtEngine();
+            engine.registerParametersCommandHandler(new RescanPlaceholder());
+            engine.registerParametersCommandHandler(statistics);
+            engine.pushVariable("importDocument", new LeafDataNode<>(readData(ImportTest.class.getResourceAsStream("Source.odt"))));
+            Assertions.assertThat(engine.run(doc)).isEmpty();
+            return doc;
+        } finally {
+            UnderdocxEnv.getInstance().incrementalRescan = oldValue;
+            UnderdocxEnv.getInstance().bindLoopVariablesDirectly = oldBinding;
+        }
+    }
+
+    @Test
+    public void testRescanReusesPlaceholders() throws IOException {
+        StatisticsPlaceholder statistics = new StatisticsPlaceholder();
+        OdtContainer doc = render(IGNORED_CONTENT, true, true, statistics);
+        assertOrder(doc, "${Unknown}", "A1", "B2", "C3", "statistics");
+        Assertions.assertThat(statistics.statistics).isNotNull();
+        Assertions.assertThat(statistics.statistics.getReusedPlaceholders()).isGreaterThan(0);
+        Assertions.assertThat(statistics.statistics.getScannedPlaceholders()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testSameResultAsFullRescan() throws Exception {
+        assertSameResultAsFullRescan(true);
+    }
+
+    @Test
+    public void testSameResultAsFullRescanWithLoopRestarts() throws Exception {
+        // loops insert their copies behind the end marker and restart at the begin marker
+        assertSameResultAsFullRescan(false);
+    }
+
+    private void assertSameResultAsFullRescan(boolean bindLoopVariablesDirectly) throws Exception {
+        StatisticsPlaceholder statistics = new StatisticsPlaceholder();
+        OdtContainer incrementalDoc = render(CONTENT, true, bindLoopVariablesDirectly, statistics);
+        Assertions.assertThat(statistics.statistics).isNotNull();
+        OdtContainer fullDoc = render(CONTENT, false, bindLoopVariablesDirectly, statistics);
+        Assertions.assertThat(statistics.statistics).isNull();
+        assertOrder(fullDoc, "A1", "B2", "F1", "G2", "H3", "X1", "Y2", "Z3", "Lorem ipsum", "C3", "D4", "E5", "statistics");
+        // imported styles get generated names, so the bodies are compared
+        Node incrementalBody = incrementalDoc.getContentDom().getElementsByTagName("office:body").item(0);
+        Node fullBody = fullDoc.getContentDom().getElementsByTagName("office:body").item(0);
+        assertEqualTrees(incrementalBody, fullBody);
+        Assertions.assertThat(collectText(incrementalBody)).contains("X1", "Y2", "Z3", "Lorem ipsum");
+        Assertions.assertThat(collectText(incrementalBody)).isEqualTo(collectText(fullBody));
+    }
+
+    private static String collectText(Node node) {
+        StringBuilder result = new StringBuilder();
+        Nodes.findDescendantNodes(node, child -> child.getNodeType() == Node.TEXT_NODE, false,
+                text -> result.append(text.getNodeValue()).append('|'));
+        return result.toString();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.odf.baseengine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.underdocx.AbstractOdtTest;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.tools.pdf.LibreOfficeExecutable;
+import org.underdocx.doctypes.odf.tools.pdf.PdfConverterPool;
+import org.underdocx.environment.err.ProblemException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class PdfConverterPoolTest extends AbstractOdtTest {
+
+    @TempDir
+    File tmpDir;
+
+    /*
+     * Fake converter accepting the LibreOffice command line; writes the used profile URL into the "pdf"
+     * and the process id of its child process into sleep.pid
+     */
+    private LibreOfficeExecutable createFakeConverter(String sleep) throws IOException {
+        File script = new File(tmpDir, "fake-soffice.sh");
+        Files.writeString(script.toPath(), """
+                #!/bin/sh
+                while [ $# -gt 1 ]; do
+                  case "$1" in
+                    -env:UserInstallation=*) profile="$1" ;;
+                    --outdir) out="$2" ;;
+                  esac
+                  shift
+                done
+                sleep %s &
+                echo $! > "$out/sleep.pid"
+                wait
+                name=$(basename "$1")
+                printf '%%%%PDF %%s' "$profile" > "$out/${name%%.*}.pdf"
+                """.formatted(sleep), StandardCharsets.UTF_8);
+        script.setExecutable(true);
+        return new LibreOfficeExecutable(script.getAbsolutePath());
+    }
+
+    private File createInput(String name) throws IOException {
+        File file = new File(tmpDir, name + ".odt");
+        Files.writeString(file.toPath(), name);
+        return file;
+    }
+
+    @Test
+    public void testConcurrentWorkers() throws Exception {
+        try (PdfConverterPool pool = new PdfConverterPool(createFakeConverter("0.3"), 3, 10, 10000, new File(tmpDir, "profiles"))) {
+            ExecutorService executor = Executors.newFixedThreadPool(6);
+            List<Future<File>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                File input = createInput("doc" + i);
+                results.add(executor.submit(() -> pool.convert(input)));
+            }
+            Set<String> profiles = new HashSet<>();
+            for (int i = 0; i < 6; i++) {
+                File pdf = results.get(i).get();
+                assertThat(pdf.getName()).isEqualTo("doc" + i + ".pdf");
+                String content = Files.readString(pdf.toPath());
+                assertThat(content).startsWith("%PDF -env:UserInstallation=");
+                profiles.add(content);
+            }
+            executor.shutdown();
+            assertThat(profiles.size()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    public void testTimeout() throws IOException {
+        try (PdfConverterPool pool = new PdfConverterPool(createFakeConverter("5"), 1, 1, 300, new File(tmpDir, "profiles"))) {
+            File input = createInput("slow");
+            assertThatThrownBy(() -> pool.convert(input)).isInstanceOf(ProblemException.class);
+        }
+    }
+
+    @Test
+    public void testTimeoutKillsChildProcesses() throws Exception {
+        try (PdfConverterPool pool = new PdfConverterPool(createFakeConverter("5"), 1, 1, 500, new File(tmpDir, "profiles"))) {
+            File input = createInput("slow");
+            assertThatThrownBy(() -> pool.convert(input)).isInstanceOf(ProblemException.class);
+            long pid = Long.parseLong(Files.readString(new File(tmpDir, "sleep.pid").toPath()).trim());
+            Optional<ProcessHandle> child = ProcessHandle.of(pid);
+            if (child.isPresent()) {
+                child.get().onExit().get(2, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    public void testTimeoutCountsFromSubmission() throws Exception {
+        try (PdfConverterPool pool = new PdfConverterPool(createFakeConverter("0.6"), 1, 2, 900, new File(tmpDir, "profiles"))) {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            File first = createInput("first");
+            File second = createInput("second");
+            Future<File> firstResult = executor.submit(() -> pool.convert(first));
+            Thread.sleep(100);
+            Future<File> secondResult = executor.submit(() -> pool.convert(second));
+            assertThat(firstResult.get().getName()).isEqualTo("first.pdf");
+            // waits for the first conversion and would need longer than the timeout itself
+            assertThatThrownBy(secondResult::get).hasCauseInstanceOf(ProblemException.class);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWritePDF() throws IOException {
+        PdfConverterPool.setDefault(new PdfConverterPool(createFakeConverter("0"), 1, 1, 10000, new File(tmpDir, "profiles")));
+        try {
+            OdtContainer doc = new OdtContainer("Test");
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            doc.writePDF(os);
+            assertThat(os.toString(StandardCharsets.UTF_8)).startsWith("%PDF");
+        } finally {
+            PdfConverterPool.setDefault(null);
+        }
+    }
+}
@@ -27,12 +27,14 @@ package org.underdocx.odf.commands.datetime;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.underdocx.AbstractOdtTest;
+import org.underdocx.common.cache.DateTimeFormatterCache;
 import org.underdocx.doctypes.odf.odt.OdtContainer;
 import org.underdocx.doctypes.odf.odt.OdtEngine;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 public class DateTimeTest extends AbstractOdtTest {
 
@@ -102,5 +104,35 @@ public class DateTimeTest extends AbstractOdtTest {
         testReformat("yyyy-MM-dd HH:mm", "HH:mm", "1999-12-02 12:30", "12:30");
     }
 
+    @Test
+    public void testFormatterCache() {
+        DateTimeFormatter formatter = DateTimeFormatterCache.get("dd. MMMM yyyy", "de-DE");
+        Assertions.assertThat(DateTimeFormatterCache.get("dd. MMMM yyyy", "de-DE")).isSameAs(formatter);
+        Assertions.assertThat(DateTimeFormatterCache.get("dd. MMMM yyyy", "en-US")).isNotSameAs(formatter);
+        Assertions.assertThat(DateTimeFormatterCache.get("dd. MMMM yyyy", null)).isNotSameAs(formatter);
+
+        LocalDate date = DateTimeFormatterCache.parseDate("04. März 2022", formatter);
+        Assertions.assertThat(date).isEqualTo(LocalDate.of(2022, 3, 4));
+        Assertions.assertThat(DateTimeFormatterCache.parseDate("04. März 2022", formatter)).isSameAs(date);
+        Assertions.assertThatThrownBy(() -> DateTimeFormatterCache.parseDate("04. March 2022", formatter))
+                .isInstanceOf(DateTimeParseException.class);
+
+        DateTimeFormatter timeFormatter = DateTimeFormatterCache.get("yyyy-MM-dd HH:mm", null);
+        Assertions.assertThat(DateTimeFormatterCache.parseDateTime("1999-12-02 12:30", timeFormatter))
+                .isEqualTo(LocalDateTime.of(1999, 12, 2, 12, 30));
+    }
 
+    @Test
+    public void testDateLang() {
+        String content = """
+                A ${Date value:"2022-03-04", outputFormat:"dd. MMMM yyyy", lang:"de-DE"}
+                B ${Date value:"2022-03-04", outputFormat:"dd. MMMM yyyy", lang:"en-US"}
+                """;
+        OdtContainer doc = new OdtContainer(content);
+        OdtEngine engine = new OdtEngine();
+        engine.run(doc);
+        assertNoPlaceholders(doc);
+        assertContains(doc, "A 04. März 2022");
+        assertContains(doc, "B 04. March 2022");
+    }
 }
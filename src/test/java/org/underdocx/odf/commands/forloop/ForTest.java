@@ -25,13 +25,21 @@ SOFTWARE.
 package org.underdocx.odf.commands.forloop;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.odftoolkit.odfdom.doc.OdfTextDocument;
 import org.underdocx.AbstractOdtTest;
+import org.underdocx.doctypes.commands.internal.AbstractTextualCommandHandler;
+import org.underdocx.doctypes.odf.modifiers.OdfModifiersProvider;
 import org.underdocx.doctypes.odf.odt.OdtContainer;
 import org.underdocx.doctypes.odf.odt.OdtEngine;
+import org.underdocx.enginelayers.baseengine.CommandHandlerResult;
 import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+import org.underdocx.environment.UnderdocxEnv;
 
 import java.util.Arrays;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class ForTest extends AbstractOdtTest {
 
     /*
@@ -277,4 +285,98 @@ public class ForTest extends AbstractOdtTest {
         assertOrder(doc, "A", "B", "C");
         assertNoPlaceholders(doc);
     }
+
+    @Test
+    public void testNestedLoops() {
+        String jsonString = """
+                {
+                  items:[{name:"A", subs:["x", "y"]}, {name:"B", subs:[]}, {name:"C", subs:["z"]}]
+                }
+                """;
+        String documentStr = """
+                ${For *value:"items", *as:"item"}
+                ${$index} ${*item.name}
+                ${For *value:"item.subs", $as:"sub"}
+                ${$index}-${$sub}
+                ${EndFor}
+                ${EndFor}
+                """;
+        for (boolean direct : new boolean[]{true, false}) {
+            UnderdocxEnv.getInstance().bindLoopVariablesDirectly = direct;
+            try {
+                OdtContainer doc = new OdtContainer(documentStr);
+                OdtEngine engine = new OdtEngine();
+                engine.setModel(new MapDataNode(jsonString));
+                engine.run(doc);
+                assertOrder(doc, "0 A", "0-x", "1-y", "1 B", "2 C", "0-z");
+                assertNoPlaceholders(doc);
+            } finally {
+                UnderdocxEnv.getInstance().bindLoopVariablesDirectly = true;
+            }
+        }
+    }
+
+    private static class RescanPlaceholder extends AbstractTextualCommandHandler<OdtContainer, OdfTextDocument> {
+        protected RescanPlaceholder() {
+            super("Rescan", new OdfModifiersProvider<>());
+        }
+
+        @Override
+        protected CommandHandlerResult tryExecuteTextualCommand() {
+            selection.getNode().setTextContent("rescanned");
+            return CommandHandlerResult.EXECUTED_FULL_RESCAN;
+        }
+    }
+
+    private static class EndOfDocPlaceholder extends AbstractTextualCommandHandler<OdtContainer, OdfTextDocument> {
+        protected EndOfDocPlaceholder() {
+            super("EndOfDoc", new OdfModifiersProvider<>());
+        }
+
+        @Override
+        protected CommandHandlerResult tryExecuteTextualCommand() {
+            selection.getNode().setTextContent("skipped");
+            return CommandHandlerResult.EXECUTED_END_OF_DOC;
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    public void testRescanInNestedLoop() {
+        String documentStr = """
+                ${For value:["a", "b"], $as:"outer"}
+                Outer ${$outer}
+                ${For value:["x", "y"], $as:"inner"}
+                ${$outer}-${$inner} ${Rescan}
+                ${EndFor}
+                ${EndFor}
+                ${String value:"end"}
+                """;
+        for (boolean direct : new boolean[]{true, false}) {
+            UnderdocxEnv.getInstance().bindLoopVariablesDirectly = direct;
+            try {
+                OdtContainer doc = new OdtContainer(documentStr);
+                OdtEngine engine = new OdtEngine();
+                engine.registerParametersCommandHandler(new RescanPlaceholder());
+                assertThat(engine.run(doc)).isEmpty();
+                assertOrder(doc, "Outer a", "a-x", "a-y", "Outer b", "b-x", "b-y", "end");
+                assertNoPlaceholders(doc);
+            } finally {
+                UnderdocxEnv.getInstance().bindLoopVariablesDirectly = true;
+            }
+        }
+    }
+
+    @Test
+    public void testLoopAreaLeftWithoutEnd() {
+        String documentStr = """
+                ${For value:["a", "b"], $as:"item"}
+                ${$item} ${EndOfDoc}
+                ${EndFor}
+                """;
+        OdtContainer doc = new OdtContainer(documentStr);
+        OdtEngine engine = new OdtEngine();
+        engine.registerParametersCommandHandler(new EndOfDocPlaceholder());
+        assertThat(engine.run(doc)).isPresent();
+    }
 }
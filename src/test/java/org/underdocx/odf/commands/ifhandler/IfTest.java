@@ -24,13 +24,19 @@ SOFTWARE.
 
 package org.underdocx.odf.commands.ifhandler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 import org.underdocx.AbstractOdtTest;
+import org.underdocx.common.codec.JsonCodec;
+import org.underdocx.doctypes.commands.ifcondition.CompiledCondition;
 import org.underdocx.doctypes.odf.odt.OdtContainer;
 import org.underdocx.doctypes.odf.odt.OdtEngine;
 import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class IfTest extends AbstractOdtTest {
     @Test
     public void testSingleIfSimpleCondition() {
@@ -245,5 +251,30 @@ public class IfTest extends AbstractOdtTest {
         assertNoPlaceholders(doc);
     }
 
+    @Test
+    public void testCompiledConditionCache() throws JsonProcessingException {
+        ObjectNode json = (ObjectNode) new JsonCodec().parse("{\"and\": [{\"$a\": 1}, {\"not\": {\"$b\": null}}]}");
+        CompiledCondition compiled = CompiledCondition.compile(json);
+        assertThat(CompiledCondition.compile(json.deepCopy())).isSameAs(compiled);
+        assertThat(compiled.eval(pair -> 0)).isFalse();
+        assertThat(compiled.eval(pair -> pair.right == null ? -1 : 0)).isTrue();
+
+        json.put("c", 2);
+        assertThat(CompiledCondition.compile(json)).isNotSameAs(compiled);
+    }
 
+    @Test
+    public void testIfInLoop() {
+        String documentStr = """
+                ${For value:[1, 2, 3, 4], $as:"x"}${If greater:{$x:2}}[${$x}]${EndIf}${EndFor}
+                """;
+        OdtContainer doc = new OdtContainer(documentStr);
+        OdtEngine engine = new OdtEngine();
+        engine.run(doc);
+        assertContains(doc, "[3]");
+        assertContains(doc, "[4]");
+        assertNotContains(doc, "[1]");
+        assertNotContains(doc, "[2]");
+        assertNoPlaceholders(doc);
+    }
 }
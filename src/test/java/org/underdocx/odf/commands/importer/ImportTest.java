@@ -26,12 +26,18 @@ package org.underdocx.odf.commands.importer;
 
 import org.junit.jupiter.api.Test;
 import org.underdocx.AbstractOdtTest;
+import org.underdocx.common.tree.Nodes;
 import org.underdocx.doctypes.odf.odt.OdtContainer;
 import org.underdocx.doctypes.odf.odt.OdtEngine;
 import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
+import org.w3c.dom.Element;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class ImportTest extends AbstractOdtTest {
 
@@ -77,4 +83,47 @@ public class ImportTest extends AbstractOdtTest {
         assertNoPlaceholders(doc);
         assertOrder(doc, "Begin", "Lorem ipsum", "1A", "---", "End");
     }
+
+    private List<String> pictures(OdtContainer doc) {
+        return doc.getDocument().getPackage().getFilePaths().stream()
+                .filter(path -> path.startsWith("Pictures/") && path.length() > "Pictures/".length()).sorted().toList();
+    }
+
+    @Test
+    public void testImportImagesOnce() throws IOException {
+        OdtContainer source = readOdt("Source.odt");
+        source.getDocument().getPackage().insert(new byte[]{1, 2, 3}, "Pictures/unused.png", "image/png");
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        source.save(os);
+        OdtContainer doc = new OdtContainer("""
+                Begin
+                ${Import $data:"binaryDocument"}
+                ${Import $data:"binaryDocument"}
+                End""");
+        OdtEngine engine = new OdtEngine();
+        engine.pushVariable("binaryDocument", new LeafDataNode<>(os.toByteArray()));
+        engine.run(doc);
+        assertNoPlaceholders(doc);
+        assertThat(pictures(doc)).containsExactly("Pictures/100000010000006400000064D052D149804EBCAD.png");
+    }
+
+    @Test
+    public void testImportImageNameClash() throws IOException {
+        OdtContainer doc = new OdtContainer("""
+                Begin
+                ${Import $data:"binaryDocument"}
+                End""");
+        String path = "Pictures/100000010000006400000064D052D149804EBCAD.png";
+        doc.getDocument().getPackage().insert(new byte[]{1, 2, 3}, path, "image/png");
+        OdtEngine engine = new OdtEngine();
+        engine.pushVariable("binaryDocument", new LeafDataNode<>(readData("Source.odt")));
+        engine.run(doc);
+        assertNoPlaceholders(doc);
+        List<String> pictures = pictures(doc);
+        assertThat(pictures).hasSize(2);
+        assertThat(doc.getDocument().getPackage().getBytes(path)).containsExactly(1, 2, 3);
+        String importedPath = pictures.stream().filter(p -> !p.equals(path)).findFirst().get();
+        assertThat(Nodes.findDescendantNodes(doc.getContentRoot(), "draw:image", false))
+                .anyMatch(image -> importedPath.equals(((Element) image).getAttribute("xlink:href")));
+    }
 }
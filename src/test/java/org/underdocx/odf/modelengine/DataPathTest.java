@@ -34,8 +34,10 @@ import org.underdocx.enginelayers.modelengine.data.DataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
 import org.underdocx.enginelayers.modelengine.datapath.ActivePrefixDataPath;
 import org.underdocx.enginelayers.modelengine.datapath.DataPath;
+import org.underdocx.enginelayers.modelengine.datapath.elements.IndexDataPathElement;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class DataPathTest extends AbstractOdtTest {
 
@@ -134,4 +136,20 @@ public class DataPathTest extends AbstractOdtTest {
         assertNoPlaceholders(doc);
     }
 
+    @Test
+    public void testCompiledPath() {
+        assertThat(DataPath.compile("a.b[1][0]")).isSameAs(DataPath.compile("a.b[1][0]"));
+        assertThatThrownBy(() -> DataPath.compile("a.b").add(new IndexDataPathElement(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+
+        DataPath path = new DataPath("a.b");
+        path.interpret("<.c");
+        assertThat(path.toString()).isEqualTo("a.c");
+        assertThat(new DataPath("a.b").toString()).isEqualTo("a.b");
+
+        DataPath listPath = new DataPath("a.b");
+        DataPath elementPath = listPath.append(new IndexDataPathElement(17));
+        assertThat(elementPath.getElements()).isEqualTo(new DataPath("a.b[17]").getElements());
+        assertThat(listPath.toString()).isEqualTo("a.b");
+    }
 }
@@ -33,6 +33,8 @@ import org.underdocx.enginelayers.modelengine.data.simple.LeafDataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.ReflectionDataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.ReflectionInterceptorRegistry;
 
+import java.lang.reflect.Field;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -68,6 +70,72 @@ public class ReflectionModelTest extends AbstractOdtTest {
         }
     }
 
+    @Test
+    public void testAccessors() {
+        DataNode<?> node = new ReflectionDataNode(new TestClassC());
+        assertThat(node.getProperty("count").getValue()).isEqualTo(3);
+        assertThat(node.getProperty("COUNT").getValue()).isEqualTo(3);
+        assertThat(node.getProperty("valid").getValue()).isEqualTo(true);
+        assertThat(node.getProperty("constant").getValue()).isEqualTo("C");
+        assertThat(node.getProperty("failing")).isNull();
+        assertThat(node.getProperty("unknown")).isNull();
+        assertThat(node.hasProperty("count")).isTrue();
+        assertThat(node.hasProperty("unknown")).isFalse();
+        assertThat(node.getPropertyNames()).contains("count", "valid", "failing", "constant", "class");
+        assertThat(new ReflectionDataNode(LocalDate.of(2024, 2, 29)).getProperty("year").getValue()).isEqualTo(2024);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedLookups() {
+        ReflectionDataNode node = new ReflectionDataNode(new TestClassA()) {
+            {
+                assertThat(findField("a").flatMap(this::readField).get().getValue()).isEqualTo("Hallo");
+                assertThat(findGetMethod("b")).isEmpty();
+                assertThat(findGetMethodNames()).contains("class");
+            }
+        };
+        assertThat(node.findFieldNames()).containsExactlyInAnyOrder("a", "b");
+        ReflectionDataNode nodeB = new ReflectionDataNode(new TestClassB()) {
+            {
+                assertThat(findGetMethod("c").flatMap(this::callGetMethod).get().getSize()).isEqualTo(2);
+            }
+        };
+        assertThat(nodeB.getProperty("d").getValue()).isEqualTo(true);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testOverriddenLookup() {
+        ReflectionDataNode node = new ReflectionDataNode(new TestClassA()) {
+            @Override
+            protected Optional<Field> findField(String name) {
+                return super.findField(name.equals("alias") ? "a" : name);
+            }
+        };
+        assertThat(node.getProperty("alias").getValue()).isEqualTo("Hallo");
+        assertThat(node.hasProperty("alias")).isTrue();
+        assertThat(node.getProperty("b").getProperty("d").getValue()).isEqualTo(true);
+    }
+
+    private static class TestClassC {
+        public static String getConstant() {
+            return "C";
+        }
+
+        public int getCount() {
+            return 3;
+        }
+
+        public boolean isValid() {
+            return true;
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException("failing getter");
+        }
+    }
+
     @Test
     public void testReflectionModelEngine() {
         OdtContainer doc = new OdtContainer("${String *value:\"b.c[0]\"}");
@@ -31,7 +31,23 @@ import org.underdocx.AbstractTest;
 import org.underdocx.common.codec.JsonCodec;
 import org.underdocx.common.tools.Convenience;
 import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.JsonMapDataNode;
 import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.NumberLeafDataNode;
+import org.underdocx.environment.err.ProblemException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SimpleModelTest extends AbstractTest {
 
@@ -54,4 +70,88 @@ public class SimpleModelTest extends AbstractTest {
             Assertions.assertThat(toCheck).isEqualTo("{\"a\":\"Hello World\",\"b\":[\"Item1\",\"Item2\"],\"c\":{\"d\":\"Jon Doe\"}}");
         });
     }
+
+    private static JsonMapDataNode readJson(String json) {
+        return new JsonMapDataNode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testJsonStreamRead() {
+        String jsonString = """
+                {
+                  // simplified syntax as accepted by MapDataNode
+                  a: 'Hello World',
+                  "b": ["Item1", 2, 3000000000, 1.5, true, null, {"x": [[]]},],
+                  "c": {
+                    "d": “Jon Doe”
+                  },
+                  "e": {}
+                }
+                """;
+        DataNode<?> model = readJson(jsonString);
+        assertThat(model.toString()).isEqualTo(new MapDataNode(jsonString).toString());
+        assertThat(model.getProperty("b").getSize()).isEqualTo(7);
+        assertThat(model.getProperty("b").getProperty(1).getValue()).isEqualTo(2);
+        assertThat(model.getProperty("b").getProperty(2).getValue()).isEqualTo(3000000000L);
+        assertThat(model.getProperty("b").getProperty(3).getValue()).isEqualTo(1.5);
+        assertThat(model.getProperty("b").getProperty(5).isNull()).isTrue();
+        assertThat(model.getProperty("b").getProperty(6).getProperty("x").getProperty(0).getSize()).isEqualTo(0);
+        assertThat(model.getProperty("c").getProperty("d").getValue()).isEqualTo("Jon Doe");
+        assertThat(model.getProperty("c").getParent()).isSameAs(model);
+        assertThat(model.getProperty("e").getPropertyNames()).isEmpty();
+    }
+
+    @Test
+    public void testJsonSharedRead() throws Exception {
+        StringBuilder json = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < 200; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"name\": \"n").append(i).append("\", \"subs\": [1, 2, 3]}");
+        }
+        json.append("]}");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int run = 0; run < 20; run++) {
+                DataNode<?> model = readJson(json.toString());
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int thread = 0; thread < 4; thread++) {
+                    results.add(executor.submit(() -> {
+                        DataNode<?> items = model.getProperty("items");
+                        int sum = 0;
+                        for (int i = 0; i < items.getSize(); i++) {
+                            sum += items.getProperty(i).getProperty("subs").getSize();
+                        }
+                        return sum;
+                    }));
+                }
+                for (Future<Integer> result : results) {
+                    assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(600);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testJsonStreamSyntaxError() {
+        assertThatThrownBy(() -> readJson("{\"a\": {\"b\": [1, 2}}")).isInstanceOf(ProblemException.class);
+        assertThatThrownBy(() -> readJson("{\"a\": 1} 2")).isInstanceOf(ProblemException.class);
+        assertThatThrownBy(() -> readJson("[1, 2]")).isInstanceOf(ProblemException.class);
+    }
+
+    @Test
+    public void testNumberLeaves() {
+        DataNode<?> model = new MapDataNode(Map.of("i", 1, "l", 2L, "d", 3.5, "s", "4"));
+        assertThat(model.getProperty("i")).isInstanceOf(NumberLeafDataNode.class);
+        assertThat(model.getProperty("i").getValue()).isEqualTo(1);
+        assertThat(model.getProperty("l").getValue()).isEqualTo(2L);
+        assertThat(((NumberLeafDataNode) model.getProperty("d")).getDouble()).isEqualTo(3.5);
+        assertThat(model.getProperty("s")).isNotInstanceOf(NumberLeafDataNode.class);
+
+        NumberLeafDataNode primitive = new NumberLeafDataNode(5);
+        assertThat(primitive.getValue()).isEqualTo(5);
+        assertThat(primitive.getValue()).isSameAs(primitive.getValue());
+        assertThat(new NumberLeafDataNode(5L).getValue()).isEqualTo(5L);
+        assertThat(new NumberLeafDataNode(0.0).isNull()).isFalse();
+    }
 }
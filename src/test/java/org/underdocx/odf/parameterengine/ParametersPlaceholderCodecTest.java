@@ -27,6 +27,7 @@ package org.underdocx.odf.parameterengine;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.underdocx.AbstractTest;
+import org.underdocx.common.placeholder.TextualPlaceholderToolkit;
 import org.underdocx.doctypes.tools.attrinterpreter.AttributesInterpreter;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderCodec;
 import org.underdocx.enginelayers.parameterengine.ParametersPlaceholderData;
@@ -65,4 +66,25 @@ public class ParametersPlaceholderCodecTest extends AbstractTest {
         assertThat(text).isEqualTo("${Test \"abc\":\"DEF\",\"id\":\"42\"}");
     }
 
+    @Test
+    public void testToolkitParsesEachTextOnce() {
+        int[] parseCount = {0};
+        ParametersPlaceholderCodec codec = new ParametersPlaceholderCodec() {
+            @Override
+            public ParametersPlaceholderData parse(String string) throws Exception {
+                parseCount[0]++;
+                return super.parse(string);
+            }
+        };
+        TextualPlaceholderToolkit<ParametersPlaceholderData> toolkit = new TextualPlaceholderToolkit<>(null, codec);
+        ParametersPlaceholderData first = toolkit.parsePlaceholder("${Test abc:\"DEF\"}");
+        first.addStringAttribute("id", "42");
+        ParametersPlaceholderData second = toolkit.tryParsePlaceholder("${Test abc:\"DEF\"}").get();
+        assertThat(codec.getTextContent(second)).isEqualTo("${Test \"abc\":\"DEF\"}");
+        assertThat(parseCount[0]).isEqualTo(1);
+
+        assertThat(toolkit.tryParsePlaceholder("${Test abc:}")).isEmpty();
+        assertThat(toolkit.tryParsePlaceholder("${Test abc:}")).isEmpty();
+        assertThat(parseCount[0]).isEqualTo(2);
+    }
 }
@@ -0,0 +1,104 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.odf.template;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.odftoolkit.odfdom.doc.OdfTextDocument;
+import org.underdocx.AbstractOdtTest;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.odf.odt.OdtContainer;
+import org.underdocx.doctypes.odf.odt.OdtEngine;
+import org.underdocx.doctypes.template.CompiledTemplate;
+import org.underdocx.doctypes.txt.TxtContainer;
+import org.underdocx.doctypes.txt.TxtEngine;
+import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+import org.underdocx.environment.err.Problem;
+
+import java.util.Optional;
+
+public class CompiledTemplateTest extends AbstractOdtTest {
+
+    private static final String TEMPLATE = """
+            Invoice ${*number}
+            ${For *value:"items", $as:"item"}
+            ${$index}: ${$item.name} costs ${$item.price}
+            ${If "$item.free":true}
+            free item
+            ${EndIf}
+            ${EndFor}
+            Total: ${Number *value:"total", format:"0.00", lang:"en-US"}
+            Price $ 10
+            """;
+
+    @Test
+    public void testCompile() {
+        OdtContainer template = new OdtContainer(TEMPLATE);
+        CompiledTemplate<OdtContainer, OdfTextDocument> compiled = OdtEngine.compile(template);
+        Assertions.assertThat(compiled.getPlaceholders()).hasSize(9);
+        Assertions.assertThat(compiled.getPlaceholders().get(1).getKey()).isEqualTo("For");
+        Assertions.assertThat(compiled.getAreas()).containsExactly(
+                new CompiledTemplate.Area("For", 1, 7),
+                new CompiledTemplate.Area("If", 5, 6));
+        compiled.getPlaceholders().get(1).getData().addStringAttribute("x", "y");
+        Assertions.assertThat(compiled.getPlaceholders().get(1).getData().getJson().has("x")).isFalse();
+        assertContains(template, "${For *value:\"items\", $as:\"item\"}");
+    }
+
+    @Test
+    public void testRenderMany() {
+        CompiledTemplate<OdtContainer, OdfTextDocument> compiled = OdtEngine.compile(new OdtContainer(TEMPLATE));
+        for (int i = 0; i < 3; i++) {
+            Pair<OdtContainer, Optional<Problem>> result = compiled.render(new MapDataNode("""
+                    {
+                      "number": "R-%d",
+                      "items": [
+                        {"name": "Apple", "price": 3, "free": false},
+                        {"name": "Pear", "price": 0, "free": true}
+                      ],
+                      "total": %d
+                    }
+                    """.formatted(i, i + 3)));
+            Assertions.assertThat(result.right).isEmpty();
+            OdtContainer doc = result.left;
+            assertNotContains(doc, "${");
+            assertOrder(doc, "Invoice R-" + i, "0: Apple costs 3", "1: Pear costs 0", "free item", "Total: " + (i + 3) + ".00", "Price $ 10");
+        }
+    }
+
+    @Test
+    public void testSameResultAsEngine() {
+        String content = """
+                ${String value:"${Date value:\\"2022-03-04\\", outputFormat:\\"dd.MM.yyyy\\"}"}
+                ${For value:["A", "B"], $as:"x"}${$x}${EndFor}
+                """;
+        TxtContainer expected = new TxtContainer(content);
+        new TxtEngine().run(expected);
+        TxtContainer rendered = TxtEngine.compile(new TxtContainer(content)).render(engine -> {
+        }).left;
+        Assertions.assertThat(rendered.getPlainText()).isEqualTo(expected.getPlainText());
+        Assertions.assertThat(rendered.getPlainText()).contains("A").doesNotContain("${For");
+    }
+}
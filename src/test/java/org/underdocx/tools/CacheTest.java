@@ -0,0 +1,142 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.common.cache.Cache;
+import org.underdocx.common.cache.CacheStats;
+import org.underdocx.common.cache.Caches;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        Cache<Integer, String> cache = Cache.<Integer, String>builder("test").maxSize(16).build();
+        for (int i = 0; i < 16; i++) {
+            cache.put(i, "v" + i);
+        }
+        cache.get(0);
+        cache.put(16, "v16");
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.get(0)).isEqualTo("v0");
+        assertThat(cache.get(16)).isEqualTo("v16");
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.getStats().evictions()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testLoadOnce() {
+        Cache<String, Integer> cache = Cache.<String, Integer>builder("test").maxSize(4).build();
+        AtomicInteger computed = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("a", key -> computed.incrementAndGet())).isEqualTo(1);
+        }
+        assertThat(computed.get()).isEqualTo(1);
+        CacheStats stats = cache.getStats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.loads()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentMissesLoadOnce() throws Exception {
+        Cache<String, Integer> cache = Cache.<String, Integer>builder("test").build();
+        AtomicInteger computed = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("a", key -> {
+                loaderStarted.countDown();
+                await(release);
+                return computed.incrementAndGet();
+            })));
+            loaderStarted.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get("a", key -> computed.incrementAndGet())));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(computed.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        Cache<String, Integer> cache = Cache.<String, Integer>builder("test").build();
+        assertThatThrownBy(() -> cache.get("a", key -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("a", key -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void testWeightLimit() {
+        Cache<String, byte[]> cache = Cache.<String, byte[]>builder("test")
+                .maxSize(100).maxWeight(10, data -> data.length).build();
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        assertThat(cache.getWeight()).isEqualTo(8);
+        cache.put("c", new byte[4]);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(10);
+        cache.put("d", new byte[20]);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("d")).isNotNull();
+    }
+
+    @Test
+    public void testWeightEvictionRemovesBatch() {
+        Cache<String, byte[]> cache = Cache.<String, byte[]>builder("test")
+                .maxSize(100).maxWeight(80, data -> data.length).build();
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, new byte[8]);
+        }
+        assertThat(cache.getWeight()).isEqualTo(80);
+        cache.put("key10", new byte[8]);
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(70);
+        assertThat(cache.get("key10")).isNotNull();
+    }
+
+    @Test
+    public void testTimeToLive() throws InterruptedException {
+        Cache<String, String> cache = Cache.<String, String>builder("test").timeToLive(20, TimeUnit.MILLISECONDS).build();
+        cache.put("a", "v");
+        assertThat(cache.get("a")).isEqualTo("v");
+        Thread.sleep(40);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getStats().expirations()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRegistry() {
+        Cache<String, String> cache = Cache.<String, String>builder("registryTest").maxSize(8).build();
+        cache.put("a", "v");
+        assertThat(Caches.get("registryTest")).containsSame(cache);
+        Caches.get("registryTest").ifPresent(found -> found.setMaxSize(1));
+        cache.put("b", "v");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(Caches.getStats()).anyMatch(stats -> stats.name().equals("registryTest"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.common.enumerator.Enumerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachedEnumeratorTest {
+
+    private static class CountingEnumerator implements Enumerator<Integer> {
+        private final int size;
+        private int index = 0;
+        private int fetched = 0;
+
+        private CountingEnumerator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public Integer next() {
+            fetched++;
+            return index++;
+        }
+
+        @Override
+        public Enumerator<Integer> cloneEnumerator() {
+            return this;
+        }
+    }
+
+    private static List<Integer> rest(Enumerator<Integer> enumerator) {
+        List<Integer> result = new ArrayList<>();
+        while (enumerator.hasNext()) {
+            result.add(enumerator.next());
+        }
+        return result;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().toList();
+    }
+
+    @Test
+    public void testClonesEnumerateFromTheirPosition() {
+        CountingEnumerator inner = new CountingEnumerator(100);
+        Enumerator<Integer> enumerator = inner.cache();
+        List<Enumerator<Integer>> clones = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            clones.add(enumerator.cloneEnumerator());
+            assertThat(enumerator.next()).isEqualTo(i);
+        }
+        Enumerator<Integer> lookAhead = enumerator.cloneEnumerator();
+        assertThat(rest(lookAhead)).isEqualTo(range(50, 100));
+        for (int i = 0; i < 50; i++) {
+            assertThat(rest(clones.get(i))).isEqualTo(range(i, 100));
+        }
+        assertThat(rest(enumerator)).isEqualTo(range(50, 100));
+        assertThat(inner.fetched).isEqualTo(100);
+    }
+
+    @Test
+    public void testEndOfEnumeration() {
+        Enumerator<Integer> enumerator = new CountingEnumerator(1).cache();
+        Enumerator<Integer> clone = enumerator.cloneEnumerator();
+        assertThat(enumerator.next()).isEqualTo(0);
+        assertThat(enumerator.hasNext()).isFalse();
+        assertThat(enumerator.next()).isNull();
+        assertThat(enumerator.hasNext()).isFalse();
+        assertThat(rest(clone)).isEqualTo(List.of(0));
+        assertThat(Enumerator.<Integer>empty().cache().hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.common.placeholder.basic.detection.DelimiterAutomaton;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DelimiterAutomatonTest {
+
+    private static List<String> scan(DelimiterAutomaton automaton, String text) {
+        List<String> result = new ArrayList<>();
+        automaton.scan(text, (delimiter, begin, end) -> {
+            result.add(automaton.getDelimiter(delimiter) + "@" + begin + "-" + end);
+            return true;
+        });
+        return result;
+    }
+
+    @Test
+    public void testAllMatchesInOnePass() {
+        DelimiterAutomaton automaton = new DelimiterAutomaton("<!--${", "}-->", "#!", "!#", "/*!", "!*/");
+        assertThat(scan(automaton, "a #!x!# <!--${y}--> /*!z!*/")).containsExactly(
+                "#!@2-3", "!#@5-6", "<!--${@8-13", "}-->@15-18", "/*!@20-22", "!*/@24-26");
+    }
+
+    @Test
+    public void testOverlappingDelimiters() {
+        DelimiterAutomaton automaton = new DelimiterAutomaton("#!", "!#");
+        assertThat(scan(automaton, "#!#!")).containsExactly("#!@0-1", "!#@1-2", "#!@2-3");
+
+        DelimiterAutomaton nested = new DelimiterAutomaton("abc", "b", "bcd");
+        assertThat(scan(nested, "abcd")).containsExactly("b@1-1", "abc@0-2", "bcd@1-3");
+    }
+
+    @Test
+    public void testStop() {
+        DelimiterAutomaton automaton = new DelimiterAutomaton("{", "}");
+        List<Integer> found = new ArrayList<>();
+        automaton.scan("{a}{b}", (delimiter, begin, end) -> found.add(begin) && delimiter == 0);
+        assertThat(found).containsExactly(0, 2);
+    }
+
+    @Test
+    public void testPendingLength() {
+        DelimiterAutomaton automaton = new DelimiterAutomaton("<!--${", "}-->");
+        assertThat(automaton.getPendingLength(automaton.scan("text <!-", (d, b, e) -> true), 0)).isEqualTo(3);
+        assertThat(automaton.getPendingLength(automaton.scan("text }--", (d, b, e) -> true), 0)).isEqualTo(0);
+        assertThat(automaton.getPendingLength(automaton.scan("text }--", (d, b, e) -> true), 1)).isEqualTo(3);
+        assertThat(automaton.getPendingLength(automaton.scan("<!--${", (d, b, e) -> true), 0)).isEqualTo(0);
+    }
+}
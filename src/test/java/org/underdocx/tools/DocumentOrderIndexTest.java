@@ -0,0 +1,63 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.AbstractTest;
+import org.underdocx.common.tree.DocumentOrderIndex;
+import org.underdocx.common.tree.Nodes;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DocumentOrderIndexTest extends AbstractTest {
+
+    private static final String xmlStr = "<root><a><b><c></c><d></d><e></e></b><f></f></a><g><h></h></g></root>";
+
+    private void assertSameOrder(DocumentOrderIndex index, Document doc) {
+        List<Node> nodes = Nodes.findDescendantNodes(doc, node -> true, false);
+        for (Node node1 : nodes) {
+            for (Node node2 : nodes) {
+                assertThat(Integer.signum(index.compare(node1, node2)))
+                        .isEqualTo(Integer.signum(Nodes.compareNodePositions(node1, node2)));
+            }
+        }
+    }
+
+    @Test
+    public void testCompare() {
+        Document doc = readXML(xmlStr);
+        DocumentOrderIndex index = new DocumentOrderIndex();
+        assertSameOrder(index, doc);
+        Node c = Nodes.findFirstDescendantNode(doc, "c").get();
+        Node f = Nodes.findFirstDescendantNode(doc, "f").get();
+        assertThat(index.compare(c, f)).isLessThan(0);
+        assertThat(index.compare(c, c.getParentNode())).isLessThan(0);
+        index.release();
+    }
+
+    @Test
+    public void testCompareAfterModifications() {
+        Document doc = readXML(xmlStr);
+        DocumentOrderIndex index = new DocumentOrderIndex();
+        assertSameOrder(index, doc);
+
+        Node b = Nodes.findFirstDescendantNode(doc, "b").get();
+        Node h = Nodes.findFirstDescendantNode(doc, "h").get();
+        Node x = doc.createElement("x");
+        x.appendChild(doc.createElement("y"));
+        Nodes.insertBefore(b, x);
+        h.appendChild(doc.createElement("z"));
+        assertSameOrder(index, doc);
+
+        Node d = Nodes.findFirstDescendantNode(doc, "d").get();
+        h.appendChild(b);
+        Nodes.insertBefore(Nodes.findFirstDescendantNode(doc, "f").get(), d);
+        assertSameOrder(index, doc);
+
+        Nodes.deleteNode(x);
+        assertSameOrder(index, doc);
+        index.release();
+    }
+}
@@ -0,0 +1,45 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.odf.modifiers.images.tools.ImageSizeProbe;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImageSizeProbeTest {
+
+    private byte[] createImage(String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        assertThat(ImageIO.write(image, format, os)).isTrue();
+        return os.toByteArray();
+    }
+
+    @Test
+    public void testBitmapFormats() throws IOException {
+        for (String format : new String[]{"png", "jpg", "gif", "bmp", "tiff"}) {
+            assertThat(ImageSizeProbe.probe(createImage(format, 123, 45)))
+                    .as(format).contains(new Pair<>(123.0, 45.0));
+        }
+    }
+
+    @Test
+    public void testSvg() {
+        String withSize = """
+                <?xml version="1.0"?>
+                <svg xmlns="http://www.w3.org/2000/svg" stroke-width="3" width="200px" height="100" viewBox="0 0 20 10"/>
+                """;
+        String withViewBox = """
+                <svg xmlns="http://www.w3.org/2000/svg" width="100%" viewBox="0 0 64.5 32"><rect/></svg>
+                """;
+        assertThat(ImageSizeProbe.probe(withSize.getBytes(StandardCharsets.UTF_8))).contains(new Pair<>(200.0, 100.0));
+        assertThat(ImageSizeProbe.probe(withViewBox.getBytes(StandardCharsets.UTF_8))).contains(new Pair<>(64.5, 32.0));
+        assertThat(ImageSizeProbe.probe("no image".getBytes(StandardCharsets.UTF_8))).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.environment.UnderdocxEnv;
+import org.underdocx.environment.logger.AsyncLogger;
+import org.underdocx.environment.logger.LogLevel;
+import org.underdocx.environment.logger.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoggerTest {
+
+    @Test
+    public void testLevelThreshold() {
+        LogLevel level = UnderdocxEnv.getInstance().logLevel;
+        try {
+            UnderdocxEnv.getInstance().logLevel = LogLevel.WARN;
+            Logger logger = new Logger() {
+            };
+            AtomicInteger built = new AtomicInteger();
+            logger.trace(() -> "trace " + built.incrementAndGet());
+            logger.info(() -> "info " + built.incrementAndGet());
+            assertThat(built.get()).isEqualTo(0);
+            assertThat(logger.isEnabled(LogLevel.INFO)).isFalse();
+            assertThat(logger.isEnabled(LogLevel.ERROR)).isTrue();
+        } finally {
+            UnderdocxEnv.getInstance().logLevel = level;
+        }
+    }
+
+    @Test
+    public void testAsyncLogger() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        try (AsyncLogger logger = new AsyncLogger(4, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8))) {
+            for (int i = 0; i < 100; i++) {
+                int n = i;
+                logger.info(() -> "line " + n);
+            }
+            logger.error("failed");
+            logger.flush();
+            String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+            assertThat(lines).hasSize(100);
+            assertThat(lines[0]).isEqualTo("INFO , line 0");
+            assertThat(lines[99]).isEqualTo("INFO , line 99");
+            assertThat(err.toString(StandardCharsets.UTF_8)).startsWith("ERROR, failed");
+        }
+    }
+
+    @Test
+    public void testAsyncLoggerCloseWhileLogging() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, true, StandardCharsets.UTF_8);
+        AsyncLogger logger = new AsyncLogger(4, stream, stream);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        logger.info("line");
+                    }
+                    logger.flush();
+                }));
+            }
+            logger.close();
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(out.toString(StandardCharsets.UTF_8).split(System.lineSeparator())).hasSize(2000);
+    }
+}
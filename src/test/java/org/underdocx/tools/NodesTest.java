@@ -7,6 +7,7 @@ import org.underdocx.common.tree.Nodes;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +46,49 @@ public class NodesTest extends AbstractTest {
                 readXML("<root><a><b><c></c><d></d><e></e></b><f><b><c></c><d></d><e></e></b></f></a></root>").getFirstChild());
     }
 
+    @Test
+    public void testFindDescendants() {
+        Document doc = readXML("<root><a><a><b/></a></a><b><a/></b><a/></root>");
+        Node root = doc.getFirstChild();
+        List<Node> skipping = Nodes.findDescendantNodes(root, "a", true);
+        assertThat(namesOf(Nodes.findDescendantNodes(root, "a", false))).isEqualTo(listOf("a", "a", "a", "a"));
+        assertThat(skipping.size()).isEqualTo(3);
+        assertThat(Nodes.getDescendants(root, node -> node.getNodeName().equals("a"), true).collect()).isEqualTo(skipping);
+        assertThat(Nodes.findFirstDescendantNode(root, "b").get().getParentNode().getNodeName()).isEqualTo("a");
+        assertThat(Nodes.containsNode(skipping.get(0), skipping.get(1))).isFalse();
+        assertThat(Nodes.containsNode(root, skipping.get(2))).isTrue();
+        Node innerB = Nodes.findFirstDescendantNode(root, "b").get();
+        assertThat(Nodes.findOldestAncestorNode(innerB, node -> node.getNodeName().equals("a")).get()).isSameAs(skipping.get(0));
+    }
+
+    @Test
+    public void testSinkRemovesFoundNodes() {
+        Document doc = readXML("<root><a><b/></a><c><a/></c><a/><d/></root>");
+        Node root = doc.getFirstChild();
+        List<String> visited = new ArrayList<>();
+        Nodes.findDescendantNodes(root, node -> !node.getNodeName().equals("root"), false, node -> {
+            visited.add(node.getNodeName());
+            if (node.getNodeName().equals("a")) {
+                node.getParentNode().removeChild(node);
+            }
+        });
+        assertThat(visited).isEqualTo(listOf("a", "c", "a", "a", "d"));
+        assertEqualTrees(root, readXML("<root><c/><d/></root>").getFirstChild());
+    }
+
+    @Test
+    public void testDeepTree() {
+        Document doc = readXML("<root/>");
+        Node node = doc.getFirstChild();
+        for (int i = 0; i < 50000; i++) {
+            node = node.appendChild(doc.createElement(i % 2 == 0 ? "a" : "b"));
+        }
+        Node leaf = node;
+        assertThat(Nodes.findDescendantNodes(doc.getFirstChild(), "b", false).size()).isEqualTo(25000);
+        assertThat(Nodes.findFirstDescendantNode(doc, n -> n == leaf)).contains(leaf);
+        assertThat(Nodes.findAscendantNode(leaf, "root")).contains(doc.getFirstChild());
+    }
+
     @Test
     public void hallo() {
         System.out.println("hallo ich bin johanna");
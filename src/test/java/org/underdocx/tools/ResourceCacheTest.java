@@ -0,0 +1,36 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.common.cache.ResourceCache;
+import org.underdocx.common.types.Resource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourceCacheTest {
+
+    @Test
+    public void testEntries() throws Exception {
+        ResourceCache cache = new ResourceCache(2, 1000);
+        ResourceCache.Entry a = cache.get(new Resource.DataResource("a".getBytes(), "a.txt"));
+        assertThat(cache.get(new Resource.DataResource("a".getBytes(), "a.txt"))).isSameAs(a);
+        assertThat(cache.get(new Resource.DataResource("changed".getBytes(), "a.txt"))).isNotSameAs(a);
+
+        AtomicInteger parsed = new AtomicInteger();
+        assertThat(a.<String, String>copyTemplate(() -> "template" + parsed.incrementAndGet(), t -> t + "-copy")).isEqualTo("template1-copy");
+        assertThat(a.<String, String>copyTemplate(() -> "template" + parsed.incrementAndGet(), t -> t + "-copy")).isEqualTo("template1-copy");
+
+        cache.get(new Resource.DataResource("b".getBytes(), "b.txt"));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(new Resource.DataResource("a".getBytes(), "a.txt"))).isNotSameAs(a);
+    }
+
+    @Test
+    public void testSizeLimit() throws Exception {
+        ResourceCache cache = new ResourceCache(10, 10);
+        cache.get(new Resource.DataResource("123456".getBytes(), "a"));
+        cache.get(new Resource.DataResource("123456".getBytes(), "b"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
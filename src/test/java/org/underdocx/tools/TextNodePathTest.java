@@ -0,0 +1,56 @@
+package org.underdocx.tools;
+
+import org.junit.jupiter.api.Test;
+import org.underdocx.AbstractTest;
+import org.underdocx.common.tree.Nodes;
+import org.underdocx.common.tree.nodepath.TextNodePath;
+import org.underdocx.common.tree.nodepath.TreeNodeCollector;
+import org.underdocx.doctypes.txt.placeholders.TxtNodeInterpreter;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TextNodePathTest extends AbstractTest {
+
+    private static final String xmlStr = "<p><span>ab</span><span></span><span>cde</span>f<span></span><span>g</span></p>";
+
+    @Test
+    public void testTextPointer() {
+        Document xml = readXML(xmlStr);
+        Node p = Nodes.findFirstDescendantNode(xml, "p").get();
+        List<Node> nodes = new TreeNodeCollector(p, p, null).collect();
+        TextNodePath path = new TextNodePath(nodes, TxtNodeInterpreter.INSTANCE);
+
+        assertThat(path.fetchTextContent()).isEqualTo("abcdefg");
+        assertThat(path.getTextContent()).isEmpty();
+        for (int i = 0; i < 7; i++) {
+            TextNodePath.TextPointer pointer = path.getTextPointer(i);
+            assertThat(path.fetchNodeText(pointer.nodeIndex).charAt(pointer.charIndex)).isEqualTo("abcdefg".charAt(i));
+        }
+        TextNodePath.TextPointer d = path.getTextPointer(3);
+        TextNodePath.TextPointer g = path.getTextPointer(6);
+        assertThat(path.fetchNodeText(d.nodeIndex)).isEqualTo("cde");
+        assertThat(d.charIndex).isEqualTo(1);
+        assertThat(path.fetchText(new TextNodePath.TextRange(d, g))).isEqualTo("defg");
+        assertThat(path.fetchText(new TextNodePath.TextRange(d, d))).isEqualTo("d");
+        assertThat(path.getTextPointer(-1)).isNull();
+        assertThat(new TextNodePath(List.of(), TxtNodeInterpreter.INSTANCE).getTextPointer(0)).isNull();
+    }
+
+    @Test
+    public void testFixedView() {
+        Document xml = readXML(xmlStr);
+        Node p = Nodes.findFirstDescendantNode(xml, "p").get();
+        List<Node> nodes = new ArrayList<>(List.of(p.getFirstChild().getFirstChild()));
+        TextNodePath path = new TextNodePath(nodes, TxtNodeInterpreter.INSTANCE);
+        nodes.add(p.getLastChild());
+
+        assertThat(path.size()).isEqualTo(1);
+        assertThat(path.getNodes()).containsExactly(nodes.get(0));
+        assertThat(path.getTextContent()).contains("ab");
+    }
+}
@@ -2,6 +2,7 @@ package org.underdocx.tools;
 
 import org.underdocx.AbstractTest;
 import org.underdocx.common.tree.Nodes;
+import org.underdocx.common.tree.TreeCursor;
 import org.underdocx.common.tree.TreeWalker;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
@@ -41,4 +42,37 @@ public class TreeWalkerTest extends AbstractTest {
         assertEquals(walker.next(), "a", false);
         assertThat(walker.hasNext()).isFalse();
     }
+
+    @Test
+    public void testCursorMatchesWalker() {
+        String xml = "<r><a><b>x</b><c><d></d>y</c></a><e/><f><g/></f></r>";
+        Document doc = readXML(xml);
+        Node r = Nodes.findFirstDescendantNode(doc, "r").get();
+        Node c = Nodes.findFirstDescendantNode(doc, "c").get();
+        Node f = Nodes.findFirstDescendantNode(doc, "f").get();
+        TreeWalker walker = new TreeWalker(r, r, c);
+        TreeCursor cursor = new TreeCursor(r, r, c);
+        TreeWalker.VisitState shared = null;
+        int step = 0;
+        while (walker.hasNext()) {
+            assertThat(cursor.hasNext()).isTrue();
+            TreeWalker.VisitState state = step % 3 == 2 ? walker.nextSkipChildren() : walker.next();
+            assertThat(step % 3 == 2 ? cursor.nextSkipChildren() : cursor.next()).isTrue();
+            assertThat(cursor.getNode()).isSameAs(state.getNode());
+            assertThat(cursor.isBeginVisit()).isEqualTo(state.isBeginVisit());
+            assertThat(cursor.isValid()).isEqualTo(state.isValid());
+            if (shared != null) {
+                assertThat(cursor.getState()).isSameAs(shared);
+            }
+            shared = cursor.getState();
+            if (step == 4) {
+                walker.jump(f);
+                cursor.jump(f);
+            }
+            step++;
+        }
+        assertThat(cursor.hasNext()).isFalse();
+        assertThat(cursor.next()).isFalse();
+        assertEquals(cursor.getState(), "r", false);
+    }
 }
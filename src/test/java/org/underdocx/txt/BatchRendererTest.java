@@ -0,0 +1,122 @@
+/*
+MIT License
+
+Copyright (c) 2024 Gerald Winter
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+
+package org.underdocx.txt;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.underdocx.common.types.Pair;
+import org.underdocx.doctypes.BatchRenderer;
+import org.underdocx.doctypes.txt.TxtContainer;
+import org.underdocx.doctypes.txt.TxtEngine;
+import org.underdocx.enginelayers.modelengine.data.DataNode;
+import org.underdocx.enginelayers.modelengine.data.simple.MapDataNode;
+import org.underdocx.environment.err.Problem;
+import org.underdocx.environment.err.ProblemException;
+import org.underdocx.environment.err.Problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class BatchRendererTest extends AbstractTxtTest {
+
+    private static final String TEMPLATE = """
+            ${String value:"Invoice"} ${*name}
+            ${For *value:"items", $as:"item"}
+            ${$index}: ${$item}
+            ${EndFor}
+            ${Alias key:"Total", replaceKey:"String", attributes:{value:"END"}}
+            ${Total}
+            """;
+
+    private static DataNode<?> createModel(int i) {
+        return new MapDataNode("{\"name\":\"N" + i + "\", \"items\":[\"A" + i + "\", \"B" + i + "\", \"C" + i + "\"]}");
+    }
+
+    @Test
+    public void testParallelRender() {
+        int count = 40;
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TxtContainer doc = new TxtContainer(TEMPLATE);
+            TxtEngine engine = new TxtEngine();
+            engine.setModel(createModel(i));
+            engine.run(doc);
+            expected.add(doc.getPlainText());
+        }
+
+        TxtEngine engine = new TxtEngine();
+        List<Pair<TxtContainer, DataNode<?>>> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jobs.add(new Pair<>(new TxtContainer(TEMPLATE), createModel(i)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Optional<Problem>> results = new BatchRenderer<>(engine, executor).render(jobs);
+            Assertions.assertThat(results).hasSize(count).allMatch(Optional::isEmpty);
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < count; i++) {
+            TxtContainer doc = jobs.get(i).left;
+            Assertions.assertThat(doc.getPlainText()).isEqualTo(expected.get(i));
+            assertContains(doc, "Invoice N" + i);
+            assertOrder(doc, "0: A" + i, "1: B" + i, "2: C" + i, "END");
+            assertNotContains(doc, "${");
+        }
+    }
+
+    @Test
+    public void testRunStateDoesNotLeak() {
+        TxtEngine engine = new TxtEngine();
+        engine.pushVariable("x", "A");
+        TxtContainer first = new TxtContainer("${Push key:\"x\", value:\"B\"}${$x}");
+        engine.run(first);
+        assertContains(first, "B");
+
+        TxtContainer second = new TxtContainer("${$x}");
+        engine.run(second);
+        assertContains(second, "A");
+        assertNotContains(second, "B");
+        // variables pushed by a run are not visible at the engine afterward
+        Assertions.assertThat(engine.getVariable("x").get().getValue()).isEqualTo("A");
+    }
+
+    @Test
+    public void testFailedRunKeepsProblem() {
+        TxtEngine engine = new TxtEngine() {
+            @Override
+            public Optional<Problem> run(TxtContainer doc, DataNode<?> model) {
+                return Problems.INVALID_VALUE.fireValue("model");
+            }
+        };
+        List<Optional<Problem>> results = new BatchRenderer<>(engine).render(List.of(new Pair<>(new TxtContainer("x"), createModel(0))));
+        Assertions.assertThat(results.get(0)).isPresent();
+        Assertions.assertThat(results.get(0).get().key).isEqualTo(Problems.INVALID_VALUE.getKey());
+        Assertions.assertThat(results.get(0).get().exception).isInstanceOf(ProblemException.class);
+    }
+}